@@ -0,0 +1,5 @@
+module edu.ntnu.iir.bidata {
+  requires edu.ntnu.iir.bidata.laddergame.fx;
+
+  exports edu.ntnu.iir.bidata;
+}
@@ -0,0 +1,81 @@
+package edu.ntnu.iir.bidata.laddergame.benchmark;
+
+import edu.ntnu.iir.bidata.laddergame.model.DiceSource;
+import edu.ntnu.iir.bidata.laddergame.model.Die;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost per face of rolling {@link Die} one roll at a time against drawing faces
+ * from the generator directly and filling buffers with {@link DiceSource}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiceBenchmark {
+  private static final int ROLLS = 4096;
+
+  private Die die;
+  private RandomGenerator random;
+  private DiceSource dice;
+  private int[] faces;
+  private byte[] faceBytes;
+
+  @Setup
+  public void setUp() {
+    die = new Die(42L);
+    // A die in a game always has its view as observer
+    die.addObserver((observable, event) -> { });
+    random = Die.createRandom(42L);
+    dice = new DiceSource(42L);
+    faces = new int[ROLLS];
+    faceBytes = new byte[ROLLS];
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROLLS)
+  public int[] dieRoll() {
+    for (int i = 0; i < ROLLS; i++) {
+      die.roll();
+      faces[i] = die.getLastRoll();
+    }
+    return faces;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROLLS)
+  public int[] generatorNextInt() {
+    for (int i = 0; i < ROLLS; i++) {
+      faces[i] = random.nextInt(1, 7);
+    }
+    return faces;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROLLS)
+  public int[] diceSourceFillInt() {
+    dice.fill(faces);
+    return faces;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROLLS)
+  public byte[] diceSourceFillByte() {
+    dice.fill(faceBytes);
+    return faceBytes;
+  }
+}
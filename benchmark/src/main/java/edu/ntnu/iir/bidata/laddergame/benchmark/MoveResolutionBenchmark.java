@@ -0,0 +1,105 @@
+package edu.ntnu.iir.bidata.laddergame.benchmark;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.JumpTable;
+import edu.ntnu.iir.bidata.laddergame.model.LadderAction;
+import edu.ntnu.iir.bidata.laddergame.model.Player;
+import edu.ntnu.iir.bidata.laddergame.model.Tile;
+import edu.ntnu.iir.bidata.laddergame.model.TileAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares resolving where a move ends: the compiled {@link JumpTable} against looking the tile
+ * up in the tile list and checking its action, and against letting the action move a player.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveResolutionBenchmark {
+  private static final int LANDINGS = 1024;
+
+  @Param({"90", "100000"})
+  private int tiles;
+
+  private Board board;
+  private int[] landings;
+  private Player player;
+
+  @Setup
+  public void setUp() {
+    board = tiles == 90 ? new Board() : createBoard(tiles);
+    SplittableRandom random = new SplittableRandom(42);
+    landings = new int[LANDINGS];
+    for (int i = 0; i < LANDINGS; i++) {
+      landings[i] = random.nextInt(tiles);
+    }
+    player = new Player("Benchmark");
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LANDINGS)
+  public int jumpTable() {
+    int sum = 0;
+    for (int landing : landings) {
+      sum += board.getJumpTable().getDestination(landing);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LANDINGS)
+  public int tileActionLookup() {
+    int sum = 0;
+    for (int landing : landings) {
+      Tile tile = board.getTiles().get(landing);
+      sum += tile.getTileAction() instanceof LadderAction ladder ? ladder.getDestinationTileIndex() : landing;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LANDINGS)
+  public int performAction() {
+    int sum = 0;
+    for (int landing : landings) {
+      player.setPositionIndex(landing);
+      board.getTiles().get(landing).landOn(player);
+      sum += player.getPositionIndex();
+    }
+    return sum;
+  }
+
+  private static Board createBoard(int size) {
+    SplittableRandom random = new SplittableRandom(7);
+    List<Tile> tiles = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      tiles.add(new Tile(i, i % 100, i / 100, new TileAction()));
+    }
+    // About one ladder per ten tiles, half up and half down, none on the start or final tile
+    for (int i = 1; i < size - 1; i++) {
+      if (random.nextInt(10) == 0) {
+        int destination = Math.clamp(i + random.nextInt(-50, 51), 1, size - 2);
+        tiles.get(i).setTileAction(new LadderAction(destination));
+      }
+    }
+    return new Board("Benchmark " + size, "Generated benchmark board", tiles);
+  }
+}
@@ -0,0 +1,113 @@
+package edu.ntnu.iir.bidata.laddergame.analysis;
+
+/**
+ * Exact single-player statistics of a board, computed from its absorbing Markov chain.
+ * Game length is the number of turns one player needs to get from the start tile to the
+ * final tile.
+ */
+public class MarkovAnalysis {
+  private final double expectedTurns;
+  private final double variance;
+  private final double[] lengthDistribution;
+  private final double tailMass;
+
+  MarkovAnalysis(double expectedTurns, double variance, double[] lengthDistribution, double tailMass) {
+    this.expectedTurns = expectedTurns;
+    this.variance = variance;
+    this.lengthDistribution = lengthDistribution;
+    this.tailMass = tailMass;
+  }
+
+  /**
+   * Gets the expected number of turns to finish.
+   *
+   * @return the expected game length, or positive infinity if the final tile may never be reached
+   */
+  public double getExpectedTurns() {
+    return expectedTurns;
+  }
+
+  /**
+   * Gets the variance of the number of turns to finish.
+   *
+   * @return the variance, or positive infinity if the final tile may never be reached
+   */
+  public double getVariance() {
+    return variance;
+  }
+
+  public double getStandardDeviation() {
+    return Math.sqrt(variance);
+  }
+
+  /**
+   * Checks if the final tile is reached with probability 1.
+   *
+   * @return true if every game finishes
+   */
+  public boolean isFinite() {
+    return Double.isFinite(expectedTurns);
+  }
+
+  /**
+   * Gets the probability that the game takes exactly the given number of turns.
+   *
+   * @param turns the number of turns
+   * @return the probability, 0 for lengths beyond the computed distribution
+   */
+  public double getLengthProbability(int turns) {
+    return turns >= 0 && turns < lengthDistribution.length ? lengthDistribution[turns] : 0;
+  }
+
+  /**
+   * Gets the probability that the game is over after at most the given number of turns.
+   *
+   * @param turns the number of turns
+   * @return the cumulative probability
+   */
+  public double getCumulativeProbability(int turns) {
+    double sum = 0;
+    for (int i = 0; i <= Math.min(turns, lengthDistribution.length - 1); i++) {
+      sum += lengthDistribution[i];
+    }
+    return sum;
+  }
+
+  /**
+   * Gets the longest game length the distribution was computed for.
+   *
+   * @return the maximum number of turns in the distribution
+   */
+  public int getMaxTurns() {
+    return lengthDistribution.length - 1;
+  }
+
+  /**
+   * Gets the probability that the game lasts longer than {@link #getMaxTurns()}, i.e. the mass
+   * not covered by the computed distribution.
+   *
+   * @return the remaining probability
+   */
+  public double getTailMass() {
+    return tailMass;
+  }
+
+  /**
+   * Gets a copy of the length distribution, indexed by number of turns.
+   *
+   * @return the probability of each game length
+   */
+  public double[] getLengthDistribution() {
+    return lengthDistribution.clone();
+  }
+
+  @Override
+  public String toString() {
+    return "MarkovAnalysis{" +
+        "expectedTurns=" + expectedTurns +
+        ", variance=" + variance +
+        ", maxTurns=" + getMaxTurns() +
+        ", tailMass=" + tailMass +
+        '}';
+  }
+}
@@ -0,0 +1,460 @@
+package edu.ntnu.iir.bidata.laddergame.analysis;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+/**
+ * Computes exact single-player statistics for a board from its absorbing Markov chain.
+ *
+ * <p>The expected game length and its variance come from the fundamental matrix
+ * {@code N = (I - Q)^-1}: {@code t = N·1} and {@code var = (2N - I)·t - t²}. Both linear systems
+ * are solved by back substitution from the final tile over the sparse {@link TransitionMatrix}.
+ * Ladders leading down make the values at their targets unknowns of a smaller system, which is
+ * solved iteratively with one back substitution per iteration, so it is never stored. Boards with
+ * 100 000+ tiles and thousands of ladders get their expectation and variance in milliseconds.
+ *
+ * <p>The length distribution is found by stepping the start distribution forward one turn at a
+ * time, over the band of tiles that still hold probability. This costs the number of turns times
+ * the width of that band, which is not milliseconds for large boards: a game on a 100 000 tile
+ * board takes tens of thousands of turns, and ladders leading down spread the probability over
+ * the whole board. The distribution is therefore computed up to a turn limit given by the caller,
+ * and {@link MarkovAnalysis#getTailMass()} tells how much probability it does not cover.
+ */
+public class MarkovAnalyzer {
+  private static final Logger LOGGER = Logger.getLogger(MarkovAnalyzer.class.getName());
+
+  /** The length distribution stops when less than this probability mass remains. */
+  public static final double DEFAULT_TAIL_MASS = 1e-12;
+
+  private static final int START_STATE = 0;
+  // Probability small enough to be dropped from the edges of the band without being missed
+  private static final double NEGLIGIBLE_MASS = 1e-30;
+  private static final int INITIAL_TURNS = 1024;
+
+  /**
+   * Analyzes a board.
+   *
+   * @param board the board to analyze
+   * @param maxTurns the longest game length to compute the distribution for, 0 to skip it
+   * @return the analysis
+   * @throws IllegalArgumentException if maxTurns is negative
+   */
+  public MarkovAnalysis analyze(Board board, int maxTurns) {
+    return analyze(TransitionMatrix.fromBoard(board), maxTurns);
+  }
+
+  /**
+   * Analyzes a transition matrix. The length distribution is computed until less than
+   * {@link #DEFAULT_TAIL_MASS} probability is left or maxTurns is reached, whichever comes first.
+   *
+   * @param matrix the transition matrix of the board
+   * @param maxTurns the longest game length to compute the distribution for, 0 to skip it
+   * @return the analysis
+   * @throws IllegalArgumentException if maxTurns is negative
+   */
+  public MarkovAnalysis analyze(TransitionMatrix matrix, int maxTurns) {
+    if (maxTurns < 0) {
+      throw new IllegalArgumentException("Turn limit cannot be negative: " + maxTurns);
+    }
+    int[] transientStates = findTransientStates(matrix);
+
+    double expected;
+    double variance;
+    if (transientStates == null) {
+      expected = Double.POSITIVE_INFINITY;
+      variance = Double.POSITIVE_INFINITY;
+    } else if (transientStates.length == 0) {
+      expected = 0;
+      variance = 0;
+    } else {
+      double[] ones = new double[matrix.getStateCount()];
+      Arrays.fill(ones, 1.0);
+      Solver solver = new Solver(matrix, transientStates);
+      double[] turns = solver.solve(ones);
+      double[] weighted = solver.solve(turns);
+      expected = turns[START_STATE];
+      variance = Math.max(0, 2 * weighted[START_STATE] - expected - expected * expected);
+    }
+
+    return analyzeLength(matrix, maxTurns, expected, variance);
+  }
+
+  /**
+   * Finds the non-final states reachable from the start tile, in descending order.
+   *
+   * @return the transient states, or null if one of them cannot reach the final tile
+   */
+  private int[] findTransientStates(TransitionMatrix matrix) {
+    int stateCount = matrix.getStateCount();
+    int finalState = matrix.getFinalState();
+
+    boolean[] reachable = new boolean[stateCount];
+    int[] queue = new int[stateCount];
+    int head = 0;
+    int tail = 0;
+    reachable[START_STATE] = true;
+    queue[tail++] = START_STATE;
+    while (head < tail) {
+      int state = queue[head++];
+      for (int entry = matrix.getRowStart(state); entry < matrix.getRowStart(state + 1); entry++) {
+        int column = matrix.getColumn(entry);
+        if (!reachable[column]) {
+          reachable[column] = true;
+          queue[tail++] = column;
+        }
+      }
+    }
+
+    // Walk the transitions backwards from the final tile to find the states that can finish
+    int[] reverseStart = new int[stateCount + 1];
+    for (int entry = 0; entry < matrix.getEntryCount(); entry++) {
+      reverseStart[matrix.getColumn(entry) + 1]++;
+    }
+    for (int state = 0; state < stateCount; state++) {
+      reverseStart[state + 1] += reverseStart[state];
+    }
+    int[] reverseColumns = new int[matrix.getEntryCount()];
+    int[] fill = reverseStart.clone();
+    for (int state = 0; state < stateCount; state++) {
+      for (int entry = matrix.getRowStart(state); entry < matrix.getRowStart(state + 1); entry++) {
+        reverseColumns[fill[matrix.getColumn(entry)]++] = state;
+      }
+    }
+    boolean[] canFinish = new boolean[stateCount];
+    head = 0;
+    tail = 0;
+    canFinish[finalState] = true;
+    queue[tail++] = finalState;
+    while (head < tail) {
+      int state = queue[head++];
+      for (int entry = reverseStart[state]; entry < reverseStart[state + 1]; entry++) {
+        int previous = reverseColumns[entry];
+        if (!canFinish[previous]) {
+          canFinish[previous] = true;
+          queue[tail++] = previous;
+        }
+      }
+    }
+
+    int count = 0;
+    for (int state = finalState - 1; state >= 0; state--) {
+      if (reachable[state]) {
+        if (!canFinish[state]) {
+          LOGGER.warning("Tile " + state + " is reachable but the final tile cannot be reached from it");
+          return null;
+        }
+        queue[count++] = state;
+      }
+    }
+    return Arrays.copyOf(queue, count);
+  }
+
+  /**
+   * Solver for {@code (I - Q)·x = b} over the transient states.
+   *
+   * <p>Without transitions backwards the system is upper triangular and one back substitution
+   * from the final tile solves it. Each transition backwards makes the solution depend on the
+   * value at its target. Given values {@code v} at the distinct backwards targets, one back
+   * substitution gives the values {@code c + D·v} they imply, so the target values solve
+   * {@code (I - D)·v = c}. That system is dense but only ever multiplied with, one back
+   * substitution at a time, so it is solved with restarted GMRES instead of being built and
+   * factorized. Every ladder leading down lowers the chance of finishing, so {@code D} is
+   * substochastic and a few dozen iterations are enough even for thousands of targets.
+   */
+  private static final class Solver {
+    private static final int RESTART = 40;
+    private static final int MAX_RESTARTS = 25;
+    private static final double TOLERANCE = 1e-12;
+
+    private final TransitionMatrix matrix;
+    private final int[] transientStates;
+    private final int[] slots;
+    private final int[] targets;
+    // Index of the highest transient state with a transition backwards
+    private final int firstSource;
+
+    Solver(TransitionMatrix matrix, int[] transientStates) {
+      this.matrix = matrix;
+      this.transientStates = transientStates;
+
+      slots = new int[matrix.getStateCount()];
+      Arrays.fill(slots, -1);
+      int[] found = new int[matrix.getStateCount()];
+      int count = 0;
+      int first = transientStates.length;
+      for (int i = 0; i < transientStates.length; i++) {
+        int state = transientStates[i];
+        for (int entry = matrix.getRowStart(state); entry < matrix.getRowStart(state + 1); entry++) {
+          int column = matrix.getColumn(entry);
+          if (column < state) {
+            first = Math.min(first, i);
+            if (slots[column] < 0) {
+              slots[column] = count;
+              found[count++] = column;
+            }
+          }
+        }
+      }
+      targets = Arrays.copyOf(found, count);
+      firstSource = first;
+    }
+
+    double[] solve(double[] b) {
+      double[] x = new double[matrix.getStateCount()];
+      double[] values = new double[targets.length];
+      substitute(b, values, 0, x);
+      if (targets.length > 0) {
+        solveTargets(gather(x), values, x);
+        substitute(b, values, 0, x);
+      }
+      return x;
+    }
+
+    /**
+     * Runs one back substitution, using the given values for the targets of transitions
+     * backwards. States from the given index on are computed, the ones above it are set to 0.
+     */
+    private void substitute(double[] b, double[] targetValues, int first, double[] x) {
+      for (int i = 0; i < first; i++) {
+        x[transientStates[i]] = 0;
+      }
+      for (int i = first; i < transientStates.length; i++) {
+        int state = transientStates[i];
+        double sum = b == null ? 0 : b[state];
+        double stay = 0;
+        for (int entry = matrix.getRowStart(state); entry < matrix.getRowStart(state + 1); entry++) {
+          int column = matrix.getColumn(entry);
+          double probability = matrix.getProbability(entry);
+          if (column == state) {
+            stay += probability;
+          } else if (column > state) {
+            if (column != matrix.getFinalState()) {
+              sum += probability * x[column];
+            }
+          } else {
+            sum += probability * targetValues[slots[column]];
+          }
+        }
+        x[state] = sum / (1 - stay);
+      }
+    }
+
+    private double[] gather(double[] x) {
+      double[] values = new double[targets.length];
+      for (int i = 0; i < targets.length; i++) {
+        values[i] = x[targets[i]];
+      }
+      return values;
+    }
+
+    /**
+     * Computes {@code (I - D)·v}. Without a right hand side the states above the highest tile
+     * leading down are 0, so the back substitution starts there.
+     */
+    private double[] multiply(double[] values, double[] x) {
+      substitute(null, values, firstSource, x);
+
+      double[] result = gather(x);
+      for (int i = 0; i < result.length; i++) {
+        result[i] = values[i] - result[i];
+      }
+      return result;
+    }
+
+    /**
+     * Solves {@code (I - D)·v = c} with restarted GMRES, starting from and updating values.
+     */
+    private void solveTargets(double[] c, double[] values, double[] x) {
+      int size = targets.length;
+      int restart = Math.min(RESTART, size);
+      double[][] basis = new double[restart + 1][];
+      double[][] hessenberg = new double[restart + 1][restart];
+      double[] cosines = new double[restart];
+      double[] sines = new double[restart];
+      double[] residuals = new double[restart + 1];
+      double limit = TOLERANCE * norm(c);
+
+      double previous = Double.POSITIVE_INFINITY;
+      for (int cycle = 0; cycle < MAX_RESTARTS; cycle++) {
+        double[] residual = multiply(values, x);
+        for (int i = 0; i < size; i++) {
+          residual[i] = c[i] - residual[i];
+        }
+        double beta = norm(residual);
+        if (beta <= limit) {
+          return;
+        }
+        if (beta >= previous) {
+          // Rounding in the back substitution keeps the residual from getting any smaller
+          LOGGER.fine(() -> "Values at the backwards targets stopped converging at residual "
+              + beta);
+          return;
+        }
+        previous = beta;
+        basis[0] = scale(residual, 1 / beta);
+        Arrays.fill(residuals, 0);
+        residuals[0] = beta;
+
+        int steps = 0;
+        while (steps < restart) {
+          int j = steps++;
+          double[] w = multiply(basis[j], x);
+          // Modified Gram-Schmidt against the basis so far
+          for (int i = 0; i <= j; i++) {
+            double h = dot(w, basis[i]);
+            hessenberg[i][j] = h;
+            for (int k = 0; k < size; k++) {
+              w[k] -= h * basis[i][k];
+            }
+          }
+          double length = norm(w);
+          basis[j + 1] = length == 0 ? w : scale(w, 1 / length);
+
+          for (int i = 0; i < j; i++) {
+            double upper = hessenberg[i][j];
+            double lower = hessenberg[i + 1][j];
+            hessenberg[i][j] = cosines[i] * upper + sines[i] * lower;
+            hessenberg[i + 1][j] = -sines[i] * upper + cosines[i] * lower;
+          }
+          double diagonal = hessenberg[j][j];
+          double radius = Math.hypot(diagonal, length);
+          cosines[j] = diagonal / radius;
+          sines[j] = length / radius;
+          hessenberg[j][j] = radius;
+          residuals[j + 1] = -sines[j] * residuals[j];
+          residuals[j] = cosines[j] * residuals[j];
+          if (Math.abs(residuals[j + 1]) <= limit || length == 0) {
+            break;
+          }
+        }
+
+        // Back substitution of the rotated Hessenberg system gives the step in the basis
+        double[] y = new double[steps];
+        for (int i = steps - 1; i >= 0; i--) {
+          double sum = residuals[i];
+          for (int k = i + 1; k < steps; k++) {
+            sum -= hessenberg[i][k] * y[k];
+          }
+          y[i] = sum / hessenberg[i][i];
+          for (int k = 0; k < size; k++) {
+            values[k] += y[i] * basis[i][k];
+          }
+        }
+      }
+      LOGGER.warning("Values at the " + size + " backwards targets did not converge after "
+          + MAX_RESTARTS * restart + " iterations");
+    }
+
+    private static double dot(double[] a, double[] b) {
+      double sum = 0;
+      for (int i = 0; i < a.length; i++) {
+        sum += a[i] * b[i];
+      }
+      return sum;
+    }
+
+    private static double norm(double[] a) {
+      return Math.sqrt(dot(a, a));
+    }
+
+    private static double[] scale(double[] a, double factor) {
+      double[] result = new double[a.length];
+      for (int i = 0; i < a.length; i++) {
+        result[i] = a[i] * factor;
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Computes the probability of finishing after exactly each number of turns, until less than
+   * {@link #DEFAULT_TAIL_MASS} is left or the turn limit is reached.
+   *
+   * <p>Only the band of tiles from the lowest to the highest one holding probability is stepped.
+   * Without ladders leading down it moves up the board with the players and stays narrow. Tiles
+   * at its edges holding less than {@value #NEGLIGIBLE_MASS} are dropped, which leaves that mass
+   * in the tail instead of letting the band grow with probabilities too small to matter.
+   */
+  private MarkovAnalysis analyzeLength(TransitionMatrix matrix, int maxTurns, double expected,
+      double variance) {
+    int finalState = matrix.getFinalState();
+    if (finalState == START_STATE) {
+      return new MarkovAnalysis(expected, variance, new double[] {1.0}, 0);
+    }
+    // The lowest and highest tile each tile can move to, not counting the final tile
+    int[] lowest = new int[finalState];
+    int[] highest = new int[finalState];
+    for (int state = 0; state < finalState; state++) {
+      lowest[state] = finalState;
+      highest[state] = -1;
+      for (int entry = matrix.getRowStart(state); entry < matrix.getRowStart(state + 1); entry++) {
+        int column = matrix.getColumn(entry);
+        if (column != finalState) {
+          lowest[state] = Math.min(lowest[state], column);
+          highest[state] = Math.max(highest[state], column);
+        }
+      }
+    }
+
+    double[] distribution = new double[Math.min(maxTurns, INITIAL_TURNS) + 1];
+    // Tiles outside the band are always 0 in both arrays, so neither has to be cleared
+    double[] current = new double[matrix.getStateCount()];
+    double[] next = new double[matrix.getStateCount()];
+    current[START_STATE] = 1.0;
+    int low = START_STATE;
+    int high = START_STATE;
+    double remaining = 1.0;
+    double dropped = 0;
+    int turn = 0;
+    while (turn < maxTurns && low <= high && remaining > DEFAULT_TAIL_MASS) {
+      double absorbed = 0;
+      int nextLow = finalState;
+      int nextHigh = -1;
+      for (int state = low; state <= high; state++) {
+        double mass = current[state];
+        if (mass == 0) {
+          continue;
+        }
+        current[state] = 0;
+        nextLow = Math.min(nextLow, lowest[state]);
+        nextHigh = Math.max(nextHigh, highest[state]);
+        for (int entry = matrix.getRowStart(state); entry < matrix.getRowStart(state + 1);
+            entry++) {
+          int column = matrix.getColumn(entry);
+          if (column == finalState) {
+            absorbed += mass * matrix.getProbability(entry);
+          } else {
+            next[column] += mass * matrix.getProbability(entry);
+          }
+        }
+      }
+      while (nextLow <= nextHigh && next[nextLow] < NEGLIGIBLE_MASS) {
+        dropped += next[nextLow];
+        next[nextLow++] = 0;
+      }
+      while (nextHigh >= nextLow && next[nextHigh] < NEGLIGIBLE_MASS) {
+        dropped += next[nextHigh];
+        next[nextHigh--] = 0;
+      }
+      // Summed rather than subtracted, so the tail keeps its precision far below 1
+      remaining = 0;
+      for (int state = nextLow; state <= nextHigh; state++) {
+        remaining += next[state];
+      }
+
+      turn++;
+      if (turn == distribution.length) {
+        distribution = Arrays.copyOf(distribution, (int) Math.min(maxTurns + 1L, 2L * turn));
+      }
+      distribution[turn] = absorbed;
+      double[] swap = current;
+      current = next;
+      next = swap;
+      low = nextLow;
+      high = nextHigh;
+    }
+    return new MarkovAnalysis(expected, variance, Arrays.copyOf(distribution, turn + 1),
+        remaining + dropped);
+  }
+}
@@ -0,0 +1,174 @@
+package edu.ntnu.iir.bidata.laddergame.analysis;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.JumpTable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Sparse transition matrix of the single-player Markov chain of a board, stored in compressed
+ * sparse row form. State {@code i} is "standing on tile i" and the final tile is absorbing.
+ *
+ * <p>One turn follows the same rules as the game: roll 1-6 with equal probability, a player who
+ * would pass the final tile finishes on it, and ladders are followed through the board's
+ * {@link JumpTable}. Rolls that lead to the same tile are merged into one entry, so a row holds
+ * at most six entries.
+ */
+public final class TransitionMatrix {
+  private static final int FACES = 6;
+
+  private final int stateCount;
+  private final int finalState;
+  private final int[] rowStart;
+  private final int[] columns;
+  private final double[] probabilities;
+
+  private TransitionMatrix(int stateCount, int[] rowStart, int[] columns, double[] probabilities) {
+    this.stateCount = stateCount;
+    this.finalState = stateCount - 1;
+    this.rowStart = rowStart;
+    this.columns = columns;
+    this.probabilities = probabilities;
+  }
+
+  /**
+   * Builds the transition matrix of a board.
+   *
+   * @param board the board
+   * @return the transition matrix
+   * @throws NullPointerException if board is null
+   * @throws IllegalArgumentException if the board has no tiles
+   */
+  public static TransitionMatrix fromBoard(Board board) {
+    Objects.requireNonNull(board, "Board cannot be null");
+    int stateCount = board.getTiles().size();
+    if (stateCount == 0) {
+      throw new IllegalArgumentException("Board has no tiles");
+    }
+    int finalState = stateCount - 1;
+
+    JumpTable jumps = board.getJumpTable();
+
+    int[] rowStart = new int[stateCount + 1];
+    int[] columns = new int[stateCount * FACES];
+    double[] probabilities = new double[stateCount * FACES];
+    int size = 0;
+    for (int state = 0; state < stateCount; state++) {
+      rowStart[state] = size;
+      if (state == finalState) {
+        columns[size] = finalState;
+        probabilities[size++] = 1.0;
+        continue;
+      }
+      int rowEnd = size;
+      for (int roll = 1; roll <= FACES; roll++) {
+        int target = jumps.getDestination(Math.min(state + roll, finalState));
+        int entry = rowStart[state];
+        while (entry < rowEnd && columns[entry] != target) {
+          entry++;
+        }
+        if (entry == rowEnd) {
+          columns[rowEnd] = target;
+          rowEnd++;
+        }
+        probabilities[entry] += 1.0 / FACES;
+      }
+      size = rowEnd;
+    }
+    rowStart[stateCount] = size;
+
+    return new TransitionMatrix(stateCount, rowStart,
+        Arrays.copyOf(columns, size), Arrays.copyOf(probabilities, size));
+  }
+
+  public int getStateCount() {
+    return stateCount;
+  }
+
+  public int getFinalState() {
+    return finalState;
+  }
+
+  /**
+   * Gets the number of non-zero entries.
+   *
+   * @return the number of stored transitions
+   */
+  public int getEntryCount() {
+    return rowStart[stateCount];
+  }
+
+  /**
+   * Gets the first entry of a row. Entries of row {@code state} are in
+   * {@code [getRowStart(state), getRowStart(state + 1))}.
+   *
+   * @param state the state
+   * @return the index of the first entry
+   */
+  public int getRowStart(int state) {
+    return rowStart[state];
+  }
+
+  /**
+   * Gets the target state of an entry.
+   *
+   * @param entry the entry index
+   * @return the state moved to
+   */
+  public int getColumn(int entry) {
+    return columns[entry];
+  }
+
+  /**
+   * Gets the probability of an entry.
+   *
+   * @param entry the entry index
+   * @return the transition probability
+   */
+  public double getProbability(int entry) {
+    return probabilities[entry];
+  }
+
+  /**
+   * Gets the probability of moving from one state to another in one turn.
+   *
+   * @param from the state moved from
+   * @param to the state moved to
+   * @return the transition probability
+   */
+  public double getProbability(int from, int to) {
+    for (int entry = rowStart[from]; entry < rowStart[from + 1]; entry++) {
+      if (columns[entry] == to) {
+        return probabilities[entry];
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Advances a distribution over the transient states by one turn.
+   *
+   * @param current the probability of standing on each tile, the final tile is ignored
+   * @param next receives the distribution after one more turn, the final tile is left at 0
+   * @return the probability mass that reached the final tile during this turn
+   */
+  public double step(double[] current, double[] next) {
+    Arrays.fill(next, 0);
+    double absorbed = 0;
+    for (int state = 0; state < finalState; state++) {
+      double mass = current[state];
+      if (mass == 0) {
+        continue;
+      }
+      for (int entry = rowStart[state]; entry < rowStart[state + 1]; entry++) {
+        int column = columns[entry];
+        if (column == finalState) {
+          absorbed += mass * probabilities[entry];
+        } else {
+          next[column] += mass * probabilities[entry];
+        }
+      }
+    }
+    return absorbed;
+  }
+}
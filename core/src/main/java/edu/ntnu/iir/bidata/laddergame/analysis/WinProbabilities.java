@@ -0,0 +1,69 @@
+package edu.ntnu.iir.bidata.laddergame.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Exact probability of each seat winning a game, i.e. being the first player to reach the final
+ * tile. Seat 0 moves first in every round.
+ */
+public class WinProbabilities {
+  private final long boardHash;
+  private final double[] seatProbabilities;
+  private final double unresolvedMass;
+
+  WinProbabilities(long boardHash, double[] seatProbabilities, double unresolvedMass) {
+    this.boardHash = boardHash;
+    this.seatProbabilities = seatProbabilities;
+    this.unresolvedMass = unresolvedMass;
+  }
+
+  /**
+   * Gets the content hash of the board the probabilities were computed for.
+   *
+   * @return the board content hash
+   */
+  public long getBoardHash() {
+    return boardHash;
+  }
+
+  public int getPlayerCount() {
+    return seatProbabilities.length;
+  }
+
+  /**
+   * Gets the probability that the player in the given seat wins.
+   *
+   * @param seat the seat index, 0 for the player who moves first
+   * @return the win probability
+   */
+  public double getWinProbability(int seat) {
+    return seatProbabilities[seat];
+  }
+
+  /**
+   * Gets a copy of the win probability of every seat.
+   *
+   * @return the win probabilities, indexed by seat
+   */
+  public double[] getWinProbabilities() {
+    return seatProbabilities.clone();
+  }
+
+  /**
+   * Gets the probability that is not assigned to any seat: games that outlast the computed
+   * length distribution, or that never finish because the final tile may be unreachable.
+   *
+   * @return the probability of no known winner
+   */
+  public double getUnresolvedMass() {
+    return unresolvedMass;
+  }
+
+  @Override
+  public String toString() {
+    return "WinProbabilities{" +
+        "seats=" + Arrays.toString(seatProbabilities) +
+        ", unresolvedMass=" + unresolvedMass +
+        '}';
+  }
+}
@@ -0,0 +1,173 @@
+package edu.ntnu.iir.bidata.laddergame.analysis;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Computes the exact probability of each seat winning a multi-player game on a board.
+ *
+ * <p>Players do not affect each other, so every player needs an independent number of turns
+ * {@code T} drawn from the single-player length distribution of the board. Turns rotate from
+ * seat 0 and nobody is skipped before the first player finishes, so seat {@code k} wins after
+ * {@code t} turns when every seat before it needs more than {@code t} turns and every seat after
+ * it needs at least {@code t}:
+ * {@code P(k) = sum over t of P(T = t) · P(T > t)^k · P(T >= t)^(players - 1 - k)}.
+ *
+ * <p>The first player is still unknown after {@code t} turns with probability
+ * {@code P(T > t)^players}, so the length distribution is only stepped until that is below
+ * {@link MarkovAnalyzer#DEFAULT_TAIL_MASS} for two players, far fewer turns than a single player
+ * needs. The results for every player count are computed from the same distribution and cached
+ * together by {@link Board#getContentHash()}.
+ */
+public class WinProbabilityCalculator {
+  private static final Logger LOGGER = Logger.getLogger(WinProbabilityCalculator.class.getName());
+
+  public static final int MIN_PLAYERS = 2;
+  public static final int MAX_PLAYERS = 8;
+  /** Longest game length the finishing turns of a player are computed for. */
+  public static final int MAX_TURNS = 10_000;
+  /** Number of boards whose results are kept. */
+  public static final int DEFAULT_CACHE_SIZE = 32;
+
+  private final Map<Long, WinProbabilities[]> cache;
+
+  /**
+   * Creates a calculator caching the results of up to {@link #DEFAULT_CACHE_SIZE} boards.
+   */
+  public WinProbabilityCalculator() {
+    this(DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Creates a calculator.
+   *
+   * @param cacheSize the number of boards to keep results for, least recently used first out
+   * @throws IllegalArgumentException if cacheSize is negative
+   */
+  public WinProbabilityCalculator(int cacheSize) {
+    if (cacheSize < 0) {
+      throw new IllegalArgumentException("Cache size cannot be negative: " + cacheSize);
+    }
+    this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, WinProbabilities[]> eldest) {
+        return size() > cacheSize;
+      }
+    };
+  }
+
+  /**
+   * Gets the win probability of every seat for a game with the given number of players.
+   *
+   * @param board the board
+   * @param players the number of players
+   * @return the win probabilities
+   * @throws NullPointerException if board is null
+   * @throws IllegalArgumentException if players is outside {@link #MIN_PLAYERS} to
+   *     {@link #MAX_PLAYERS}, or the board has no tiles
+   */
+  public WinProbabilities calculate(Board board, int players) {
+    Objects.requireNonNull(board, "Board cannot be null");
+    if (players < MIN_PLAYERS || players > MAX_PLAYERS) {
+      throw new IllegalArgumentException(
+          "Player count must be between " + MIN_PLAYERS + " and " + MAX_PLAYERS + ": " + players);
+    }
+    long hash = board.getContentHash();
+    WinProbabilities[] results;
+    synchronized (cache) {
+      results = cache.get(hash);
+    }
+    if (results == null) {
+      results = calculateAll(hash, TransitionMatrix.fromBoard(board));
+      synchronized (cache) {
+        cache.put(hash, results);
+      }
+    }
+    return results[players - MIN_PLAYERS];
+  }
+
+  /**
+   * Removes all cached results.
+   */
+  public void clearCache() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+  private WinProbabilities[] calculateAll(long hash, TransitionMatrix matrix) {
+    long start = System.nanoTime();
+    double[] finishing = new double[MAX_TURNS + 1];
+    int maxTurns = computeFinishingTurns(matrix, finishing);
+
+    // survival[t] = P(T > t), summed from the tail so small probabilities keep their precision
+    double[] survival = new double[maxTurns + 1];
+    double finished = 0;
+    for (int t = 0; t <= maxTurns; t++) {
+      finished += finishing[t];
+    }
+    survival[maxTurns] = Math.max(0, 1 - finished);
+    for (int t = maxTurns - 1; t >= 0; t--) {
+      survival[t] = survival[t + 1] + finishing[t + 1];
+    }
+
+    WinProbabilities[] results = new WinProbabilities[MAX_PLAYERS - MIN_PLAYERS + 1];
+    for (int players = MIN_PLAYERS; players <= MAX_PLAYERS; players++) {
+      double[] seats = new double[players];
+      for (int t = 0; t <= maxTurns; t++) {
+        double finish = finishing[t];
+        if (finish == 0) {
+          continue;
+        }
+        double later = survival[t];
+        double notEarlier = t == 0 ? 1 : survival[t - 1];
+        // Seat k: k earlier seats must need more turns, the rest at least as many
+        double term = finish * Math.pow(notEarlier, players - 1);
+        for (int seat = 0; seat < players; seat++) {
+          seats[seat] += term;
+          term = notEarlier == 0 ? 0 : term * later / notEarlier;
+        }
+      }
+      double total = 0;
+      for (double probability : seats) {
+        total += probability;
+      }
+      results[players - MIN_PLAYERS] = new WinProbabilities(hash, seats, Math.max(0, 1 - total));
+    }
+    LOGGER.fine(() -> "Computed win probabilities for board " + Long.toHexString(hash) + " over "
+        + maxTurns + " turns in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    return results;
+  }
+
+  /**
+   * Fills in the probability of one player finishing after exactly each number of turns, until
+   * two players would both still be running with less than {@link MarkovAnalyzer#DEFAULT_TAIL_MASS}
+   * probability.
+   *
+   * @return the last turn filled in
+   */
+  private int computeFinishingTurns(TransitionMatrix matrix, double[] finishing) {
+    if (matrix.getFinalState() == 0) {
+      finishing[0] = 1.0;
+      return 0;
+    }
+    double[] current = new double[matrix.getStateCount()];
+    double[] next = new double[matrix.getStateCount()];
+    current[0] = 1.0;
+    double remaining = 1.0;
+    int turn = 0;
+    while (turn < finishing.length - 1 && remaining * remaining > MarkovAnalyzer.DEFAULT_TAIL_MASS) {
+      turn++;
+      double absorbed = matrix.step(current, next);
+      finishing[turn] = absorbed;
+      remaining -= absorbed;
+      double[] swap = current;
+      current = next;
+      next = swap;
+    }
+    return turn;
+  }
+}
@@ -0,0 +1,482 @@
+package edu.ntnu.iir.bidata.laddergame.engine;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.BoardSnapshot;
+import edu.ntnu.iir.bidata.laddergame.model.Die;
+import edu.ntnu.iir.bidata.laddergame.model.JumpTable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Headless turn engine for the ladder game.
+ *
+ * <p>The engine owns the complete game state (board, player positions, die, ranks and turn order)
+ * in primitive form and resolves a full turn in a single call. It does not depend on JavaFX and
+ * does not allocate while playing turns, so it can be used for servers, bots and batch
+ * simulations as well as behind the animated {@code BoardGameController}.
+ *
+ * <p>An engine can be created for a {@link BoardSnapshot} instead of a board. The snapshot is
+ * immutable, so any number of engines on any number of threads can share it, and hosting many
+ * games on one board costs one snapshot instead of one board per game.
+ *
+ * <p>Players are identified by their seat index (0 to {@code playerCount - 1}). The outcome of the
+ * most recent turn is available through the {@code getLast...} accessors.
+ */
+public class GameEngine {
+  private static final int MIN_FACE = 1;
+  private static final int MAX_FACE = 6;
+
+  /** The states a game can be in between turns. */
+  public enum GameState { WAITING_FOR_PLAYERS, READY_TO_START, WAITING_FOR_TURN, GAME_OVER }
+
+  private Board board;
+  private BoardSnapshot snapshot;
+  private int finalPosition;
+  private RandomGenerator random;
+
+  private int[] positions;
+  private int[] ranks;
+  private int rankCount;
+  private int currentPlayerIndex;
+  private GameState gameState;
+
+  private int lastPlayerIndex;
+  private int lastRoll;
+  private int lastFromPosition;
+  private int lastLandingPosition;
+  private int lastPosition;
+
+  /**
+   * Creates an engine for the given board with no players.
+   *
+   * @param board the game board
+   * @throws NullPointerException if board is null
+   */
+  public GameEngine(Board board) {
+    this(board, 0, Die.createRandom(ThreadLocalRandom.current().nextLong()));
+  }
+
+  /**
+   * Creates an engine for the given board and number of players, all placed on the start tile.
+   *
+   * @param board the game board
+   * @param playerCount the number of players
+   * @param random the random generator used for die rolls
+   * @throws NullPointerException if board or random is null
+   * @throws IllegalArgumentException if playerCount is negative
+   */
+  public GameEngine(Board board, int playerCount, RandomGenerator random) {
+    this.random = Objects.requireNonNull(random, "Random generator cannot be null");
+    setBoard(board);
+    setPlayerCount(playerCount);
+  }
+
+  /**
+   * Creates an engine for a shared board snapshot and number of players, all placed on the start
+   * tile.
+   *
+   * @param snapshot the board snapshot, may be shared with other engines
+   * @param playerCount the number of players
+   * @param random the random generator used for die rolls
+   * @throws NullPointerException if snapshot or random is null
+   * @throws IllegalArgumentException if playerCount is negative
+   */
+  public GameEngine(BoardSnapshot snapshot, int playerCount, RandomGenerator random) {
+    this.random = Objects.requireNonNull(random, "Random generator cannot be null");
+    setBoard(snapshot);
+    setPlayerCount(playerCount);
+  }
+
+  /**
+   * Replaces the random generator used for die rolls, e.g. to replay a game from its seed.
+   *
+   * @param random the random generator
+   * @throws NullPointerException if random is null
+   */
+  public void setRandom(RandomGenerator random) {
+    this.random = Objects.requireNonNull(random, "Random generator cannot be null");
+  }
+
+  /**
+   * Gets the game board. For an engine created from a snapshot, a frozen board is created from
+   * the snapshot on the first call.
+   *
+   * @return the board
+   */
+  public Board getBoard() {
+    if (board == null) {
+      board = snapshot.toBoard();
+    }
+    return board;
+  }
+
+  /**
+   * Gets the immutable snapshot of the game board.
+   *
+   * @return the snapshot
+   */
+  public BoardSnapshot getSnapshot() {
+    return snapshot != null ? snapshot : board.getSnapshot();
+  }
+
+  /**
+   * Sets the game board. Player positions are kept as they are.
+   *
+   * @param board the board to set
+   * @throws NullPointerException if board is null
+   */
+  public void setBoard(Board board) {
+    this.board = Objects.requireNonNull(board, "Board cannot be null");
+    this.snapshot = null;
+    this.finalPosition = board.getTiles().size() - 1;
+  }
+
+  /**
+   * Sets the game board to a shared snapshot. Player positions are kept as they are.
+   *
+   * @param snapshot the board snapshot to set
+   * @throws NullPointerException if snapshot is null
+   */
+  public void setBoard(BoardSnapshot snapshot) {
+    this.snapshot = Objects.requireNonNull(snapshot, "Board snapshot cannot be null");
+    this.board = null;
+    this.finalPosition = snapshot.getFinalPosition();
+  }
+
+  /**
+   * Gets the index of the final tile. A player on or past this tile has finished.
+   *
+   * @return the final position
+   */
+  public int getFinalPosition() {
+    return finalPosition;
+  }
+
+  /**
+   * Sets the number of players and resets the game with every player on the start tile.
+   *
+   * @param playerCount the number of players
+   * @throws IllegalArgumentException if playerCount is negative
+   */
+  public void setPlayerCount(int playerCount) {
+    if (playerCount < 0) {
+      throw new IllegalArgumentException("Player count cannot be negative: " + playerCount);
+    }
+    this.positions = new int[playerCount];
+    this.ranks = new int[playerCount];
+    reset();
+  }
+
+  /**
+   * Gets the number of players.
+   *
+   * @return the number of players
+   */
+  public int getPlayerCount() {
+    return positions.length;
+  }
+
+  /**
+   * Resets the game to its initial state with every player on the start tile.
+   */
+  public void reset() {
+    Arrays.fill(positions, 0);
+    rankCount = 0;
+    currentPlayerIndex = 0;
+    gameState = positions.length == 0 ? GameState.WAITING_FOR_PLAYERS : GameState.READY_TO_START;
+    lastPlayerIndex = -1;
+    lastRoll = 0;
+    lastFromPosition = 0;
+    lastLandingPosition = 0;
+    lastPosition = 0;
+  }
+
+  /**
+   * Gets the position of a player.
+   *
+   * @param playerIndex the seat index of the player
+   * @return the tile index the player stands on
+   */
+  public int getPosition(int playerIndex) {
+    return positions[playerIndex];
+  }
+
+  /**
+   * Places a player on a tile without playing a turn, e.g. when restoring a saved game.
+   *
+   * @param playerIndex the seat index of the player
+   * @param position the tile index
+   */
+  public void setPosition(int playerIndex, int position) {
+    positions[playerIndex] = position;
+  }
+
+  /**
+   * Gets the current player index.
+   *
+   * @return the current player index, or -1 when the game is over
+   */
+  public int getCurrentPlayerIndex() {
+    return currentPlayerIndex;
+  }
+
+  /**
+   * Sets the current player index.
+   *
+   * @param currentPlayerIndex the index to set
+   * @throws IllegalArgumentException if index is invalid
+   */
+  public void setCurrentPlayerIndex(int currentPlayerIndex) {
+    if (currentPlayerIndex < 0 || (positions.length > 0 && currentPlayerIndex >= positions.length)) {
+      throw new IllegalArgumentException("Invalid player index: " + currentPlayerIndex);
+    }
+    this.currentPlayerIndex = currentPlayerIndex;
+  }
+
+  /**
+   * Gets the current game state.
+   *
+   * @return the game state
+   */
+  public GameState getGameState() {
+    return gameState;
+  }
+
+  /**
+   * Gets the number of players that have finished.
+   *
+   * @return the number of ranked players
+   */
+  public int getRankCount() {
+    return rankCount;
+  }
+
+  /**
+   * Gets the player that finished at the given rank.
+   *
+   * @param rank the zero-based rank
+   * @return the seat index of the player
+   * @throws IndexOutOfBoundsException if no player holds that rank yet
+   */
+  public int getRankedPlayer(int rank) {
+    Objects.checkIndex(rank, rankCount);
+    return ranks[rank];
+  }
+
+  /**
+   * Removes all ranks, e.g. before restoring them from a saved game.
+   */
+  public void clearRanks() {
+    rankCount = 0;
+  }
+
+  /**
+   * Appends a player to the ranks if the player is not already ranked.
+   *
+   * @param playerIndex the seat index of the player
+   */
+  public void addRank(int playerIndex) {
+    Objects.checkIndex(playerIndex, positions.length);
+    if (!isRanked(playerIndex)) {
+      ranks[rankCount++] = playerIndex;
+    }
+  }
+
+  /**
+   * Checks if a player has been ranked.
+   *
+   * @param playerIndex the seat index of the player
+   * @return true if the player has finished and holds a rank
+   */
+  public boolean isRanked(int playerIndex) {
+    for (int i = 0; i < rankCount; i++) {
+      if (ranks[i] == playerIndex) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks if the game is over, i.e. every player has reached the final tile.
+   *
+   * @return true if the game is over
+   */
+  public boolean isGameOver() {
+    if (gameState == GameState.GAME_OVER || areAllPlayersFinished()) {
+      gameState = GameState.GAME_OVER;
+      currentPlayerIndex = -1;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Rolls the die for the current player and resolves the turn.
+   *
+   * @return the seat index of the player that moved, or -1 if no turn could be played
+   */
+  public int playTurn() {
+    return playTurn(random.nextInt(MIN_FACE, MAX_FACE + 1));
+  }
+
+  /**
+   * Resolves a full turn for the current player with an already rolled die value: the player
+   * moves, tile effects are applied, ranks are updated and the turn passes to the next player.
+   * A player who would pass the final tile finishes on it. Ladders are resolved through the
+   * {@link edu.ntnu.iir.bidata.laddergame.model.JumpTable} of the board, so chained ladders are
+   * followed to the end.
+   *
+   * @param roll the die value
+   * @return the seat index of the player that moved, or -1 if no turn could be played
+   * @throws IllegalArgumentException if the roll is not a valid die face
+   */
+  public int playTurn(int roll) {
+    if (roll < MIN_FACE || roll > MAX_FACE) {
+      throw new IllegalArgumentException("Die face must be between " + MIN_FACE + " and " + MAX_FACE);
+    }
+    if (positions.length == 0 || isGameOver()) {
+      return -1;
+    }
+    skipFinishedPlayers();
+    if (currentPlayerIndex < 0) {
+      return -1;
+    }
+
+    int playerIndex = currentPlayerIndex;
+    int from = positions[playerIndex];
+    int landing = Math.min(from + roll, finalPosition);
+    int to = resolveTileEffects(landing);
+
+    positions[playerIndex] = to;
+    if (to >= finalPosition) {
+      addRank(playerIndex);
+    }
+
+    lastPlayerIndex = playerIndex;
+    lastRoll = roll;
+    lastFromPosition = from;
+    lastLandingPosition = landing;
+    lastPosition = to;
+
+    advanceToNextPlayer();
+    return playerIndex;
+  }
+
+  /**
+   * Plays turns until the game is over or the turn limit is reached.
+   *
+   * @param maxTurns the maximum number of turns to play
+   * @return the number of turns played
+   */
+  public int playToEnd(int maxTurns) {
+    int turns = 0;
+    while (turns < maxTurns && playTurn() >= 0) {
+      turns++;
+    }
+    return turns;
+  }
+
+  private int resolveTileEffects(int position) {
+    // A board can still change unless it is frozen, so its jump table is looked up every move
+    JumpTable jumpTable = snapshot != null ? snapshot.getJumpTable() : board.getJumpTable();
+    return jumpTable.getDestination(position);
+  }
+
+  private boolean areAllPlayersFinished() {
+    if (positions.length == 0 || finalPosition < 0) {
+      return false;
+    }
+    for (int position : positions) {
+      if (position < finalPosition) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Advances the current player index to skip players who have already finished.
+   */
+  private void skipFinishedPlayers() {
+    int attempts = 0;
+    while (currentPlayerIndex >= 0 && currentPlayerIndex < positions.length
+        && positions[currentPlayerIndex] >= finalPosition) {
+      currentPlayerIndex = (currentPlayerIndex + 1) % positions.length;
+      attempts++;
+      if (attempts >= positions.length) {
+        currentPlayerIndex = -1;
+        gameState = GameState.GAME_OVER;
+        break;
+      }
+    }
+  }
+
+  private void advanceToNextPlayer() {
+    currentPlayerIndex = (currentPlayerIndex + 1) % positions.length;
+    if (areAllPlayersFinished()) {
+      currentPlayerIndex = -1;
+      gameState = GameState.GAME_OVER;
+    } else {
+      skipFinishedPlayers();
+      gameState = GameState.WAITING_FOR_TURN;
+    }
+  }
+
+  /**
+   * Gets the seat index of the player that moved in the most recent turn.
+   *
+   * @return the player index, or -1 if no turn has been played
+   */
+  public int getLastPlayerIndex() {
+    return lastPlayerIndex;
+  }
+
+  /**
+   * Gets the die value of the most recent turn.
+   *
+   * @return the die value
+   */
+  public int getLastRoll() {
+    return lastRoll;
+  }
+
+  /**
+   * Gets the position the player started the most recent turn on.
+   *
+   * @return the starting tile index
+   */
+  public int getLastFromPosition() {
+    return lastFromPosition;
+  }
+
+  /**
+   * Gets the tile the player landed on in the most recent turn, before tile effects.
+   *
+   * @return the landing tile index
+   */
+  public int getLastLandingPosition() {
+    return lastLandingPosition;
+  }
+
+  /**
+   * Gets the position the player ended the most recent turn on, after tile effects.
+   *
+   * @return the final tile index of the turn
+   */
+  public int getLastPosition() {
+    return lastPosition;
+  }
+
+  @Override
+  public String toString() {
+    return "GameEngine{" +
+        "board=" + getSnapshot().getBoardName() +
+        ", positions=" + Arrays.toString(positions) +
+        ", currentPlayerIndex=" + currentPlayerIndex +
+        ", gameState=" + gameState +
+        '}';
+  }
+}
@@ -0,0 +1,103 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes files by writing a temporary file next to the target and moving it into place, so
+ * readers see either the old or the new file and never a half written one.
+ */
+public final class AtomicFiles {
+  private static final Logger LOGGER = Logger.getLogger(AtomicFiles.class.getName());
+
+  /** Size of the character buffer in front of the channel for text files. */
+  public static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * Writes the content of a file to an open channel.
+   */
+  @FunctionalInterface
+  public interface ChannelContent {
+    void writeTo(FileChannel channel) throws IOException;
+  }
+
+  /**
+   * Writes the content of a text file to a writer.
+   */
+  @FunctionalInterface
+  public interface TextContent {
+    void writeTo(Writer writer) throws IOException;
+  }
+
+  private AtomicFiles() {
+  }
+
+  /**
+   * Replaces a file with the content written to a channel. The content is forced to disk before
+   * the file is moved into place. If writing fails, the target is left untouched.
+   *
+   * @param target the file to write
+   * @param content writes the content to the channel of the temporary file
+   * @throws IOException if the content could not be written or moved into place
+   */
+  public static void write(Path target, ChannelContent content) throws IOException {
+    Path absolute = target.toAbsolutePath();
+    Path directory = absolute.getParent();
+    Files.createDirectories(directory);
+    // Not Files.createTempFile, which would make the file readable by the owner only
+    Path temp = directory.resolve("." + absolute.getFileName() + "."
+        + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + ".tmp");
+    try {
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+          StandardOpenOption.CREATE_NEW)) {
+        content.writeTo(channel);
+        channel.force(false);
+      }
+      move(temp, absolute);
+    } catch (IOException | RuntimeException e) {
+      try {
+        Files.deleteIfExists(temp);
+      } catch (IOException suppressed) {
+        e.addSuppressed(suppressed);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Replaces a text file with the content written to a buffered UTF-8 writer.
+   *
+   * @param target the file to write
+   * @param content writes the text, the writer is flushed afterwards
+   * @throws IOException if the content could not be written or moved into place
+   */
+  public static void writeText(Path target, TextContent content) throws IOException {
+    write(target, channel -> {
+      // Not closed here, closing would close the channel before it is forced to disk
+      Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), BUFFER_SIZE);
+      content.writeTo(writer);
+      writer.flush();
+    });
+  }
+
+  private static void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      LOGGER.log(Level.FINE, "Atomic move not supported, replacing " + target + " directly", e);
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
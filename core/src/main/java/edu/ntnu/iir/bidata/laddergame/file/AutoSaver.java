@@ -0,0 +1,265 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Saves a game in the background every few turns or seconds of play, to a single save file in
+ * the format of {@link GameSaveCodec}.
+ *
+ * <p>{@link #turnPlayed()} is called after every turn. When enough turns have been played, or
+ * enough time has passed, since the last snapshot, a new snapshot of the game is taken on the
+ * calling thread and handed to the writer thread. Turns played since the last snapshot are not
+ * saved yet, so a deadline is also set at the end of the time interval: if no turn takes the
+ * snapshot before then, it is taken on the thread playing the turns when the deadline passes,
+ * even if the game is left idle.
+ *
+ * <p>Snapshots are not queued: the writer only ever writes the newest one, and a snapshot taken
+ * while an older one is still waiting replaces it. The writer also waits at least the minimum
+ * write interval between two writes, so the number of writes is bounded by the play time, no
+ * matter how fast turns are played. Each write replaces the file atomically, so a crash during a
+ * write leaves the previous save intact.
+ */
+public class AutoSaver implements Closeable {
+  private static final Logger LOGGER = Logger.getLogger(AutoSaver.class.getName());
+
+  /** Number of turns between snapshots by default. */
+  public static final int DEFAULT_TURN_INTERVAL = 10;
+  /** Time between snapshots by default. */
+  public static final Duration DEFAULT_TIME_INTERVAL = Duration.ofSeconds(30);
+  /** Minimum time between two writes by default. */
+  public static final Duration DEFAULT_MIN_WRITE_INTERVAL = Duration.ofSeconds(2);
+
+  private final Path target;
+  private final SaveCatalog catalog;
+  private final Supplier<GameSave> snapshots;
+  private final Executor gameThread;
+  private final int turnInterval;
+  private final long timeIntervalNanos;
+  private final long minWriteIntervalNanos;
+  private final ScheduledThreadPoolExecutor writer;
+  // The newest snapshot not written yet
+  private final AtomicReference<GameSave> pending = new AtomicReference<>();
+  private final AtomicInteger writeCount = new AtomicInteger();
+  // Only used by the thread playing the turns
+  private int turnsSinceSnapshot;
+  private long lastSnapshotNanos;
+  private int snapshotCount;
+  private ScheduledFuture<?> deadline;
+  // Only used by the writer thread
+  private long lastWriteNanos;
+
+  /**
+   * Creates an auto saver with the default intervals.
+   *
+   * @param target the save file, replaced by every write
+   * @param catalog the catalog to record the save in, or null
+   * @param snapshots takes a snapshot of the game, called on the thread playing the turns
+   * @param gameThread runs tasks on the thread playing the turns
+   */
+  public AutoSaver(Path target, SaveCatalog catalog, Supplier<GameSave> snapshots,
+      Executor gameThread) {
+    this(target, catalog, snapshots, gameThread, DEFAULT_TURN_INTERVAL, DEFAULT_TIME_INTERVAL,
+        DEFAULT_MIN_WRITE_INTERVAL);
+  }
+
+  /**
+   * Creates an auto saver.
+   *
+   * @param target the save file, replaced by every write
+   * @param catalog the catalog to record the save in, or null
+   * @param snapshots takes a snapshot of the game, called on the thread playing the turns
+   * @param gameThread runs tasks on the thread playing the turns
+   * @param turnInterval the number of turns between snapshots
+   * @param timeInterval the time between snapshots, if fewer turns were played in it
+   * @param minWriteInterval the minimum time between two writes
+   * @throws IllegalArgumentException if the turn interval is less than 1 or a time is negative
+   */
+  public AutoSaver(Path target, SaveCatalog catalog, Supplier<GameSave> snapshots,
+      Executor gameThread, int turnInterval, Duration timeInterval, Duration minWriteInterval) {
+    if (turnInterval < 1) {
+      throw new IllegalArgumentException("Turn interval must be at least 1: " + turnInterval);
+    }
+    if (timeInterval.isNegative() || minWriteInterval.isNegative()) {
+      throw new IllegalArgumentException("Intervals cannot be negative");
+    }
+    this.target = Objects.requireNonNull(target, "Target cannot be null");
+    this.catalog = catalog;
+    this.snapshots = Objects.requireNonNull(snapshots, "Snapshots cannot be null");
+    this.gameThread = Objects.requireNonNull(gameThread, "Game thread cannot be null");
+    this.turnInterval = turnInterval;
+    this.timeIntervalNanos = timeInterval.toNanos();
+    this.minWriteIntervalNanos = minWriteInterval.toNanos();
+    this.lastSnapshotNanos = System.nanoTime();
+    this.lastWriteNanos = System.nanoTime() - minWriteIntervalNanos;
+    this.writer = new ScheduledThreadPoolExecutor(1, task -> {
+      Thread thread = new Thread(task, "auto-saver");
+      thread.setDaemon(true);
+      return thread;
+    });
+    // A waiting write is done by close() instead, and a closed saver takes no more snapshots
+    writer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+  }
+
+  public Path getTarget() {
+    return target;
+  }
+
+  /**
+   * Gets the number of saves written so far.
+   *
+   * @return the write count
+   */
+  public int getWriteCount() {
+    return writeCount.get();
+  }
+
+  /**
+   * Records a played turn, taking a snapshot of the game if one is due. Does nothing once the
+   * auto saver is closed.
+   */
+  public void turnPlayed() {
+    if (writer.isShutdown()) {
+      return;
+    }
+    turnsSinceSnapshot++;
+    long now = System.nanoTime();
+    if (turnsSinceSnapshot < turnInterval && now - lastSnapshotNanos < timeIntervalNanos) {
+      if (deadline == null) {
+        scheduleDeadline(lastSnapshotNanos + timeIntervalNanos - now);
+      }
+      return;
+    }
+    takeSnapshot(now);
+  }
+
+  private void takeSnapshot(long now) {
+    turnsSinceSnapshot = 0;
+    lastSnapshotNanos = now;
+    snapshotCount++;
+    if (deadline != null) {
+      deadline.cancel(false);
+      deadline = null;
+    }
+    save(snapshots.get());
+  }
+
+  private void scheduleDeadline(long delayNanos) {
+    int snapshot = snapshotCount;
+    try {
+      deadline = writer.schedule(() -> gameThread.execute(() -> deadlinePassed(snapshot)),
+          delayNanos, TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException e) {
+      // Closed, the remaining turns are not saved
+      deadline = null;
+    }
+  }
+
+  /**
+   * Takes the snapshot of the turns played since the last one, once the time interval has
+   * passed. Runs on the thread playing the turns.
+   *
+   * @param snapshot the number of snapshots taken when the deadline was set
+   */
+  private void deadlinePassed(int snapshot) {
+    if (snapshot != snapshotCount) {
+      // A turn took the snapshot after this deadline had already fired
+      return;
+    }
+    deadline = null;
+    if (turnsSinceSnapshot == 0 || writer.isShutdown()) {
+      return;
+    }
+    long now = System.nanoTime();
+    long wait = lastSnapshotNanos + timeIntervalNanos - now;
+    if (wait > 0) {
+      scheduleDeadline(wait);
+    } else {
+      takeSnapshot(now);
+    }
+  }
+
+  /**
+   * Hands a snapshot to the writer, replacing any snapshot that is still waiting. Does nothing
+   * once the auto saver is closed.
+   *
+   * @param save the snapshot
+   */
+  public void save(GameSave save) {
+    Objects.requireNonNull(save, "Save cannot be null");
+    if (writer.isShutdown()) {
+      return;
+    }
+    if (pending.getAndSet(save) == null) {
+      // Otherwise a write is already waiting and will take the new snapshot
+      try {
+        writer.execute(this::writeWhenDue);
+      } catch (RejectedExecutionException e) {
+        // Closed in the meantime, close() writes the snapshot if it saw it in time
+        LOGGER.fine("Auto saver closed, not saving " + target);
+      }
+    }
+  }
+
+  /**
+   * Writes the waiting snapshot, if any, without waiting for the minimum write interval.
+   *
+   * @return completes when the snapshot is written
+   */
+  public CompletableFuture<Void> flush() {
+    return CompletableFuture.runAsync(this::writePending, writer);
+  }
+
+  /**
+   * Writes the waiting snapshot, if any, and stops the writer. Does not wait for the write.
+   */
+  @Override
+  public void close() {
+    if (!writer.isShutdown()) {
+      writer.execute(this::writePending);
+      writer.shutdown();
+    }
+  }
+
+  private void writeWhenDue() {
+    long wait = lastWriteNanos + minWriteIntervalNanos - System.nanoTime();
+    if (wait > 0) {
+      writer.schedule(this::writePending, wait, TimeUnit.NANOSECONDS);
+    } else {
+      writePending();
+    }
+  }
+
+  private void writePending() {
+    GameSave save = pending.getAndSet(null);
+    if (save == null) {
+      return;
+    }
+    try {
+      GameSaveCodec.write(target, save);
+      if (catalog != null) {
+        catalog.update(target, save);
+      }
+      writeCount.incrementAndGet();
+      LOGGER.fine("Auto saved game to " + target);
+    } catch (IOException | RuntimeException e) {
+      LOGGER.log(Level.WARNING, "Could not auto save game to " + target, e);
+    } finally {
+      lastWriteNanos = System.nanoTime();
+    }
+  }
+}
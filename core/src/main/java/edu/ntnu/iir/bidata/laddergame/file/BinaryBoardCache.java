@@ -0,0 +1,265 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.LadderAction;
+import edu.ntnu.iir.bidata.laddergame.model.Tile;
+import edu.ntnu.iir.bidata.laddergame.model.TileAction;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps a compact binary copy of large JSON board files, so they do not have to be parsed again.
+ *
+ * <p>The copy of {@code name.json} is {@code name.json.bin} in the cache directory. It is keyed by
+ * a hash of the JSON source: a copy is only used when its format version and source hash match,
+ * otherwise the JSON is parsed and the copy written again. The copy is memory-mapped and its tiles
+ * are read with bulk int reads.
+ *
+ * <p>Format, little endian: magic, format version, source hash, board content hash, name and
+ * description as length-prefixed UTF-8, tile count, then the ids, x coordinates, y coordinates and
+ * ladder destinations of all tiles as int arrays. A tile without a ladder has destination -1.
+ */
+public class BinaryBoardCache {
+  private static final Logger LOGGER = Logger.getLogger(BinaryBoardCache.class.getName());
+
+  /** Version of the binary format. Copies written with another version are ignored. */
+  public static final int FORMAT_VERSION = 1;
+  /** JSON files smaller than this are parsed directly and not cached. */
+  public static final long MIN_SOURCE_SIZE = 64 * 1024;
+  /** Suffix appended to the source file name to get the name of its copy. */
+  public static final String SUFFIX = ".bin";
+
+  private static final int MAGIC = 0x4452424C; // "LBRD" in little endian
+  private static final int NO_LADDER = -1;
+  private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+  private final Path cacheDirectory;
+  private final BoardFileReaderGson reader;
+
+  /**
+   * Creates a cache storing its copies in the given directory.
+   *
+   * @param cacheDirectory the directory for the binary copies, created when first written to
+   * @param reader the reader used when a board has to be parsed from JSON
+   */
+  public BinaryBoardCache(Path cacheDirectory, BoardFileReaderGson reader) {
+    this.cacheDirectory = Objects.requireNonNull(cacheDirectory, "Cache directory cannot be null");
+    this.reader = Objects.requireNonNull(reader, "Reader cannot be null");
+  }
+
+  public Path getCacheDirectory() {
+    return cacheDirectory;
+  }
+
+  /**
+   * Reads a JSON board file, from its binary copy if the copy is up to date. Otherwise the JSON is
+   * parsed and, for files of at least {@link #MIN_SOURCE_SIZE}, a new copy is written. Failing to
+   * write the copy is logged and does not fail the read.
+   *
+   * @param source the JSON board file
+   * @return the board
+   * @throws IOException if the JSON file cannot be read or parsed
+   */
+  public Board read(Path source) throws IOException {
+    long sourceHash;
+    try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+      if (channel.size() < MIN_SOURCE_SIZE) {
+        return parse(source);
+      }
+      sourceHash = hash(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+
+    Path copy = getCopyPath(source);
+    Board board = readCopy(copy, sourceHash);
+    if (board != null) {
+      return board;
+    }
+
+    board = parse(source);
+    try {
+      Files.createDirectories(cacheDirectory);
+      writeCopy(copy, sourceHash, board);
+    } catch (IOException e) {
+      LOGGER.log(Level.FINE, "Could not write binary copy of " + source, e);
+    }
+    return board;
+  }
+
+  /**
+   * Deletes the binary copy of a JSON board file, e.g. after the file was deleted.
+   *
+   * @param source the JSON board file
+   */
+  public void remove(Path source) {
+    try {
+      Files.deleteIfExists(getCopyPath(source));
+    } catch (IOException e) {
+      LOGGER.log(Level.FINE, "Could not delete binary copy of " + source, e);
+    }
+  }
+
+  private Path getCopyPath(Path source) {
+    return cacheDirectory.resolve(source.getFileName() + SUFFIX);
+  }
+
+  private Board parse(Path source) throws IOException {
+    try (InputStream stream = Files.newInputStream(source)) {
+      return reader.readBoard(stream);
+    }
+  }
+
+  /**
+   * Reads a binary copy.
+   *
+   * @return the board, or null if there is no copy or it is stale, of another version or damaged
+   */
+  Board readCopy(Path copy, long sourceHash) {
+    try (FileChannel channel = FileChannel.open(copy, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+      if (buffer.remaining() < 24 || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION
+          || buffer.getLong() != sourceHash) {
+        LOGGER.fine("Binary copy is stale or of another version: " + copy);
+        return null;
+      }
+      long contentHash = buffer.getLong();
+      String name = getString(buffer);
+      String description = getString(buffer);
+      int tileCount = buffer.getInt();
+      if (tileCount < 0 || (long) tileCount * 4 * Integer.BYTES != buffer.remaining()) {
+        LOGGER.warning("Binary copy has the wrong size: " + copy);
+        return null;
+      }
+
+      IntBuffer ints = buffer.asIntBuffer();
+      int[] ids = new int[tileCount];
+      int[] xs = new int[tileCount];
+      int[] ys = new int[tileCount];
+      int[] destinations = new int[tileCount];
+      ints.get(ids).get(xs).get(ys).get(destinations);
+
+      List<Tile> tiles = new ArrayList<>(tileCount);
+      for (int i = 0; i < tileCount; i++) {
+        TileAction action = destinations[i] == NO_LADDER ? new TileAction() : new LadderAction(destinations[i]);
+        tiles.add(new Tile(ids[i], xs[i], ys[i], action));
+      }
+      Board board = new Board(name, description, tiles);
+      if (board.getContentHash() != contentHash) {
+        LOGGER.warning("Binary copy is damaged: " + copy);
+        return null;
+      }
+      return board;
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+      LOGGER.log(Level.WARNING, "Could not read binary copy: " + copy, e);
+      return null;
+    }
+  }
+
+  /**
+   * Writes the binary copy of a board, replacing any old copy atomically.
+   */
+  void writeCopy(Path copy, long sourceHash, Board board) throws IOException {
+    List<Tile> tiles = board.getTiles();
+    byte[] name = board.getBoardName().getBytes(StandardCharsets.UTF_8);
+    byte[] description = board.getDescription().getBytes(StandardCharsets.UTF_8);
+
+    AtomicFiles.write(copy, channel -> {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(sourceHash).putLong(board.getContentHash());
+      putBytes(channel, buffer, name);
+      putBytes(channel, buffer, description);
+      buffer.putInt(tiles.size());
+      for (int field = 0; field < 4; field++) {
+        for (Tile tile : tiles) {
+          if (buffer.remaining() < Integer.BYTES) {
+            flush(channel, buffer);
+          }
+          buffer.putInt(switch (field) {
+            case 0 -> tile.getIndex();
+            case 1 -> tile.getX();
+            case 2 -> tile.getY();
+            default -> tile.getTileAction() instanceof LadderAction ladder
+                ? ladder.getDestinationTileIndex() : NO_LADDER;
+          });
+        }
+      }
+      flush(channel, buffer);
+    });
+  }
+
+  private static void putBytes(FileChannel channel, ByteBuffer buffer, byte[] bytes) throws IOException {
+    buffer.putInt(bytes.length);
+    int offset = 0;
+    while (offset < bytes.length) {
+      if (!buffer.hasRemaining()) {
+        flush(channel, buffer);
+      }
+      int length = Math.min(buffer.remaining(), bytes.length - offset);
+      buffer.put(bytes, offset, length);
+      offset += length;
+    }
+    if (buffer.remaining() < Integer.BYTES) {
+      flush(channel, buffer);
+    }
+  }
+
+  private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  private static String getString(ByteBuffer buffer) {
+    int length = buffer.getInt();
+    if (length < 0 || length > buffer.remaining()) {
+      throw new IllegalArgumentException("Invalid string length: " + length);
+    }
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Hashes the content of a buffer, eight bytes at a time.
+   *
+   * @param buffer the bytes to hash, from position to limit
+   * @return a 64-bit hash of the bytes and their length
+   */
+  static long hash(ByteBuffer buffer) {
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    long hash = mix(buffer.remaining());
+    while (buffer.remaining() >= Long.BYTES) {
+      hash = Long.rotateLeft(hash ^ mix(buffer.getLong()), 27) * 0x9E3779B97F4A7C15L;
+    }
+    while (buffer.hasRemaining()) {
+      hash = Long.rotateLeft(hash ^ mix(buffer.get()), 27) * 0x9E3779B97F4A7C15L;
+    }
+    return mix(hash);
+  }
+
+  private static long mix(long value) {
+    value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+    value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+    return value ^ (value >>> 31);
+  }
+}
@@ -0,0 +1,142 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches a directory of board files and board packs on a background thread and reports which
+ * files were created, modified or deleted.
+ *
+ * <p>Editors and copies often produce several events for one save, so events are collected until
+ * the directory has been quiet for the debounce delay and then reported together, each file once.
+ */
+public class BoardDirectoryWatcher implements Closeable {
+  private static final Logger LOGGER = Logger.getLogger(BoardDirectoryWatcher.class.getName());
+
+  /** Default time the directory must be quiet before changes are reported, in milliseconds. */
+  public static final long DEFAULT_DEBOUNCE_MILLIS = 300;
+
+  /**
+   * Receives the board files that changed.
+   */
+  @FunctionalInterface
+  public interface ChangeHandler {
+    /**
+     * Called on the watcher thread after a quiet period.
+     *
+     * @param files the board files that were created, modified or deleted
+     * @param overflow true if events were lost and the whole directory should be read again
+     */
+    void boardFilesChanged(Set<Path> files, boolean overflow);
+  }
+
+  private final Path directory;
+  private final long debounceMillis;
+  private final ChangeHandler handler;
+  private final WatchService watchService;
+  private final Thread thread;
+
+  /**
+   * Starts watching a directory.
+   *
+   * @param directory the directory to watch
+   * @param debounceMillis how long the directory must be quiet before changes are reported
+   * @param handler receives the changed files
+   * @throws IOException if the directory cannot be watched
+   */
+  public BoardDirectoryWatcher(Path directory, long debounceMillis, ChangeHandler handler) throws IOException {
+    this.directory = directory.toAbsolutePath();
+    this.debounceMillis = debounceMillis;
+    this.handler = Objects.requireNonNull(handler, "Handler cannot be null");
+    this.watchService = FileSystems.getDefault().newWatchService();
+    try {
+      this.directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+          StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+    } catch (IOException e) {
+      watchService.close();
+      throw e;
+    }
+    this.thread = Thread.ofVirtual().name("board-watcher").start(this::run);
+  }
+
+  public Path getDirectory() {
+    return directory;
+  }
+
+  private void run() {
+    Set<Path> pending = new LinkedHashSet<>();
+    boolean overflow = false;
+    long lastEvent = 0;
+    try {
+      while (true) {
+        WatchKey key;
+        if (pending.isEmpty() && !overflow) {
+          key = watchService.take();
+        } else {
+          long wait = lastEvent + debounceMillis - System.currentTimeMillis();
+          key = wait > 0 ? watchService.poll(wait, TimeUnit.MILLISECONDS) : null;
+        }
+
+        if (key != null) {
+          for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+              overflow = true;
+            } else if (event.context() instanceof Path name && isBoardFile(name)) {
+              pending.add(directory.resolve(name));
+            }
+          }
+          lastEvent = System.currentTimeMillis();
+          if (!key.reset()) {
+            LOGGER.warning("Board directory is no longer watched: " + directory);
+            return;
+          }
+        } else if (!pending.isEmpty() || overflow) {
+          Set<Path> files = Set.copyOf(pending);
+          pending.clear();
+          boolean lost = overflow;
+          overflow = false;
+          try {
+            handler.boardFilesChanged(files, lost);
+          } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to handle changed board files: " + files, e);
+          }
+        }
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      // Closed, stop watching
+    }
+  }
+
+  /**
+   * Checks if a file is a board file or a board pack, going by its name.
+   *
+   * @param file the file
+   * @return true for {@code .json} files and {@link BoardPack#SUFFIX} files
+   */
+  static boolean isBoardFile(Path file) {
+    String name = file.getFileName().toString().toLowerCase();
+    return name.endsWith(".json") || name.endsWith(BoardPack.SUFFIX);
+  }
+
+  /**
+   * Stops watching the directory. Changes not reported yet are dropped.
+   */
+  @Override
+  public void close() throws IOException {
+    watchService.close();
+    thread.interrupt();
+  }
+}
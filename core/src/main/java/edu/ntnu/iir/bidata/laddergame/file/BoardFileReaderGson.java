@@ -0,0 +1,315 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.LadderAction;
+import edu.ntnu.iir.bidata.laddergame.model.Tile;
+import edu.ntnu.iir.bidata.laddergame.model.TileAction;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implementation of BoardFileReader using Gson for JSON parsing.
+ * Reads board definitions from JSON files and converts them into Board objects.
+ *
+ * <p>The file is read token by token with a {@link JsonReader} and tiles are created as they are
+ * read, so no JSON tree is built and memory use beyond the board itself does not grow with the
+ * file. Fields the reader does not know are skipped.
+ *
+ * <p>Tiles are either listed one by one in {@code "tiles"}, or generated from a {@code "layout"}
+ * block (see {@link BoardLayout}). Ladders are given on the tiles, or as a sparse
+ * {@code "ladders"} list of {@code [from, to]} pairs:
+ * <pre>
+ * "layout": {"type": "serpentine", "columns": 9, "rows": 10, "start": [-1, 9]},
+ * "ladders": [[1, 40], [24, 5]]
+ * </pre>
+ */
+public class BoardFileReaderGson implements BoardFileReader {
+  /** Size of the character buffer between the decoder and the JSON reader. */
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final int MISSING = Integer.MIN_VALUE;
+
+    /**
+     * Reads a board definition from the given InputStream. The stream is read as UTF-8.
+     *
+     * @param inputStream The InputStream containing the JSON board definition.
+     * @return A Board object representing the board definition.
+     * @throws IOException If an error occurs while reading the InputStream, or the JSON is not a
+     *     valid board definition.
+     */
+  @Override
+  public Board readBoard(InputStream inputStream) throws IOException {
+    try (JsonReader reader = createReader(inputStream)) {
+      String name = null;
+      String description = null;
+      List<Tile> tiles = null;
+      BoardLayout layout = null;
+      int[] ladders = null;
+
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "name" -> name = nextStringOrNull(reader);
+          case "description" -> description = nextStringOrNull(reader);
+          case "tiles" -> tiles = readTiles(reader);
+          case "layout" -> layout = readLayout(reader);
+          case "ladders" -> ladders = readInts(reader, true);
+          default -> reader.skipValue();
+        }
+      }
+      reader.endObject();
+
+      if (name == null) {
+        throw new IOException("Board definition has no name");
+      }
+      if (layout != null) {
+        if (tiles != null) {
+          throw new IOException("Board definition has both tiles and a layout: " + name);
+        }
+        tiles = createTiles(layout);
+      }
+      if (tiles == null) {
+        throw new IOException("Board definition has no tiles: " + name);
+      }
+      if (ladders != null) {
+        addLadders(tiles, ladders);
+      }
+      return new Board(name, description == null ? "" : description, tiles);
+    } catch (IllegalStateException | NumberFormatException e) {
+      // JsonReader reports unexpected token types with unchecked exceptions
+      throw new IOException("Invalid board definition: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Reads only the name and description of a board definition. Reading stops as soon as both
+   * are found, so the tiles are not parsed when they come after the header, as in files written
+   * by {@link BoardFileWriterGson}.
+   *
+   * @param inputStream The InputStream containing the JSON board definition, closed afterwards.
+   * @return The header of the board.
+   * @throws IOException If an error occurs while reading the InputStream, or the board has no
+   *     name.
+   */
+  public BoardHeader readHeader(InputStream inputStream) throws IOException {
+    // The header is near the start, so the reader's own small buffer is enough
+    try (JsonReader reader = new JsonReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+      String name = null;
+      String description = null;
+
+      reader.beginObject();
+      while (reader.hasNext() && (name == null || description == null)) {
+        switch (reader.nextName()) {
+          case "name" -> name = nextStringOrNull(reader);
+          case "description" -> description = nextStringOrNull(reader);
+          default -> reader.skipValue();
+        }
+      }
+
+      if (name == null) {
+        throw new IOException("Board definition has no name");
+      }
+      return new BoardHeader(name, description == null ? "" : description);
+    } catch (IllegalStateException | NumberFormatException e) {
+      throw new IOException("Invalid board definition: " + e.getMessage(), e);
+    }
+  }
+
+  private static JsonReader createReader(InputStream inputStream) {
+    return new JsonReader(new BufferedReader(
+        new InputStreamReader(inputStream, StandardCharsets.UTF_8), BUFFER_SIZE));
+  }
+
+  /**
+   * Reads the tiles array.
+   *
+   * @param reader The reader positioned at the array.
+   * @return The tiles in file order.
+   * @throws IOException If the array or one of the tiles is invalid.
+   */
+  private static List<Tile> readTiles(JsonReader reader) throws IOException {
+    List<Tile> tiles = new ArrayList<>();
+    reader.beginArray();
+    while (reader.hasNext()) {
+      tiles.add(readTile(reader, tiles.size()));
+    }
+    reader.endArray();
+    return tiles;
+  }
+
+    /**
+     * Reads a JSON object representing a tile into a Tile object.
+     *
+     * @param reader The reader positioned at the tile object.
+     * @param position The position of the tile in the tiles array, for error messages.
+     * @return A Tile object created from the JSON data.
+     * @throws IOException If the tile is missing its id or coordinates.
+     */
+  private static Tile readTile(JsonReader reader, int position) throws IOException {
+    int id = MISSING;
+    int x = MISSING;
+    int y = MISSING;
+    TileAction action = null;
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "id" -> id = reader.nextInt();
+        case "x" -> x = reader.nextInt();
+        case "y" -> y = reader.nextInt();
+        case "action" -> action = readAction(reader);
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+
+    if (id == MISSING || x == MISSING || y == MISSING) {
+      throw new IOException("Tile " + position + " in the tiles array needs an id, x and y");
+    }
+    return new Tile(id, x, y, action == null ? new TileAction() : action);
+  }
+
+  /**
+   * Reads the action of a tile. Actions of an unknown type become a plain TileAction.
+   *
+   * @param reader The reader positioned at the action object.
+   * @return The action, or null if the action is null.
+   * @throws IOException If a ladder has no destination.
+   */
+  private static TileAction readAction(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+    String type = null;
+    int destinationTileIndex = MISSING;
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "type" -> type = nextStringOrNull(reader);
+        case "destinationTileIndex" -> destinationTileIndex = reader.nextInt();
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+
+    if (!"LadderAction".equals(type)) {
+      return new TileAction();
+    }
+    if (destinationTileIndex == MISSING) {
+      throw new IOException("Ladder at " + reader.getPath() + " has no destinationTileIndex");
+    }
+    return new LadderAction(destinationTileIndex);
+  }
+
+  /**
+   * Reads a layout block.
+   *
+   * @param reader The reader positioned at the layout object.
+   * @return The layout.
+   * @throws IOException If the layout is incomplete or invalid.
+   */
+  private static BoardLayout readLayout(JsonReader reader) throws IOException {
+    String type = null;
+    int columns = MISSING;
+    int rows = MISSING;
+    int count = MISSING;
+    int[] start = null;
+    int[] positions = null;
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "type" -> type = nextStringOrNull(reader);
+        case "columns" -> columns = reader.nextInt();
+        case "rows" -> rows = reader.nextInt();
+        case "tiles" -> count = reader.nextInt();
+        case "start" -> start = readInts(reader, false);
+        case "positions" -> positions = readInts(reader, false);
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+
+    try {
+      if (BoardLayout.EXPLICIT.equals(type)) {
+        if (positions == null) {
+          throw new IOException("Explicit layout has no positions");
+        }
+        return BoardLayout.explicit(positions);
+      }
+      if (columns == MISSING || rows == MISSING) {
+        throw new IOException("Layout " + type + " needs columns and rows");
+      }
+      return BoardLayout.of(type, columns, rows, count == MISSING ? columns * rows : count, start);
+    } catch (IllegalArgumentException e) {
+      throw new IOException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Reads an array of ints, optionally made of nested pairs such as {@code [[1, 40], [8, 10]]}.
+   *
+   * @param reader The reader positioned at the array.
+   * @param pairs Whether the array holds pairs, which are flattened.
+   * @return The ints in order.
+   * @throws IOException If the array is invalid.
+   */
+  private static int[] readInts(JsonReader reader, boolean pairs) throws IOException {
+    int[] values = new int[16];
+    int size = 0;
+    reader.beginArray();
+    while (reader.hasNext()) {
+      if (pairs) {
+        reader.beginArray();
+      }
+      for (int i = 0; i < (pairs ? 2 : 1); i++) {
+        if (size == values.length) {
+          values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = reader.nextInt();
+      }
+      if (pairs) {
+        reader.endArray();
+      }
+    }
+    reader.endArray();
+    return Arrays.copyOf(values, size);
+  }
+
+  private static List<Tile> createTiles(BoardLayout layout) {
+    int[] positions = layout.toPositions();
+    List<Tile> tiles = new ArrayList<>(positions.length / 2);
+    for (int i = 0; i < positions.length / 2; i++) {
+      tiles.add(new Tile(i, positions[2 * i], positions[2 * i + 1], new TileAction()));
+    }
+    return tiles;
+  }
+
+  private static void addLadders(List<Tile> tiles, int[] ladders) throws IOException {
+    for (int i = 0; i < ladders.length; i += 2) {
+      int from = ladders[i];
+      if (from < 0 || from >= tiles.size()) {
+        throw new IOException("Ladder from tile " + from + " is outside the board");
+      }
+      tiles.get(from).setTileAction(new LadderAction(ladders[i + 1]));
+    }
+  }
+
+  private static String nextStringOrNull(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+    return reader.nextString();
+  }
+}
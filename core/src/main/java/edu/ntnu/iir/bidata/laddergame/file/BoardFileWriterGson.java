@@ -0,0 +1,120 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import com.google.gson.stream.JsonWriter;
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.LadderAction;
+import edu.ntnu.iir.bidata.laddergame.model.Tile;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Paths;
+
+/**
+ * Implementation of BoardFileWriter using Gson for JSON serialization.
+ * Writes board definitions to JSON files.
+ *
+ * <p>Tiles are streamed one at a time through a {@link JsonWriter}, so no JSON copy of the board
+ * is built in memory. The file is written with {@link AtomicFiles}, so an existing board file is
+ * only replaced once the new one is complete.
+ *
+ * <p>When the tile ids are their positions, the tiles are written as a {@link BoardLayout} with a
+ * sparse list of ladders, which for rule based layouts is a small fraction of the size of one
+ * object per tile. Other boards are written with the full tiles list.
+ */
+public class BoardFileWriterGson implements BoardFileWriter {
+
+    /**
+     * Writes a board definition to a file in JSON format, encoded as UTF-8.
+     *
+     * @param board The Board object to be written to the file.
+     * @param filePath The path of the file where the board definition will be written.
+     * @throws IOException If an error occurs while writing to the file.
+     */
+  @Override
+  public void writeBoard(Board board, String filePath) throws IOException {
+    AtomicFiles.writeText(Paths.get(filePath), writer -> writeBoard(board, writer));
+  }
+
+  /**
+   * Writes a board definition as JSON to a writer. The writer is flushed but not closed.
+   *
+   * @param board The Board object to be written.
+   * @param writer The writer to write the JSON to.
+   * @throws IOException If an error occurs while writing.
+   */
+  void writeBoard(Board board, Writer writer) throws IOException {
+    JsonWriter json = new JsonWriter(writer);
+    json.beginObject();
+    json.name("name").value(board.getBoardName());
+    json.name("description").value(board.getDescription());
+
+    BoardLayout layout = BoardLayout.detect(board.getTiles());
+    if (layout != null) {
+      writeLayout(json, layout);
+      writeLadders(json, board);
+    } else {
+      json.name("tiles").beginArray();
+      for (Tile tile : board.getTiles()) {
+        writeTile(json, tile);
+      }
+      json.endArray();
+    }
+
+    json.endObject();
+    json.flush();
+  }
+
+  private static void writeLayout(JsonWriter json, BoardLayout layout) throws IOException {
+    json.name("layout").beginObject();
+    json.name("type").value(layout.getType());
+    if (BoardLayout.EXPLICIT.equals(layout.getType())) {
+      json.name("positions").beginArray();
+      for (int value : layout.toPositions()) {
+        json.value(value);
+      }
+      json.endArray();
+    } else {
+      json.name("columns").value(layout.getColumns());
+      json.name("rows").value(layout.getRows());
+      if (layout.getGridTiles() != layout.getColumns() * layout.getRows()) {
+        json.name("tiles").value(layout.getGridTiles());
+      }
+      int[] start = layout.getStart();
+      if (start != null) {
+        json.name("start").beginArray().value(start[0]).value(start[1]).endArray();
+      }
+    }
+    json.endObject();
+  }
+
+  private static void writeLadders(JsonWriter json, Board board) throws IOException {
+    json.name("ladders").beginArray();
+    for (Tile tile : board.getTiles()) {
+      if (tile.getTileAction() instanceof LadderAction ladder) {
+        json.beginArray().value(tile.getIndex()).value(ladder.getDestinationTileIndex()).endArray();
+      }
+    }
+    json.endArray();
+  }
+
+    /**
+     * Writes a Tile object as a JSON object.
+     *
+     * @param json The writer to write the tile to.
+     * @param tile The Tile object to be written.
+     * @throws IOException If an error occurs while writing.
+     */
+  private static void writeTile(JsonWriter json, Tile tile) throws IOException {
+    json.beginObject();
+    json.name("id").value(tile.getIndex());
+    json.name("x").value(tile.getX());
+    json.name("y").value(tile.getY());
+
+    if (tile.hasLadderAction()) {
+      json.name("action").beginObject();
+      json.name("type").value("LadderAction");
+      json.name("destinationTileIndex").value(((LadderAction) tile.getTileAction()).getDestinationTileIndex());
+      json.endObject();
+    }
+    json.endObject();
+  }
+}
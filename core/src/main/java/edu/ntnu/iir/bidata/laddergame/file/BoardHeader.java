@@ -0,0 +1,36 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import java.util.Objects;
+
+/**
+ * The name and description of a board definition, read without parsing its tiles.
+ */
+public final class BoardHeader {
+  private final String name;
+  private final String description;
+
+  /**
+   * Creates a board header.
+   *
+   * @param name the board name
+   * @param description the board description
+   * @throws NullPointerException if name or description is null
+   */
+  public BoardHeader(String name, String description) {
+    this.name = Objects.requireNonNull(name, "Name cannot be null");
+    this.description = Objects.requireNonNull(description, "Description cannot be null");
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  @Override
+  public String toString() {
+    return "BoardHeader{" + "name='" + name + '\'' + ", description='" + description + '\'' + '}';
+  }
+}
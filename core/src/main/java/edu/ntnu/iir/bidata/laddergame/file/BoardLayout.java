@@ -0,0 +1,202 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.model.Tile;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Rule describing where the tiles of a board are placed, so a board file does not have to list
+ * the coordinates of every tile.
+ *
+ * <p>Tiles are numbered from 0 in path order. A {@code serpentine} layout starts in the bottom
+ * left corner and walks the rows upwards, alternating between left to right and right to left. A
+ * {@code spiral} layout starts in the bottom left corner and walks counter-clockwise along the
+ * edge towards the center. Both can place tile 0 on a start position off the grid, the grid tiles
+ * are then numbered from 1. An {@code explicit} layout lists the position of every tile.
+ */
+final class BoardLayout {
+  static final String SERPENTINE = "serpentine";
+  static final String SPIRAL = "spiral";
+  static final String EXPLICIT = "explicit";
+
+  private final String type;
+  private final int columns;
+  private final int rows;
+  private final int gridTiles;
+  private final int[] start;
+  private final int[] positions;
+
+  private BoardLayout(String type, int columns, int rows, int gridTiles, int[] start, int[] positions) {
+    this.type = type;
+    this.columns = columns;
+    this.rows = rows;
+    this.gridTiles = gridTiles;
+    this.start = start;
+    this.positions = positions;
+  }
+
+  /**
+   * Creates a serpentine or spiral layout.
+   *
+   * @param type {@link #SERPENTINE} or {@link #SPIRAL}
+   * @param columns the width of the grid
+   * @param rows the height of the grid
+   * @param gridTiles the number of tiles on the grid, at most columns times rows
+   * @param start the x and y of tile 0 off the grid, or null if tile 0 is the first grid tile
+   * @return the layout
+   * @throws IllegalArgumentException if the type is unknown or the grid is invalid
+   */
+  static BoardLayout of(String type, int columns, int rows, int gridTiles, int[] start) {
+    if (!SERPENTINE.equals(type) && !SPIRAL.equals(type)) {
+      throw new IllegalArgumentException("Unknown layout type: " + type);
+    }
+    if (columns <= 0 || rows <= 0 || gridTiles < 0 || gridTiles > (long) columns * rows) {
+      throw new IllegalArgumentException("Invalid " + type + " layout: " + columns + "x" + rows
+          + " with " + gridTiles + " tiles");
+    }
+    if (start != null && start.length != 2) {
+      throw new IllegalArgumentException("Start position needs an x and a y");
+    }
+    return new BoardLayout(type, columns, rows, gridTiles, start, null);
+  }
+
+  /**
+   * Creates an explicit layout.
+   *
+   * @param positions the x and y of every tile, one after the other
+   * @return the layout
+   * @throws IllegalArgumentException if the positions do not come in pairs
+   */
+  static BoardLayout explicit(int[] positions) {
+    if (positions.length % 2 != 0) {
+      throw new IllegalArgumentException("Explicit layout needs an x and a y for every tile");
+    }
+    return new BoardLayout(EXPLICIT, 0, 0, 0, null, positions);
+  }
+
+  /**
+   * Finds the layout of a list of tiles. Rules are tried first and the explicit layout is used
+   * when no rule fits.
+   *
+   * @param tiles the tiles of a board
+   * @return the layout, or null if the tile ids are not their positions in the list
+   */
+  static BoardLayout detect(List<Tile> tiles) {
+    int size = tiles.size();
+    int[] positions = new int[size * 2];
+    for (int i = 0; i < size; i++) {
+      Tile tile = tiles.get(i);
+      if (tile.getIndex() != i) {
+        return null;
+      }
+      positions[2 * i] = tile.getX();
+      positions[2 * i + 1] = tile.getY();
+    }
+
+    // Tile 0 is the start position when it is off the grid, as on the built-in boards
+    boolean offGrid = size > 0 && (positions[0] < 0 || positions[1] < 0);
+    int first = offGrid ? 1 : 0;
+    int columns = 0;
+    int rows = 0;
+    for (int i = first; i < size; i++) {
+      if (positions[2 * i] < 0 || positions[2 * i + 1] < 0) {
+        return explicit(positions);
+      }
+      columns = Math.max(columns, positions[2 * i] + 1);
+      rows = Math.max(rows, positions[2 * i + 1] + 1);
+    }
+    if (size > first && (long) columns * rows >= size - first) {
+      int[] start = offGrid ? new int[] {positions[0], positions[1]} : null;
+      for (String type : new String[] {SERPENTINE, SPIRAL}) {
+        BoardLayout layout = of(type, columns, rows, size - first, start);
+        if (Arrays.equals(layout.toPositions(), positions)) {
+          return layout;
+        }
+      }
+    }
+    return explicit(positions);
+  }
+
+  String getType() {
+    return type;
+  }
+
+  int getColumns() {
+    return columns;
+  }
+
+  int getRows() {
+    return rows;
+  }
+
+  int getGridTiles() {
+    return gridTiles;
+  }
+
+  /**
+   * Gets the start position off the grid.
+   *
+   * @return the x and y of tile 0, or null if tile 0 is on the grid
+   */
+  int[] getStart() {
+    return start == null ? null : start.clone();
+  }
+
+  int getTileCount() {
+    return positions != null ? positions.length / 2 : gridTiles + (start == null ? 0 : 1);
+  }
+
+  /**
+   * Expands the layout into the position of every tile.
+   *
+   * @return the x and y of every tile, one after the other
+   */
+  int[] toPositions() {
+    if (positions != null) {
+      return positions.clone();
+    }
+    int[] result = new int[getTileCount() * 2];
+    int next = 0;
+    if (start != null) {
+      result[next++] = start[0];
+      result[next++] = start[1];
+    }
+    if (SERPENTINE.equals(type)) {
+      for (int k = 0; k < gridTiles; k++) {
+        int row = k / columns;
+        int column = k % columns;
+        result[next++] = row % 2 == 0 ? column : columns - 1 - column;
+        result[next++] = rows - 1 - row;
+      }
+    } else {
+      int left = 0;
+      int right = columns - 1;
+      int top = 0;
+      int bottom = rows - 1;
+      int placed = 0;
+      while (placed < gridTiles) {
+        for (int x = left; x <= right && placed < gridTiles; x++, placed++) {
+          result[next++] = x;
+          result[next++] = bottom;
+        }
+        bottom--;
+        for (int y = bottom; y >= top && placed < gridTiles; y--, placed++) {
+          result[next++] = right;
+          result[next++] = y;
+        }
+        right--;
+        for (int x = right; x >= left && top <= bottom && placed < gridTiles; x--, placed++) {
+          result[next++] = x;
+          result[next++] = top;
+        }
+        top++;
+        for (int y = top; y <= bottom && left <= right && placed < gridTiles; y++, placed++) {
+          result[next++] = left;
+          result[next++] = y;
+        }
+        left++;
+      }
+    }
+    return result;
+  }
+}
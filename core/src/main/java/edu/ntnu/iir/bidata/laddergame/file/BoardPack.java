@@ -0,0 +1,318 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Archive holding many boards in one file, so a set of boards can be shipped and opened without
+ * one file per board.
+ *
+ * <p>The file is memory-mapped when opened and only its index is read. The index lists the name,
+ * description, offset, length, tile count, ladder count and content hash of every board, so the
+ * boards can be listed and searched without touching them. A board is parsed from its bytes when it
+ * is read, and its content hash checked against the index.
+ *
+ * <p>Format, little endian: magic, format version, number of boards and the offset of the index,
+ * then the boards as UTF-8 JSON one after the other, then the index. Each index entry holds the
+ * name and description as length-prefixed UTF-8, followed by the offset and length of the JSON, the
+ * tile and ladder count and the {@link Board#getContentHash() content hash} of the board. The index
+ * is written last, so boards are written one at a time.
+ */
+public final class BoardPack {
+
+  /** Version of the pack format. Packs written with another version cannot be opened. */
+  public static final int FORMAT_VERSION = 2;
+  /** File name suffix of board packs. */
+  public static final String SUFFIX = ".boardpack";
+
+  private static final int MAGIC = 0x4B50424C; // "LBPK" in little endian
+  private static final int HEADER_SIZE = 3 * Integer.BYTES + Long.BYTES;
+
+  private final Path file;
+  private final MappedByteBuffer buffer;
+  private final Map<String, Entry> entries;
+  private final BoardFileReaderGson reader;
+
+  private BoardPack(Path file, MappedByteBuffer buffer, Map<String, Entry> entries, BoardFileReaderGson reader) {
+    this.file = file;
+    this.buffer = buffer;
+    this.entries = entries;
+    this.reader = reader;
+  }
+
+  /**
+   * Opens a board pack and reads its index. The file stays mapped until the pack is no longer
+   * used.
+   *
+   * @param file the pack file
+   * @param reader the reader used to parse the boards
+   * @return the opened pack
+   * @throws IOException if the file cannot be read, is not a board pack, is of another version or
+   *     its index is damaged
+   */
+  public static BoardPack open(Path file, BoardFileReaderGson reader) throws IOException {
+    Objects.requireNonNull(reader, "Reader cannot be null");
+    MappedByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("Board pack is larger than 2 GB: " + file);
+      }
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+
+    ByteBuffer index = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    try {
+      if (index.remaining() < HEADER_SIZE || index.getInt() != MAGIC) {
+        throw new IOException("Not a board pack: " + file);
+      }
+      int version = index.getInt();
+      if (version != FORMAT_VERSION) {
+        throw new IOException("Unsupported board pack version " + version + ": " + file);
+      }
+      int count = index.getInt();
+      long indexOffset = index.getLong();
+      if (count < 0 || indexOffset < HEADER_SIZE || indexOffset > index.limit()) {
+        throw new IOException("Board pack index is damaged: " + file);
+      }
+      index.position((int) indexOffset);
+
+      Map<String, Entry> entries = new LinkedHashMap<>();
+      for (int i = 0; i < count; i++) {
+        Entry entry = new Entry(getString(index), getString(index), index.getLong(), index.getInt(),
+            index.getInt(), index.getInt(), index.getLong());
+        if (entry.offset < HEADER_SIZE || entry.length < 0 || entry.offset + entry.length > indexOffset) {
+          throw new IOException("Board pack entry is outside the pack: " + entry.name);
+        }
+        if (entries.put(entry.name, entry) != null) {
+          throw new IOException("Board pack contains " + entry.name + " twice");
+        }
+      }
+      return new BoardPack(file, buffer, Collections.unmodifiableMap(entries), reader);
+    } catch (BufferUnderflowException | IllegalArgumentException e) {
+      throw new IOException("Board pack index is damaged: " + file, e);
+    }
+  }
+
+  public Path getFile() {
+    return file;
+  }
+
+  /**
+   * Gets the boards in the pack, in the order they were written.
+   *
+   * @return the index entries
+   */
+  public List<Entry> getEntries() {
+    return new ArrayList<>(entries.values());
+  }
+
+  /**
+   * Gets the index entry of a board.
+   *
+   * @param name the name of the board
+   * @return the entry, or null if the pack has no board with that name
+   */
+  public Entry getEntry(String name) {
+    return entries.get(name);
+  }
+
+  /**
+   * Parses a board from the pack.
+   *
+   * @param name the name of the board
+   * @return the board
+   * @throws IOException if the pack has no such board, or the board cannot be parsed or does not
+   *     match its content hash
+   */
+  public Board readBoard(String name) throws IOException {
+    Entry entry = entries.get(name);
+    if (entry == null) {
+      throw new IOException("Board not in pack " + file + ": " + name);
+    }
+    Board board = reader.readBoard(new BufferInputStream(buffer.slice((int) entry.offset, entry.length)));
+    if (board.getContentHash() != entry.contentHash) {
+      throw new IOException("Board " + name + " in " + file + " does not match its content hash");
+    }
+    return board;
+  }
+
+  /**
+   * Writes boards to a pack, replacing any existing file atomically.
+   *
+   * @param target the pack file
+   * @param boards the boards, in the order they are listed in the index
+   * @throws IOException if the pack cannot be written
+   * @throws IllegalArgumentException if two boards have the same name
+   */
+  public static void write(Path target, List<Board> boards) throws IOException {
+    List<Entry> written = new ArrayList<>(boards.size());
+    Set<String> names = new HashSet<>();
+    for (Board board : boards) {
+      if (!names.add(board.getBoardName())) {
+        throw new IllegalArgumentException("Duplicate board name in pack: " + board.getBoardName());
+      }
+    }
+
+    BoardFileWriterGson writer = new BoardFileWriterGson();
+    AtomicFiles.write(target, channel -> {
+      long offset = HEADER_SIZE;
+      channel.position(offset);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      for (Board board : boards) {
+        bytes.reset();
+        Writer text = new OutputStreamWriter(bytes, StandardCharsets.UTF_8);
+        writer.writeBoard(board, text);
+        text.flush();
+        writeFully(channel, ByteBuffer.wrap(bytes.toByteArray()));
+        BoardSummary summary = BoardSummary.of(board);
+        written.add(new Entry(summary.getName(), summary.getDescription(), offset, bytes.size(),
+            summary.getTileCount(), summary.getLadderCount(), summary.getContentHash()));
+        offset += bytes.size();
+      }
+      if (offset > Integer.MAX_VALUE) {
+        throw new IOException("Board pack would be larger than 2 GB: " + target);
+      }
+
+      bytes.reset();
+      for (Entry entry : written) {
+        byte[] name = entry.name.getBytes(StandardCharsets.UTF_8);
+        byte[] description = entry.description.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(5 * Integer.BYTES + name.length + description.length + 2 * Long.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        record.putInt(name.length).put(name).putInt(description.length).put(description)
+            .putLong(entry.offset).putInt(entry.length).putInt(entry.tileCount).putInt(entry.ladderCount)
+            .putLong(entry.contentHash);
+        bytes.write(record.array(), 0, record.position());
+      }
+      writeFully(channel, ByteBuffer.wrap(bytes.toByteArray()));
+
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(written.size()).putLong(offset).flip();
+      channel.position(0);
+      writeFully(channel, header);
+    });
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private static String getString(ByteBuffer buffer) {
+    int length = buffer.getInt();
+    if (length < 0 || length > buffer.remaining()) {
+      throw new IllegalArgumentException("Invalid string length: " + length);
+    }
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Index entry of one board in a pack.
+   */
+  public static final class Entry {
+    private final String name;
+    private final String description;
+    private final long offset;
+    private final int length;
+    private final int tileCount;
+    private final int ladderCount;
+    private final long contentHash;
+
+    Entry(String name, String description, long offset, int length, int tileCount, int ladderCount,
+        long contentHash) {
+      this.name = name;
+      this.description = description;
+      this.offset = offset;
+      this.length = length;
+      this.tileCount = tileCount;
+      this.ladderCount = ladderCount;
+      this.contentHash = contentHash;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public String getDescription() {
+      return description;
+    }
+
+    public long getOffset() {
+      return offset;
+    }
+
+    public int getLength() {
+      return length;
+    }
+
+    public long getContentHash() {
+      return contentHash;
+    }
+
+    /**
+     * Gets the summary of the board, as stored in the index.
+     *
+     * @return the summary
+     */
+    public BoardSummary getSummary() {
+      return new BoardSummary(name, description, tileCount, ladderCount, contentHash);
+    }
+  }
+
+  /**
+   * Reads the bytes of a board straight from the mapped file.
+   */
+  private static final class BufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    BufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Command line tool building a board pack from a directory of JSON board files.
+ *
+ * <p>Usage: {@code BoardPackCli <board directory> <pack file>}
+ *
+ * <p>Boards are added in file name order. Files that cannot be parsed, and boards with a name
+ * already in the pack, are reported and left out.
+ */
+public class BoardPackCli {
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.out.println("Usage: BoardPackCli <board directory> <pack file>");
+      return;
+    }
+    Path directory = Paths.get(args[0]);
+    Path target = Paths.get(args[1]);
+    if (!Files.isDirectory(directory)) {
+      System.out.println("Not a directory: " + directory);
+      return;
+    }
+
+    List<Path> files = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+        file -> file.getFileName().toString().toLowerCase().endsWith(".json"))) {
+      stream.forEach(files::add);
+    }
+    files.sort(null);
+
+    long start = System.nanoTime();
+    BoardFileReaderGson reader = new BoardFileReaderGson();
+    List<Board> boards = new ArrayList<>();
+    Set<String> names = new HashSet<>();
+    long sourceBytes = 0;
+    for (Path file : files) {
+      try (InputStream stream = Files.newInputStream(file)) {
+        Board board = reader.readBoard(stream);
+        if (!names.add(board.getBoardName())) {
+          System.out.println("Skipped " + file.getFileName() + ": board " + board.getBoardName()
+              + " is already in the pack");
+          continue;
+        }
+        boards.add(board);
+        sourceBytes += Files.size(file);
+      } catch (IOException e) {
+        System.out.println("Skipped " + file.getFileName() + ": " + e.getMessage());
+      }
+    }
+
+    BoardPack.write(target, boards);
+    double seconds = (System.nanoTime() - start) / 1e9;
+    System.out.printf(Locale.US, "Packed %d of %d board files (%d bytes) into %s (%d bytes) in %.3f s%n",
+        boards.size(), files.size(), sourceBytes, target, Files.size(target), seconds);
+  }
+}
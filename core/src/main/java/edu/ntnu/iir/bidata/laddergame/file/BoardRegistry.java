@@ -0,0 +1,946 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.BoardSnapshot;
+import edu.ntnu.iir.bidata.laddergame.util.Observable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Registry for managing all board definitions in the game.
+ * Provides access to both built-in boards and user-created boards.
+ *
+ * <p>At startup only the name and description of each board file are read. Boards are parsed when
+ * first asked for and kept in a small least recently used cache. A cached user board is parsed
+ * again when its file's modification time or size has changed. Boards from the registry are frozen
+ * and shared between callers; games that do not need the tiles as objects can share the board's
+ * {@link BoardSnapshot} instead, see {@link #getBoardSnapshot(String)}. Large user boards are read
+ * through a {@link BinaryBoardCache} in {@link #CACHE_DIRECTORY}, so they are only parsed from
+ * JSON once.
+ *
+ * <p>The user boards directory is scanned in the background on virtual threads, with at most
+ * {@link #MAX_CONCURRENT_READS} files open at once. Boards are registered as soon as their header
+ * has been read, so {@link #getBoardNames()} can list the first boards before the scan is done.
+ * {@link #getUserBoardsScan()} completes when it is. A board file that has not changed since an
+ * earlier start is registered from the {@link BoardSummaryIndex} in {@link #CACHE_DIRECTORY}
+ * without being opened.
+ *
+ * <p>After the scan the directory is watched with a {@link BoardDirectoryWatcher}. Only the files
+ * that were created, modified or deleted are read again. Observers are notified with
+ * {@link #BOARDS_CHANGED} on a background thread whenever the set of boards may have changed,
+ * including when the scan is done.
+ *
+ * <p>Board packs ({@link BoardPack#SUFFIX} files) in the user boards directory are mounted
+ * alongside the JSON files, and other packs can be mounted with {@link #mountPack(Path)}. Only the
+ * index of a pack is read when it is mounted; its boards are parsed from the mapped file when
+ * first asked for. A changed pack is mounted again as a whole.
+ *
+ * <p>Every board is summarized in a {@link BoardSearchIndex} with its tile count, ladder count and
+ * content hash, so {@link #searchBoards(String)} can filter all boards without loading them. The
+ * summaries are kept in the {@link BoardSummaryIndex} for the next start. After the scan, the
+ * boards that are not in it, i.e. new or changed files and the native boards, are parsed in a
+ * second background pass, and {@link #getBoardSummariesScan()} completes when it is done. Boards
+ * with the same content, name and description share one parsed instance. When two boards have the
+ * same name, the one whose file path sorts first keeps it and the other is listed as
+ * {@code name (file name)} until the first one is removed.
+ */
+public class BoardRegistry extends Observable<BoardRegistry> {
+  private static final Logger LOGGER = Logger.getLogger(BoardRegistry.class.getName());
+  private static BoardRegistry instance;
+
+  // Maps board names to their resource paths or file paths, and the paths back to the names.
+  // Changed together while holding the lock of boardPathMap.
+  private final Map<String, String> boardPathMap = new ConcurrentHashMap<>();
+  private final Map<String, String> pathNameMap = new ConcurrentHashMap<>();
+  private final BoardSearchIndex searchIndex = new BoardSearchIndex();
+
+  // Content hash of the board at each path, for the file modification time and size it was read at
+  private final Map<String, CachedBoard> contentHashes = new ConcurrentHashMap<>();
+
+  // Path of boards that were added without being saved to a file
+  private static final String NO_FILE = "";
+
+  // Separates the pack file from the board name in the path of a board in a pack
+  private static final String PACK_SEPARATOR = "!";
+
+  // Boards in mounted packs by their path
+  private final Map<String, PackedBoard> packedBoards = new ConcurrentHashMap<>();
+
+  /** Event sent to observers when boards have been added, changed or removed. */
+  public static final String BOARDS_CHANGED = "BOARDS_CHANGED";
+
+  /** Number of user board files read at the same time during a scan. */
+  public static final int MAX_CONCURRENT_READS = 8;
+
+  /** Directory inside the user boards directory holding the binary copies of large boards. */
+  public static final String CACHE_DIRECTORY = ".cache";
+
+  /** Number of parsed boards kept in memory. */
+  private static final int BOARD_CACHE_SIZE = 16;
+
+  // Parsed boards by resource path or file path, least recently used first
+  private final Map<String, CachedBoard> boardCache = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, CachedBoard> eldest) {
+      return size() > BOARD_CACHE_SIZE;
+    }
+  };
+
+  // Built-in board resources
+  private static final String[] NATIVE_BOARDS = {
+      "/boards/spiral.json",
+      "/boards/normal.json",
+      "/boards/zigzag.json",
+      "/boards/debugboard.json",
+  };
+
+  // Default directory for user-created boards
+  private String userBoardsDirectory;
+  private final BoardFileReaderGson reader;
+  private final Board defaultBoard = new Board().freeze();
+  private volatile BinaryBoardCache binaryCache;
+  private volatile BoardSummaryIndex summaryIndex;
+  private volatile CompletableFuture<Void> userBoardsScan;
+  private volatile CompletableFuture<Void> boardSummariesScan;
+  private BoardDirectoryWatcher watcher;
+
+  /**
+   * Gets the singleton instance of BoardRegistry.
+   *
+   * @return The BoardRegistry instance
+   */
+  public static synchronized BoardRegistry getInstance() {
+    if (instance == null) {
+      instance = new BoardRegistry();
+    }
+    return instance;
+  }
+
+  /**
+   * Private constructor for singleton pattern.
+   */
+  private BoardRegistry() {
+    this.reader = new BoardFileReaderGson();
+    this.userBoardsDirectory = System.getProperty("user.home") + File.separator + "cosmicladder" + File.separator + "boards";
+
+    // Ensure user boards directory exists
+    createUserBoardsDirectory();
+
+    // Load board definitions, the user boards in the background
+    searchIndex.put("Normal", BoardSummary.of(defaultBoard));
+    loadNativeBoards();
+    watchUserBoards(Paths.get(userBoardsDirectory));
+  }
+
+  /**
+   * Creates the user boards directory if it doesn't exist.
+   */
+  private void createUserBoardsDirectory() {
+    Path path = Paths.get(userBoardsDirectory);
+    if (!Files.exists(path)) {
+      try {
+        Files.createDirectories(path);
+        LOGGER.info("Created user boards directory at " + path);
+      } catch (IOException e) {
+        LOGGER.log(Level.WARNING, "Could not create user boards directory: " + e.getMessage(), e);
+      }
+    }
+  }
+
+  /**
+   * Registers the native (built-in) boards from resources by their headers.
+   */
+  private void loadNativeBoards() {
+    for (String resourcePath : NATIVE_BOARDS) {
+      try (InputStream stream = getClass().getResourceAsStream(resourcePath)) {
+        if (stream == null) {
+          LOGGER.warning("Could not find resource: " + resourcePath);
+          continue;
+        }
+
+        BoardHeader header = reader.readHeader(stream);
+        register(BoardSummary.of(header), resourcePath);
+        LOGGER.fine("Found native board: " + header.getName());
+      } catch (IOException e) {
+        LOGGER.log(Level.WARNING, "Failed to load native board: " + resourcePath, e);
+      }
+    }
+  }
+
+  /**
+   * Starts watching a user boards directory and scanning its current boards. The watcher is
+   * started first, so files saved during the scan are not missed.
+   *
+   * @param directory The directory to watch
+   */
+  private synchronized void watchUserBoards(Path directory) {
+    binaryCache = new BinaryBoardCache(directory.resolve(CACHE_DIRECTORY), reader);
+    summaryIndex = new BoardSummaryIndex(directory.resolve(CACHE_DIRECTORY).resolve(BoardSummaryIndex.INDEX_FILE));
+    if (watcher != null) {
+      try {
+        watcher.close();
+      } catch (IOException e) {
+        LOGGER.log(Level.FINE, "Could not stop watching " + watcher.getDirectory(), e);
+      }
+      watcher = null;
+    }
+    try {
+      watcher = new BoardDirectoryWatcher(directory, BoardDirectoryWatcher.DEFAULT_DEBOUNCE_MILLIS,
+          this::userBoardFilesChanged);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Could not watch user boards directory, new boards are found on restart: "
+          + directory, e);
+    }
+    userBoardsScan = new CompletableFuture<>();
+    boardSummariesScan = new CompletableFuture<>();
+    scanUserBoards(directory, userBoardsScan, boardSummariesScan);
+    userBoardsScan.thenRun(() -> notifyObservers(BOARDS_CHANGED));
+    boardSummariesScan.thenRun(() -> notifyObservers(BOARDS_CHANGED));
+  }
+
+  /**
+   * Updates the boards of files reported by the watcher. Each changed file is read again, and a
+   * deleted file's boards are removed.
+   */
+  private void userBoardFilesChanged(Set<Path> files, boolean overflow) {
+    if (overflow) {
+      LOGGER.info("Missed changes in the user boards directory, scanning it again");
+      Set<String> existing = new HashSet<>();
+      for (String path : boardPathMap.values()) {
+        PackedBoard packed = packedBoards.get(path);
+        existing.add(packed != null ? packed.pack.getFile().toString() : path);
+      }
+      for (String path : existing) {
+        if (!NO_FILE.equals(path) && !isNativeBoard(path) && !Files.exists(Paths.get(path))) {
+          reloadUserBoard(Paths.get(path));
+        }
+      }
+      scanDirectory(Paths.get(userBoardsDirectory));
+      summarizeBoards();
+    } else {
+      files.forEach(this::reloadUserBoard);
+    }
+    notifyObservers(BOARDS_CHANGED);
+  }
+
+  /**
+   * Reads the header of one user board file again, or removes its board if the file is gone. A
+   * pack is mounted again, or its boards removed.
+   */
+  private void reloadUserBoard(Path file) {
+    String path = file.toAbsolutePath().toString();
+    if (isPackFile(file)) {
+      unregisterFile(path);
+      if (Files.isRegularFile(file)) {
+        try {
+          mountPackFile(file);
+        } catch (IOException e) {
+          LOGGER.log(Level.WARNING, "Failed to reload board pack: " + file.getFileName(), e);
+        }
+      }
+      return;
+    }
+
+    BoardHeader header = null;
+    if (Files.isRegularFile(file)) {
+      try (InputStream stream = Files.newInputStream(file)) {
+        header = reader.readHeader(stream);
+      } catch (IOException e) {
+        LOGGER.log(Level.WARNING, "Failed to reload user board: " + file.getFileName(), e);
+      }
+    }
+
+    // The name may have changed, so drop every name the file was registered under
+    unregisterFile(path);
+    if (header != null) {
+      register(BoardSummary.of(header), path);
+      summarizeUserBoard(file);
+      summaryIndex.store();
+      LOGGER.fine("Reloaded user board: " + header.getName());
+    } else {
+      binaryCache.remove(file);
+      LOGGER.fine("Removed user board file: " + file.getFileName());
+    }
+  }
+
+  /**
+   * Removes the boards of a board file or of every board in a pack, and their parsed boards.
+   */
+  private void unregisterFile(String path) {
+    String packPrefix = path + PACK_SEPARATOR;
+    synchronized (boardPathMap) {
+      Set<String> freedNames = new HashSet<>();
+      boardPathMap.entrySet().removeIf(entry -> {
+        String boardPath = entry.getValue();
+        boolean stale = boardPath.equals(path) || boardPath.startsWith(packPrefix);
+        if (stale) {
+          BoardSummary summary = searchIndex.get(entry.getKey());
+          if (summary != null && summary.getName().equals(entry.getKey())) {
+            freedNames.add(entry.getKey());
+          }
+          searchIndex.remove(entry.getKey());
+          pathNameMap.remove(boardPath);
+          packedBoards.remove(boardPath);
+          contentHashes.remove(boardPath);
+          synchronized (boardCache) {
+            boardCache.remove(boardPath);
+          }
+        }
+        return stale;
+      });
+      if (!freedNames.isEmpty()) {
+        restoreNames(freedNames);
+      }
+    }
+    contentHashes.remove(path);
+    synchronized (boardCache) {
+      boardCache.remove(path);
+    }
+  }
+
+  /**
+   * Gives boards listed under a longer name because of a name clash their own name back, once the
+   * board they clashed with is gone. Of several such boards, the one whose path sorts first wins.
+   */
+  private void restoreNames(Set<String> freedNames) {
+    Map<String, String> restored = new HashMap<>();
+    for (Map.Entry<String, String> entry : boardPathMap.entrySet()) {
+      BoardSummary summary = searchIndex.get(entry.getKey());
+      if (summary != null && freedNames.contains(summary.getName())) {
+        restored.merge(summary.getName(), entry.getValue(), (a, b) -> a.compareTo(b) <= 0 ? a : b);
+      }
+    }
+    restored.forEach((name, path) -> {
+      String longName = pathNameMap.get(path);
+      BoardSummary summary = searchIndex.get(longName);
+      boardPathMap.remove(longName);
+      searchIndex.remove(longName);
+      boardPathMap.put(name, path);
+      pathNameMap.put(path, name);
+      searchIndex.put(name, summary);
+    });
+  }
+
+  /**
+   * Mounts a board pack, so its boards can be loaded by name. A pack mounted before from the same
+   * file is replaced. Observers are notified with {@link #BOARDS_CHANGED}.
+   *
+   * @param file The pack file
+   * @return The number of boards in the pack
+   * @throws IOException If the pack cannot be opened
+   */
+  public int mountPack(Path file) throws IOException {
+    unregisterFile(file.toAbsolutePath().toString());
+    int boards = mountPackFile(file);
+    notifyObservers(BOARDS_CHANGED);
+    return boards;
+  }
+
+  /**
+   * Opens a pack and registers its boards by the names and descriptions in its index.
+   */
+  private int mountPackFile(Path file) throws IOException {
+    Path absolute = file.toAbsolutePath();
+    BoardPack pack = BoardPack.open(absolute, reader);
+    List<BoardPack.Entry> entries = pack.getEntries();
+    for (BoardPack.Entry entry : entries) {
+      String path = absolute + PACK_SEPARATOR + entry.getName();
+      packedBoards.put(path, new PackedBoard(pack, entry.getName()));
+      contentHashes.put(path, new CachedBoard(null, entry.getContentHash(), -1, -1));
+      register(entry.getSummary(), path);
+    }
+    LOGGER.fine("Mounted board pack " + absolute.getFileName() + " with " + entries.size() + " boards");
+    return entries.size();
+  }
+
+  private static boolean isPackFile(Path file) {
+    return file.getFileName().toString().toLowerCase().endsWith(BoardPack.SUFFIX);
+  }
+
+  /**
+   * Starts registering the user-created boards in a directory by their headers on a background
+   * thread, and then completing the summaries of the boards that are not indexed.
+   *
+   * @param directory The directory to scan
+   * @param scan Completed when every board file has been registered
+   * @param summaries Completed when every board has been summarized
+   */
+  private void scanUserBoards(Path directory, CompletableFuture<Void> scan, CompletableFuture<Void> summaries) {
+    Thread.ofVirtual().name("board-scan").start(() -> {
+      try {
+        scanDirectory(directory);
+        scan.complete(null);
+      } catch (RuntimeException e) {
+        LOGGER.log(Level.WARNING, "User board scan failed: " + directory, e);
+        scan.completeExceptionally(e);
+        summaries.completeExceptionally(e);
+        return;
+      }
+      try {
+        summarizeBoards();
+        summaries.complete(null);
+      } catch (RuntimeException e) {
+        LOGGER.log(Level.WARNING, "Summarizing boards failed: " + directory, e);
+        summaries.completeExceptionally(e);
+      }
+    });
+  }
+
+  /**
+   * Reads the headers of all board files in a directory in parallel and logs how long it took.
+   * Files that have not changed since they were indexed are registered from the summary index.
+   */
+  private void scanDirectory(Path directory) {
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    long start = System.nanoTime();
+    List<Path> files = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, BoardDirectoryWatcher::isBoardFile)) {
+      stream.forEach(files::add);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Could not list user boards directory: " + directory, e);
+      return;
+    }
+    long listed = System.nanoTime();
+
+    Semaphore permits = new Semaphore(MAX_CONCURRENT_READS);
+    AtomicInteger failed = new AtomicInteger();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (Path file : files) {
+        executor.execute(() -> {
+          permits.acquireUninterruptibly();
+          if (isPackFile(file)) {
+            try {
+              mountPackFile(file);
+            } catch (IOException e) {
+              failed.incrementAndGet();
+              LOGGER.log(Level.WARNING, "Failed to mount board pack: " + file.getFileName(), e);
+            } finally {
+              permits.release();
+            }
+            return;
+          }
+          try {
+            String path = file.toAbsolutePath().toString();
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            long modified = attributes.lastModifiedTime().toMillis();
+            BoardSummary known = summaryIndex.get(path, modified, attributes.size());
+            if (known != null) {
+              register(known, path);
+              contentHashes.put(path, new CachedBoard(null, known.getContentHash(), modified, attributes.size()));
+              LOGGER.fine("Found indexed user board: " + known.getName());
+            } else {
+              BoardHeader header;
+              try (InputStream stream = Files.newInputStream(file)) {
+                header = reader.readHeader(stream);
+              }
+              register(BoardSummary.of(header), path);
+              LOGGER.fine("Found user board: " + header.getName());
+            }
+          } catch (IOException e) {
+            failed.incrementAndGet();
+            LOGGER.log(Level.WARNING, "Failed to load user board: " + file.getFileName(), e);
+          } finally {
+            permits.release();
+          }
+        });
+      }
+    }
+
+    long end = System.nanoTime();
+    LOGGER.info(String.format("Scanned %d user board files in %s: %d failed, listing %.1f ms, reading %.1f ms",
+        files.size(), directory, failed.get(), (listed - start) / 1e6, (end - listed) / 1e6));
+  }
+
+  /**
+   * Registers a board under its name, or under {@code name (file name)} if another board already
+   * has the name and its path sorts first.
+   */
+  private void register(BoardSummary summary, String path) {
+    String name = summary.getName();
+    synchronized (boardPathMap) {
+      String holder = boardPathMap.get(name);
+      if (holder != null && !holder.equals(path)) {
+        if (isNativeBoard(holder) || holder.compareTo(path) < 0) {
+          LOGGER.warning("Board name " + name + " is taken, listing " + path + " as " + longName(name, path));
+          name = longName(name, path);
+        } else {
+          LOGGER.warning("Board name " + name + " is taken, listing " + holder + " as " + longName(name, holder));
+          String longName = longName(name, holder);
+          boardPathMap.put(longName, holder);
+          pathNameMap.put(holder, longName);
+          searchIndex.put(longName, searchIndex.get(name));
+        }
+      }
+      String oldName = pathNameMap.put(path, name);
+      if (oldName != null && !oldName.equals(name)) {
+        boardPathMap.remove(oldName);
+        searchIndex.remove(oldName);
+      }
+      boardPathMap.put(name, path);
+      searchIndex.put(name, summary);
+    }
+  }
+
+  private String longName(String name, String path) {
+    PackedBoard packed = packedBoards.get(path);
+    Path file = packed != null ? packed.pack.getFile() : Paths.get(path);
+    return name + " (" + file.getFileName() + ")";
+  }
+
+  /**
+   * Replaces the summary of the board at a path with one of the parsed board, adding its tile
+   * count, ladder count and content hash.
+   */
+  private void completeSummary(String path, Board board, long modified, long size) {
+    completeSummary(path, BoardSummary.of(board), modified, size);
+  }
+
+  /**
+   * Replaces the summary of the board at a path with a complete one, and keeps it in the summary
+   * index if the board is read from a user board file.
+   */
+  private void completeSummary(String path, BoardSummary summary, long modified, long size) {
+    if (modified >= 0) {
+      summaryIndex.put(path, modified, size, summary);
+    }
+    contentHashes.put(path, new CachedBoard(null, summary.getContentHash(), modified, size));
+    synchronized (boardPathMap) {
+      String name = pathNameMap.get(path);
+      BoardSummary current = name == null ? null : searchIndex.get(name);
+      if (current != null && current.getName().equals(summary.getName())) {
+        searchIndex.put(name, summary);
+      }
+    }
+  }
+
+  /**
+   * Completes the summaries of the registered boards that only have their header, in parallel,
+   * then drops the summaries of files that are gone from the summary index and stores it. The
+   * native boards are small and bundled, so they are parsed on every start.
+   */
+  private void summarizeBoards() {
+    long start = System.nanoTime();
+    List<String> missing = new ArrayList<>();
+    Set<String> userFiles = new HashSet<>();
+    synchronized (boardPathMap) {
+      for (Map.Entry<String, String> entry : boardPathMap.entrySet()) {
+        String path = entry.getValue();
+        if (NO_FILE.equals(path) || packedBoards.containsKey(path)) {
+          continue;
+        }
+        if (!isNativeBoard(path)) {
+          userFiles.add(path);
+        }
+        BoardSummary summary = searchIndex.get(entry.getKey());
+        if (summary != null && !summary.isComplete()) {
+          missing.add(path);
+        }
+      }
+    }
+
+    Semaphore permits = new Semaphore(MAX_CONCURRENT_READS);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (String path : missing) {
+        executor.execute(() -> {
+          permits.acquireUninterruptibly();
+          try {
+            if (isNativeBoard(path)) {
+              summarizeNativeBoard(path);
+            } else {
+              summarizeUserBoard(Paths.get(path));
+            }
+          } finally {
+            permits.release();
+          }
+        });
+      }
+    }
+    BoardSummaryIndex index = summaryIndex;
+    index.retainAll(userFiles);
+    index.store();
+    LOGGER.info(String.format("Summarized %d boards in %.1f ms", missing.size(), (System.nanoTime() - start) / 1e6));
+  }
+
+  /**
+   * Parses a native board to complete its summary.
+   */
+  private void summarizeNativeBoard(String resourcePath) {
+    try {
+      completeSummary(resourcePath, loadBoard(resourcePath), -1, -1);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Failed to read native board: " + resourcePath, e);
+    }
+  }
+
+  /**
+   * Completes the summary of a user board from the summary index, or else by parsing it, through
+   * its binary copy if it has one. The board itself is not kept.
+   */
+  private void summarizeUserBoard(Path file) {
+    try {
+      String path = file.toAbsolutePath().toString();
+      BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      long modified = attributes.lastModifiedTime().toMillis();
+      BoardSummary known = summaryIndex.get(path, modified, attributes.size());
+      if (known != null) {
+        completeSummary(path, known, modified, attributes.size());
+      } else {
+        completeSummary(path, binaryCache.read(file), modified, attributes.size());
+      }
+    } catch (IOException e) {
+      LOGGER.log(Level.FINE, "Could not summarize user board: " + file.getFileName(), e);
+    }
+  }
+
+  /**
+   * Sets a custom directory for user-created boards.
+   *
+   * @param directory The new directory path
+   */
+  public void setUserBoardsDirectory(String directory) {
+    this.userBoardsDirectory = directory;
+    createUserBoardsDirectory();
+    watchUserBoards(Paths.get(directory));
+  }
+
+  /**
+   * Gets the scan of the user boards directory started at startup or by the last call to
+   * {@link #setUserBoardsDirectory(String)}.
+   *
+   * @return A future completing when all user boards have been registered
+   */
+  public CompletableFuture<Void> getUserBoardsScan() {
+    return userBoardsScan;
+  }
+
+  /**
+   * Gets the pass completing the board summaries after the scan of the user boards directory.
+   *
+   * @return A future completing when every board has its tile count, ladder count and content hash
+   */
+  public CompletableFuture<Void> getBoardSummariesScan() {
+    return boardSummariesScan;
+  }
+
+  /**
+   * Gets all available board names.
+   *
+   * @return List of board names
+   */
+  public List<String> getBoardNames() {
+    List<String> names = new ArrayList<>(boardPathMap.keySet());
+    if (!names.contains("Normal")) {
+      names.add(0, "Normal");
+    }
+    return names;
+  }
+
+  /**
+   * Gets the description of a board without loading it.
+   *
+   * @param boardName The name of the board
+   * @return The description, or null if the board is not known
+   */
+  public String getBoardDescription(String boardName) {
+    BoardSummary summary = searchIndex.get(boardName);
+    return summary == null ? null : summary.getDescription();
+  }
+
+  /**
+   * Gets the summary of a board without loading it. The tile count, ladder count and content hash
+   * are known once the board has been read or found in the summary index, at the latest when
+   * {@link #getBoardSummariesScan()} is done.
+   *
+   * @param boardName The name of the board
+   * @return The summary, or null if the board is not known
+   */
+  public BoardSummary getBoardSummary(String boardName) {
+    return searchIndex.get(boardName);
+  }
+
+  /**
+   * Finds the boards matching a query, see {@link BoardSearchIndex#search(String)}.
+   *
+   * @param query The query, e.g. {@code spiral ladders>10}
+   * @return The names of the matching boards
+   */
+  public List<String> searchBoards(String query) {
+    return searchIndex.search(query);
+  }
+
+  /**
+   * Finds the boards with the same content as a board, including the board itself.
+   *
+   * @param boardName The name of the board
+   * @return The names of the boards with the same content hash, or an empty list if the board is
+   *     not known or not read yet
+   */
+  public List<String> getDuplicates(String boardName) {
+    BoardSummary summary = searchIndex.get(boardName);
+    if (summary == null || !summary.isComplete()) {
+      return List.of();
+    }
+    return searchIndex.findByContentHash(summary.getContentHash());
+  }
+
+  /**
+   * Finds the boards with the given content, e.g. the board a game was saved on after it was
+   * renamed. Only boards that have been read are found.
+   *
+   * @param contentHash The content hash, see {@link Board#getContentHash()}
+   * @return The names of the boards with that content hash, sorted
+   */
+  public List<String> findBoardsByContentHash(long contentHash) {
+    return contentHash == 0 ? List.of() : searchIndex.findByContentHash(contentHash);
+  }
+
+  /**
+   * Loads a board by its name. The board is parsed on first use and then served from the cache
+   * until its file changes. Never waits for the scan of the user boards, so a user board that
+   * has not been scanned yet is not found; use {@link #getBoardByNameAsync(String)} for that.
+   *
+   * @param boardName The name of the board to load
+   * @return The loaded Board, or null if not found
+   */
+  public Board getBoardByName(String boardName) {
+    if ("Normal".equalsIgnoreCase(boardName)) {
+      return defaultBoard; // Use hard-coded default board
+    }
+    String path = boardPathMap.get(boardName);
+    if (path == null && !userBoardsScan.isDone()) {
+      LOGGER.info("Board not found yet, user boards are still being scanned: " + boardName);
+      return null;
+    }
+    if (path == null || NO_FILE.equals(path)) {
+      LOGGER.warning("Board not found: " + boardName);
+      return null;
+    }
+    try {
+      return loadBoard(path);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Failed to load board: " + boardName, e);
+      return null;
+    }
+  }
+
+  /**
+   * Loads a board by its name once it is known, i.e. right away if it is registered, and
+   * otherwise after the scan of the user boards has finished, as it may be a user board.
+   *
+   * @param boardName The name of the board to load
+   * @return The loaded Board, or null if not found
+   */
+  public CompletableFuture<Board> getBoardByNameAsync(String boardName) {
+    CompletableFuture<Void> scan = userBoardsScan;
+    if (scan.isDone() || "Normal".equalsIgnoreCase(boardName) || boardPathMap.containsKey(boardName)) {
+      return CompletableFuture.completedFuture(getBoardByName(boardName));
+    }
+    return scan.exceptionally(e -> null).thenApply(v -> getBoardByName(boardName));
+  }
+
+  /**
+   * Gets the immutable snapshot of a board, to be shared by any number of games.
+   *
+   * @param boardName The name of the board
+   * @return The snapshot, or null if not found
+   */
+  public BoardSnapshot getBoardSnapshot(String boardName) {
+    Board board = getBoardByName(boardName);
+    return board == null ? null : board.getSnapshot();
+  }
+
+  /**
+   * Gets a board from the cache, parsing it again if it is not cached or its file has changed.
+   */
+  private Board loadBoard(String path) throws IOException {
+    boolean resource = isNativeBoard(path);
+    PackedBoard packed = packedBoards.get(path);
+    long modified = -1;
+    long size = -1;
+    if (!resource && packed == null) {
+      BasicFileAttributes attributes = Files.readAttributes(Paths.get(path), BasicFileAttributes.class);
+      modified = attributes.lastModifiedTime().toMillis();
+      size = attributes.size();
+    }
+
+    synchronized (boardCache) {
+      CachedBoard cached = boardCache.get(path);
+      if (cached != null && cached.modified == modified && cached.size == size) {
+        return cached.board;
+      }
+      // A board with the same content may be parsed already under another path
+      CachedBoard known = contentHashes.get(path);
+      if (known != null && known.modified == modified && known.size == size) {
+        Board shared = findShared(path, known.contentHash);
+        if (shared != null) {
+          boardCache.put(path, new CachedBoard(shared, known.contentHash, modified, size));
+          return shared;
+        }
+      }
+    }
+
+    Board board;
+    if (resource) {
+      try (InputStream stream = getClass().getResourceAsStream(path)) {
+        if (stream == null) {
+          throw new IOException("Resource not found: " + path);
+        }
+        board = reader.readBoard(stream);
+      }
+    } else if (packed != null) {
+      board = packed.pack.readBoard(packed.name);
+    } else {
+      board = binaryCache.read(Paths.get(path));
+    }
+    if (!resource && packed == null) {
+      completeSummary(path, board, modified, size);
+    }
+    board.freeze();
+    synchronized (boardCache) {
+      Board shared = findShared(path, board.getContentHash());
+      board = shared != null ? shared : board;
+      boardCache.put(path, new CachedBoard(board, board.getContentHash(), modified, size));
+    }
+    LOGGER.fine("Parsed board: " + board.getBoardName());
+    return board;
+  }
+
+  /**
+   * Finds a cached board with the given content and the name and description of the board at a
+   * path. Must be called holding the lock of the board cache.
+   */
+  private Board findShared(String path, long contentHash) {
+    String name = pathNameMap.get(path);
+    BoardSummary summary = name == null ? null : searchIndex.get(name);
+    if (summary == null) {
+      return null;
+    }
+    for (CachedBoard cached : boardCache.values()) {
+      Board board = cached.board;
+      if (cached.contentHash == contentHash && board.getBoardName().equals(summary.getName())
+          && board.getDescription().equals(summary.getDescription())) {
+        return board;
+      }
+    }
+    return null;
+  }
+
+  private static boolean isNativeBoard(String path) {
+    for (String resourcePath : NATIVE_BOARDS) {
+      if (resourcePath.equals(path)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks if a board with the given name exists.
+   *
+   * @param boardName The name to check
+   * @return true if the board exists, false otherwise
+   */
+  public boolean boardExists(String boardName) {
+    return boardPathMap.containsKey(boardName);
+  }
+
+  /**
+   * Adds a new board to the registry. A board that is not saved to a file cannot take the name of
+   * a board from a file, as it has no file name to be told apart by.
+   *
+   * @param board The board to add
+   * @param saveToFile Whether to save this board to a file
+   * @return true if added successfully, false otherwise
+   */
+  public boolean addBoard(Board board, boolean saveToFile) {
+    if (board == null || board.getBoardName() == null || board.getBoardName().isEmpty()) {
+      return false;
+    }
+
+    if (saveToFile) {
+      try {
+        String fileName = board.getBoardName().replaceAll("[^a-zA-Z0-9-_]", "_") + ".json";
+        Path filePath = Paths.get(userBoardsDirectory, fileName);
+
+        BoardFileWriterGson writer = new BoardFileWriterGson();
+        writer.writeBoard(board, filePath.toString());
+
+        unregisterFile(filePath.toString());
+        register(BoardSummary.of(board), filePath.toString());
+        synchronized (boardCache) {
+          boardCache.remove(filePath.toString());
+        }
+        return true;
+      } catch (IOException e) {
+        LOGGER.log(Level.WARNING, "Failed to save board: " + board.getBoardName(), e);
+        return false;
+      }
+    } else {
+      // Just add to memory without saving
+      synchronized (boardPathMap) {
+        String holder = boardPathMap.get(board.getBoardName());
+        if (holder != null && !NO_FILE.equals(holder)) {
+          LOGGER.warning("Board name " + board.getBoardName() + " is taken by " + holder + ", not adding the board");
+          return false;
+        }
+        boardPathMap.put(board.getBoardName(), NO_FILE);
+        searchIndex.put(board.getBoardName(), BoardSummary.of(board));
+      }
+      return true;
+    }
+  }
+
+  /**
+   * A parsed board, or only its content hash, with the modification time and size its file had
+   * when it was read, both -1 for boards read from resources and packs.
+   */
+  private static final class CachedBoard {
+    private final Board board;
+    private final long contentHash;
+    private final long modified;
+    private final long size;
+
+    CachedBoard(Board board, long contentHash, long modified, long size) {
+      this.board = board;
+      this.contentHash = contentHash;
+      this.modified = modified;
+      this.size = size;
+    }
+  }
+
+  /**
+   * A board in a mounted pack.
+   */
+  private static final class PackedBoard {
+    private final BoardPack pack;
+    private final String name;
+
+    PackedBoard(BoardPack pack, String name) {
+      this.pack = pack;
+      this.name = name;
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory index of board summaries by registry name, searched as the user types.
+ *
+ * <p>A query is a list of terms separated by spaces. A term like {@code tiles>50},
+ * {@code ladders<=10} or {@code tiles=90} compares the tile or ladder count, using one of
+ * {@code < <= = >= >}. Any other term must appear in the name or description, ignoring case.
+ * Boards whose counts are not known yet never match a count term. Name and description are lower
+ * cased once when a board is added, so a search is a single pass of substring checks over the
+ * boards. The index is safe to use from several threads.
+ */
+public class BoardSearchIndex {
+  private static final Pattern COUNT_TERM = Pattern.compile("(tiles|ladders)(<=|>=|<|>|=)(\\d{1,9})");
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Adds a board, replacing any board indexed under the same name.
+   *
+   * @param name the name the board is registered under
+   * @param summary the summary of the board
+   */
+  public void put(String name, BoardSummary summary) {
+    entries.put(name, new Entry(name, summary));
+  }
+
+  /**
+   * Removes a board.
+   *
+   * @param name the name the board is registered under
+   */
+  public void remove(String name) {
+    entries.remove(name);
+  }
+
+  /**
+   * Gets the summary of a board.
+   *
+   * @param name the name the board is registered under
+   * @return the summary, or null if the board is not indexed
+   */
+  public BoardSummary get(String name) {
+    Entry entry = entries.get(name);
+    return entry == null ? null : entry.summary;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Finds the boards with the given content, i.e. the duplicates of a board.
+   *
+   * @param contentHash the content hash, must not be 0
+   * @return the names of the boards with that content hash, sorted
+   */
+  public List<String> findByContentHash(long contentHash) {
+    List<String> names = new ArrayList<>();
+    for (Entry entry : entries.values()) {
+      if (entry.summary.getContentHash() == contentHash) {
+        names.add(entry.name);
+      }
+    }
+    names.sort(null);
+    return names;
+  }
+
+  /**
+   * Finds the boards matching a query. Boards whose name starts with the first text term come
+   * first, the rest are sorted by name ignoring case.
+   *
+   * @param query the query, an empty query matches every board
+   * @return the names of the matching boards
+   */
+  public List<String> search(String query) {
+    List<String> words = new ArrayList<>();
+    List<int[]> counts = new ArrayList<>();
+    for (String term : query.toLowerCase(Locale.ROOT).trim().split("\\s+")) {
+      Matcher matcher = COUNT_TERM.matcher(term);
+      if (matcher.matches()) {
+        counts.add(new int[] {"tiles".equals(matcher.group(1)) ? 0 : 1, operator(matcher.group(2)),
+            Integer.parseInt(matcher.group(3))});
+      } else if (!term.isEmpty()) {
+        words.add(term);
+      }
+    }
+
+    List<Entry> matches = new ArrayList<>();
+    for (Entry entry : entries.values()) {
+      if (matches(entry, words, counts)) {
+        matches.add(entry);
+      }
+    }
+    String prefix = words.isEmpty() ? "" : words.getFirst();
+    matches.sort(Comparator.comparing((Entry entry) -> !entry.lowerName.startsWith(prefix))
+        .thenComparing(entry -> entry.lowerName).thenComparing(entry -> entry.name));
+
+    List<String> names = new ArrayList<>(matches.size());
+    for (Entry entry : matches) {
+      names.add(entry.name);
+    }
+    return names;
+  }
+
+  private static boolean matches(Entry entry, List<String> words, List<int[]> counts) {
+    for (int[] count : counts) {
+      int value = count[0] == 0 ? entry.summary.getTileCount() : entry.summary.getLadderCount();
+      if (value == BoardSummary.UNKNOWN || !compare(value, count[1], count[2])) {
+        return false;
+      }
+    }
+    for (String word : words) {
+      if (!entry.lowerName.contains(word) && !entry.lowerDescription.contains(word)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Operators as ints, so a search does not look them up by string for every board
+  private static int operator(String symbol) {
+    return switch (symbol) {
+      case "<" -> 0;
+      case "<=" -> 1;
+      case "=" -> 2;
+      case ">=" -> 3;
+      default -> 4;
+    };
+  }
+
+  private static boolean compare(int value, int operator, int bound) {
+    return switch (operator) {
+      case 0 -> value < bound;
+      case 1 -> value <= bound;
+      case 2 -> value == bound;
+      case 3 -> value >= bound;
+      default -> value > bound;
+    };
+  }
+
+  private static final class Entry {
+    private final String name;
+    private final String lowerName;
+    private final String lowerDescription;
+    private final BoardSummary summary;
+
+    Entry(String name, BoardSummary summary) {
+      this.name = name;
+      this.lowerName = name.toLowerCase(Locale.ROOT);
+      this.lowerDescription = summary.getDescription().toLowerCase(Locale.ROOT);
+      this.summary = summary;
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.Tile;
+import java.util.Objects;
+
+/**
+ * What the board registry knows about a board without keeping it parsed: its header, its size and
+ * its content hash. The counts and hash are unknown until the board has been read once.
+ */
+public final class BoardSummary {
+  /** Tile and ladder count of a board that has not been read yet. */
+  public static final int UNKNOWN = -1;
+
+  private final String name;
+  private final String description;
+  private final int tileCount;
+  private final int ladderCount;
+  private final long contentHash;
+
+  /**
+   * Creates a summary.
+   *
+   * @param name the board name
+   * @param description the board description
+   * @param tileCount the number of tiles, or {@link #UNKNOWN}
+   * @param ladderCount the number of ladders, or {@link #UNKNOWN}
+   * @param contentHash the {@link Board#getContentHash() content hash}, or 0 if unknown
+   */
+  public BoardSummary(String name, String description, int tileCount, int ladderCount, long contentHash) {
+    this.name = Objects.requireNonNull(name, "Name cannot be null");
+    this.description = Objects.requireNonNull(description, "Description cannot be null");
+    this.tileCount = tileCount;
+    this.ladderCount = ladderCount;
+    this.contentHash = contentHash;
+  }
+
+  /**
+   * Creates a summary of a header, with the counts and hash unknown.
+   *
+   * @param header the board header
+   * @return the summary
+   */
+  public static BoardSummary of(BoardHeader header) {
+    return new BoardSummary(header.getName(), header.getDescription(), UNKNOWN, UNKNOWN, 0);
+  }
+
+  /**
+   * Creates the summary of a parsed board.
+   *
+   * @param board the board
+   * @return the summary
+   */
+  public static BoardSummary of(Board board) {
+    int ladders = 0;
+    for (Tile tile : board.getTiles()) {
+      if (tile.hasLadderAction()) {
+        ladders++;
+      }
+    }
+    return new BoardSummary(board.getBoardName(), board.getDescription(), board.getTiles().size(), ladders,
+        board.getContentHash());
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public int getTileCount() {
+    return tileCount;
+  }
+
+  public int getLadderCount() {
+    return ladderCount;
+  }
+
+  public long getContentHash() {
+    return contentHash;
+  }
+
+  /**
+   * Checks if the board has been read, so its counts and content hash are known.
+   *
+   * @return true if the counts and hash are known
+   */
+  public boolean isComplete() {
+    return contentHash != 0;
+  }
+
+  @Override
+  public String toString() {
+    return "BoardSummary{" + "name='" + name + '\'' + ", tiles=" + tileCount + ", ladders=" + ladderCount
+        + ", contentHash=" + Long.toHexString(contentHash) + '}';
+  }
+}
@@ -0,0 +1,198 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Index of the summaries of the user board files, so the board registry does not have to parse
+ * every board on every start to know its tile count, ladder count and content hash.
+ *
+ * <p>Each summary is kept with the modification time and size the file had when it was parsed,
+ * and is only used while the file still has both. The index is read from its file the first time
+ * it is needed and written back by {@link #store()} when it has changed. If the file is missing
+ * or damaged, the boards are parsed again and the index rebuilt from them.
+ *
+ * <p>Format: magic, format version and number of entries, then for each board the absolute path
+ * of its file, its modification time and size, its name and description, tile count, ladder count
+ * and content hash, as written by {@link DataOutputStream}.
+ */
+public class BoardSummaryIndex {
+  private static final Logger LOGGER = Logger.getLogger(BoardSummaryIndex.class.getName());
+
+  /** Name of the index file in the cache directory of the user boards. */
+  public static final String INDEX_FILE = "summaries.idx";
+  /** Version of the index format. An index of another version is rebuilt. */
+  public static final int FORMAT_VERSION = 1;
+
+  private static final int MAGIC = 0x4C42534D; // "LBSM"
+  private static final int MAX_INDEX_SIZE = 64 * 1024 * 1024;
+  // Longest text sure to fit in writeUTF, which takes at most 3 bytes per char
+  private static final int MAX_TEXT_LENGTH = 65535 / 3;
+
+  private final Path indexFile;
+  // By absolute path, null until the index has been read
+  private Map<String, Entry> entries;
+  private boolean changed;
+
+  /**
+   * Creates an index kept in a file.
+   *
+   * @param indexFile the index file
+   */
+  public BoardSummaryIndex(Path indexFile) {
+    this.indexFile = Objects.requireNonNull(indexFile, "Index file cannot be null");
+  }
+
+  public Path getIndexFile() {
+    return indexFile;
+  }
+
+  /**
+   * Gets the summary of a board file, if the file has not changed since it was summarized.
+   *
+   * @param path the absolute path of the board file
+   * @param modified the modification time of the file in milliseconds
+   * @param size the size of the file in bytes
+   * @return the summary, or null if the file is not indexed or has changed
+   */
+  public synchronized BoardSummary get(String path, long modified, long size) {
+    load();
+    Entry entry = entries.get(path);
+    return entry != null && entry.modified == modified && entry.size == size ? entry.summary : null;
+  }
+
+  /**
+   * Records the summary of a board file. Summaries without counts and content hash, and of boards
+   * whose name or description is too long for the index, are not recorded.
+   *
+   * @param path the absolute path of the board file
+   * @param modified the modification time of the file in milliseconds
+   * @param size the size of the file in bytes
+   * @param summary the summary of the board in the file
+   */
+  public synchronized void put(String path, long modified, long size, BoardSummary summary) {
+    if (!summary.isComplete() || path.length() > MAX_TEXT_LENGTH
+        || summary.getName().length() > MAX_TEXT_LENGTH
+        || summary.getDescription().length() > MAX_TEXT_LENGTH) {
+      return;
+    }
+    load();
+    Entry entry = new Entry(modified, size, summary);
+    if (!entry.isSameAs(entries.put(path, entry))) {
+      changed = true;
+    }
+  }
+
+  /**
+   * Drops the summaries of every file but the given ones, e.g. of files that were deleted.
+   *
+   * @param paths the absolute paths of the board files to keep
+   */
+  public synchronized void retainAll(Set<String> paths) {
+    load();
+    changed |= entries.keySet().retainAll(paths);
+  }
+
+  /**
+   * Writes the index to its file, if it has changed since it was read or last written.
+   */
+  public synchronized void store() {
+    if (!changed) {
+      return;
+    }
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream output = new DataOutputStream(bytes);
+      output.writeInt(MAGIC);
+      output.writeInt(FORMAT_VERSION);
+      output.writeInt(entries.size());
+      for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+        BoardSummary summary = entry.getValue().summary;
+        output.writeUTF(entry.getKey());
+        output.writeLong(entry.getValue().modified);
+        output.writeLong(entry.getValue().size);
+        output.writeUTF(summary.getName());
+        output.writeUTF(summary.getDescription());
+        output.writeInt(summary.getTileCount());
+        output.writeInt(summary.getLadderCount());
+        output.writeLong(summary.getContentHash());
+      }
+      output.flush();
+      AtomicFiles.write(indexFile, channel -> bytes.writeTo(Channels.newOutputStream(channel)));
+      changed = false;
+    } catch (IOException | RuntimeException e) {
+      // The boards are parsed again next time
+      LOGGER.log(Level.WARNING, "Could not write board summary index " + indexFile, e);
+    }
+  }
+
+  /**
+   * Reads the index if it has not been read yet. A missing or damaged index starts out empty.
+   */
+  private void load() {
+    if (entries != null) {
+      return;
+    }
+    entries = new HashMap<>();
+    try {
+      ByteBuffer buffer = GameSaveCodec.readFully(indexFile, MAX_INDEX_SIZE);
+      DataInputStream input = new DataInputStream(new ByteArrayInputStream(buffer.array(), 0, buffer.limit()));
+      if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+        throw new IOException("Board summary index is of another version");
+      }
+      int count = input.readInt();
+      for (int i = 0; i < count; i++) {
+        String path = input.readUTF();
+        long modified = input.readLong();
+        long size = input.readLong();
+        BoardSummary summary = new BoardSummary(input.readUTF(), input.readUTF(), input.readInt(),
+            input.readInt(), input.readLong());
+        entries.put(path, new Entry(modified, size, summary));
+      }
+      return;
+    } catch (NoSuchFileException e) {
+      LOGGER.info("No board summary index yet, building it: " + indexFile);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Board summary index is damaged, rebuilding it: " + indexFile, e);
+    }
+    entries.clear();
+    changed = true;
+  }
+
+  /**
+   * The summary of a board file and the modification time and size the file had.
+   */
+  private static final class Entry {
+    private final long modified;
+    private final long size;
+    private final BoardSummary summary;
+
+    Entry(long modified, long size, BoardSummary summary) {
+      this.modified = modified;
+      this.size = size;
+      this.summary = summary;
+    }
+
+    boolean isSameAs(Entry other) {
+      return other != null && modified == other.modified && size == other.size
+          && summary.getName().equals(other.summary.getName())
+          && summary.getDescription().equals(other.summary.getDescription())
+          && summary.getTileCount() == other.summary.getTileCount()
+          && summary.getLadderCount() == other.summary.getLadderCount()
+          && summary.getContentHash() == other.summary.getContentHash();
+    }
+  }
+}
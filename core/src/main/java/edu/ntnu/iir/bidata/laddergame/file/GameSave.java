@@ -0,0 +1,142 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.Player;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The state of a game as it is saved: which board it is played on, whose turn it is, the state of
+ * the die and the players with their ranking.
+ *
+ * <p>The board is referenced by name and {@link Board#getContentHash() content hash}, so a save
+ * can tell whether the board with that name has changed since the game was saved. The ranking is
+ * kept as indexes into the player list, so it does not depend on player names being unique.
+ */
+public final class GameSave {
+  private final String boardName;
+  private final long boardContentHash;
+  private final int currentPlayerIndex;
+  private final long dieSeed;
+  private final long dieRollCount;
+  private final List<Player> players;
+  private final int[] rankIndexes;
+
+  /**
+   * Creates a save.
+   *
+   * @param boardName the name of the board
+   * @param boardContentHash the content hash of the board, or 0 if unknown
+   * @param currentPlayerIndex the index of the player whose turn it is
+   * @param dieSeed the seed of the die
+   * @param dieRollCount the number of rolls made with the die
+   * @param players the players in turn order
+   * @param rankIndexes the indexes in {@code players} of the ranked players, best first
+   * @throws IllegalArgumentException if a rank index is not the index of a player, or is given
+   *     twice
+   */
+  public GameSave(String boardName, long boardContentHash, int currentPlayerIndex, long dieSeed,
+      long dieRollCount, List<Player> players, int[] rankIndexes) {
+    this.boardName = Objects.requireNonNull(boardName, "Board name cannot be null");
+    this.boardContentHash = boardContentHash;
+    this.currentPlayerIndex = currentPlayerIndex;
+    this.dieSeed = dieSeed;
+    this.dieRollCount = dieRollCount;
+    this.players = Collections.unmodifiableList(new ArrayList<>(players));
+    this.rankIndexes = rankIndexes.clone();
+    boolean[] ranked = new boolean[this.players.size()];
+    for (int index : this.rankIndexes) {
+      if (index < 0 || index >= ranked.length || ranked[index]) {
+        throw new IllegalArgumentException("Invalid rank index: " + index);
+      }
+      ranked[index] = true;
+    }
+  }
+
+  /**
+   * Creates a save with the ranking given as players.
+   *
+   * @param boardName the name of the board
+   * @param boardContentHash the content hash of the board, or 0 if unknown
+   * @param currentPlayerIndex the index of the player whose turn it is
+   * @param dieSeed the seed of the die
+   * @param dieRollCount the number of rolls made with the die
+   * @param players the players in turn order
+   * @param ranks the ranked players, best first, each one of {@code players}
+   * @return the save
+   * @throws IllegalArgumentException if a ranked player is not one of the players
+   */
+  public static GameSave of(String boardName, long boardContentHash, int currentPlayerIndex, long dieSeed,
+      long dieRollCount, List<Player> players, List<Player> ranks) {
+    Map<Player, Integer> indexes = new IdentityHashMap<>();
+    for (int i = 0; i < players.size(); i++) {
+      indexes.put(players.get(i), i);
+    }
+    int[] rankIndexes = new int[ranks.size()];
+    for (int i = 0; i < rankIndexes.length; i++) {
+      Integer index = indexes.get(ranks.get(i));
+      if (index == null) {
+        throw new IllegalArgumentException("Ranked player is not in the game: " + ranks.get(i).getName());
+      }
+      rankIndexes[i] = index;
+    }
+    return new GameSave(boardName, boardContentHash, currentPlayerIndex, dieSeed, dieRollCount, players,
+        rankIndexes);
+  }
+
+  public String getBoardName() {
+    return boardName;
+  }
+
+  public long getBoardContentHash() {
+    return boardContentHash;
+  }
+
+  public int getCurrentPlayerIndex() {
+    return currentPlayerIndex;
+  }
+
+  public long getDieSeed() {
+    return dieSeed;
+  }
+
+  public long getDieRollCount() {
+    return dieRollCount;
+  }
+
+  public List<Player> getPlayers() {
+    return players;
+  }
+
+  /**
+   * Gets the ranking as indexes into {@link #getPlayers()}.
+   *
+   * @return a copy of the rank indexes, best first
+   */
+  public int[] getRankIndexes() {
+    return rankIndexes.clone();
+  }
+
+  /**
+   * Gets the ranked players.
+   *
+   * @return the ranked players, best first
+   */
+  public List<Player> getRanks() {
+    List<Player> ranks = new ArrayList<>(rankIndexes.length);
+    for (int index : rankIndexes) {
+      ranks.add(players.get(index));
+    }
+    return ranks;
+  }
+
+  @Override
+  public String toString() {
+    return "GameSave{" + "board='" + boardName + '\'' + ", players=" + players.size() + ", currentPlayer="
+        + currentPlayerIndex + ", ranked=" + rankIndexes.length + '}';
+  }
+}
@@ -0,0 +1,195 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.model.Player;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes games in a compact binary save format.
+ *
+ * <p>A save is read with one read of the whole file into a buffer, and each player is decoded in
+ * constant time: names are length-prefixed, so they may contain any character, and the ranking is
+ * stored as player indexes instead of names.
+ *
+ * <p>Format, little endian: magic, format version, board content hash, index of the current
+ * player, die seed, die roll count, number of players, number of ranked players and the board name
+ * as length-prefixed UTF-8. Then for each player the position, the color as 0xRRGGBBAA, the ship
+ * type and the name as length-prefixed UTF-8, and last the index of each ranked player, best first.
+ */
+public final class GameSaveCodec {
+
+  /** Version of the save format. Saves written by a newer version cannot be read. */
+  public static final int FORMAT_VERSION = 1;
+  /** File name suffix of binary saves. */
+  public static final String SUFFIX = ".cls";
+  /** Saves larger than this are refused without being read. */
+  public static final int MAX_SAVE_SIZE = 16 * 1024 * 1024;
+
+  private static final int MAGIC = 0x5641534C; // "LSAV" in little endian
+  private static final int HEADER_SIZE = 6 * Integer.BYTES + 3 * Long.BYTES;
+  private static final int PLAYER_SIZE = 4 * Integer.BYTES;
+
+  private GameSaveCodec() {
+  }
+
+  /**
+   * Writes a save, replacing any existing file atomically.
+   *
+   * @param target the save file
+   * @param save the game to save
+   * @throws IOException if the save cannot be written
+   */
+  public static void write(Path target, GameSave save) throws IOException {
+    ByteBuffer buffer = encode(save);
+    AtomicFiles.write(target, channel -> {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    });
+  }
+
+  /**
+   * Reads a save.
+   *
+   * @param source the save file
+   * @return the saved game
+   * @throws IOException if the file cannot be read, is not a save, is of a newer version or is
+   *     damaged
+   */
+  public static GameSave read(Path source) throws IOException {
+    ByteBuffer buffer = readFully(source, MAX_SAVE_SIZE);
+    try {
+      return decode(buffer);
+    } catch (IOException e) {
+      throw new IOException(e.getMessage() + ": " + source, e);
+    }
+  }
+
+  /**
+   * Reads a whole file into a heap buffer with one buffered channel read.
+   *
+   * @param source the file
+   * @param maxSize the largest file accepted
+   * @return the content, ready to be read
+   * @throws IOException if the file cannot be read or is larger than maxSize
+   */
+  static ByteBuffer readFully(Path source, int maxSize) throws IOException {
+    try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > maxSize) {
+        throw new IOException("File is too large: " + source);
+      }
+      ByteBuffer buffer = ByteBuffer.allocate((int) size);
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer) < 0) {
+          throw new IOException("File was truncated while reading: " + source);
+        }
+      }
+      return buffer.flip();
+    }
+  }
+
+  /**
+   * Encodes a save into a buffer.
+   *
+   * @param save the game to save
+   * @return the encoded save, ready to be read
+   */
+  public static ByteBuffer encode(GameSave save) {
+    byte[] boardName = save.getBoardName().getBytes(StandardCharsets.UTF_8);
+    List<Player> players = save.getPlayers();
+    byte[][] names = new byte[players.size()][];
+    int size = HEADER_SIZE + boardName.length;
+    for (int i = 0; i < names.length; i++) {
+      names[i] = players.get(i).getName().getBytes(StandardCharsets.UTF_8);
+      size += PLAYER_SIZE + names[i].length;
+    }
+    int[] rankIndexes = save.getRankIndexes();
+    size += rankIndexes.length * Integer.BYTES;
+
+    ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(save.getBoardContentHash())
+        .putInt(save.getCurrentPlayerIndex()).putLong(save.getDieSeed()).putLong(save.getDieRollCount())
+        .putInt(names.length).putInt(rankIndexes.length).putInt(boardName.length).put(boardName);
+    for (int i = 0; i < names.length; i++) {
+      Player player = players.get(i);
+      buffer.putInt(player.getPositionIndex()).putInt(player.getColor()).putInt(player.getShipType())
+          .putInt(names[i].length).put(names[i]);
+    }
+    for (int index : rankIndexes) {
+      buffer.putInt(index);
+    }
+    return buffer.flip();
+  }
+
+  /**
+   * Decodes a save from a buffer.
+   *
+   * @param buffer the encoded save, read from its position to its limit
+   * @return the saved game
+   * @throws IOException if the buffer does not hold a save, holds one of a newer version or is
+   *     damaged
+   */
+  public static GameSave decode(ByteBuffer buffer) throws IOException {
+    buffer = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+    try {
+      if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+        throw new IOException("Not a saved game");
+      }
+      int version = buffer.getInt();
+      if (version < 1 || version > FORMAT_VERSION) {
+        throw new IOException("Unsupported save version " + version);
+      }
+      long boardContentHash = buffer.getLong();
+      int currentPlayerIndex = buffer.getInt();
+      long dieSeed = buffer.getLong();
+      long dieRollCount = buffer.getLong();
+      int playerCount = buffer.getInt();
+      int rankCount = buffer.getInt();
+      String boardName = getString(buffer);
+      // Every player takes at least PLAYER_SIZE bytes, so a damaged count cannot allocate much
+      if (playerCount < 0 || rankCount < 0 || rankCount > playerCount
+          || (long) playerCount * PLAYER_SIZE + (long) rankCount * Integer.BYTES > buffer.remaining()) {
+        throw new IOException("Save has an invalid number of players");
+      }
+
+      List<Player> players = new ArrayList<>(playerCount);
+      for (int i = 0; i < playerCount; i++) {
+        int position = buffer.getInt();
+        int color = buffer.getInt();
+        int shipType = buffer.getInt();
+        Player player = new Player(getString(buffer), color, shipType);
+        player.setPositionIndex(position);
+        players.add(player);
+      }
+      int[] rankIndexes = new int[rankCount];
+      buffer.asIntBuffer().get(rankIndexes);
+      buffer.position(buffer.position() + rankCount * Integer.BYTES);
+      if (buffer.hasRemaining()) {
+        throw new IOException("Save has " + buffer.remaining() + " bytes too many");
+      }
+      return new GameSave(boardName, boardContentHash, currentPlayerIndex, dieSeed, dieRollCount, players,
+          rankIndexes);
+    } catch (BufferUnderflowException | IllegalArgumentException e) {
+      throw new IOException("Save is damaged", e);
+    }
+  }
+
+  private static String getString(ByteBuffer buffer) {
+    int length = buffer.getInt();
+    if (length < 0 || length > buffer.remaining()) {
+      throw new IllegalArgumentException("Invalid string length: " + length);
+    }
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,336 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.model.Player;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Index of the saved games in the saves directory, so they can be listed with their board,
+ * players and turn count without opening every save.
+ *
+ * <p>The index is kept in the file {@value #INDEX_FILE} in the saves directory and updated
+ * whenever a game is saved. If it is missing or damaged, it is rebuilt from the saves the first
+ * time it is needed. Listing only reads the names in the directory: saves that are gone are
+ * dropped, and only saves that are not indexed yet, e.g. copied in by hand, are opened. CSV saves
+ * that were not saved since the index was created are listed by name and date only.
+ *
+ * <p>Format: magic, format version and number of entries, then for each save its file name, the
+ * time it was saved, the board name and content hash, the turn count and the player names, as
+ * written by {@link DataOutputStream}.
+ */
+public class SaveCatalog {
+  private static final Logger LOGGER = Logger.getLogger(SaveCatalog.class.getName());
+
+  /** Name of the index file in the saves directory. */
+  public static final String INDEX_FILE = ".catalog";
+  /** Version of the index format. An index of another version is rebuilt. */
+  public static final int FORMAT_VERSION = 1;
+  /** Suffix of the CSV saves written by earlier versions. */
+  public static final String CSV_SUFFIX = ".csv";
+
+  private static final int MAGIC = 0x4C434154; // "LCAT"
+  private static final int MAX_INDEX_SIZE = 64 * 1024 * 1024;
+  private static SaveCatalog instance;
+
+  private final Path savesDirectory;
+  private final Path indexFile;
+  // By file name, null until the index has been read or rebuilt
+  private Map<String, Entry> entries;
+
+  /**
+   * Creates a catalog of the saves in a directory.
+   *
+   * @param savesDirectory the saves directory
+   */
+  public SaveCatalog(Path savesDirectory) {
+    this.savesDirectory = Objects.requireNonNull(savesDirectory, "Saves directory cannot be null");
+    this.indexFile = savesDirectory.resolve(INDEX_FILE);
+  }
+
+  /**
+   * Gets the catalog of the saves directory of the user.
+   *
+   * @return the catalog
+   */
+  public static synchronized SaveCatalog getInstance() {
+    if (instance == null) {
+      instance = new SaveCatalog(Paths.get(System.getProperty("user.home") + File.separator + "cosmicladder"
+          + File.separator + "saves"));
+    }
+    return instance;
+  }
+
+  public Path getSavesDirectory() {
+    return savesDirectory;
+  }
+
+  /**
+   * Checks if a file is a save the catalog lists.
+   *
+   * @param file the file
+   * @return true for binary and CSV saves
+   */
+  public static boolean isSaveFile(Path file) {
+    String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+    return !name.startsWith(".") && (name.endsWith(GameSaveCodec.SUFFIX) || name.endsWith(CSV_SUFFIX));
+  }
+
+  /**
+   * Lists the saves, newest first.
+   *
+   * @return the entries of all saves in the directory
+   */
+  public synchronized List<Entry> list() {
+    boolean changed = load();
+    Set<String> names = new HashSet<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(savesDirectory, SaveCatalog::isSaveFile)) {
+      for (Path file : stream) {
+        String name = file.getFileName().toString();
+        names.add(name);
+        if (!entries.containsKey(name)) {
+          entries.put(name, readEntry(file));
+          changed = true;
+        }
+      }
+    } catch (NoSuchFileException e) {
+      // No saves yet
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Could not list saves in " + savesDirectory, e);
+      return sorted(entries.values());
+    }
+    changed |= entries.keySet().retainAll(names);
+    if (changed) {
+      store();
+    }
+    return sorted(entries.values());
+  }
+
+  /**
+   * Records a game that was just saved.
+   *
+   * @param saveFile the save file
+   * @param save the saved game
+   */
+  public synchronized void update(Path saveFile, GameSave save) {
+    load();
+    String name = saveFile.getFileName().toString();
+    entries.put(name, Entry.of(name, lastModified(saveFile), save));
+    store();
+  }
+
+  /**
+   * Removes a save from the catalog, e.g. after it was deleted.
+   *
+   * @param fileName the file name of the save
+   */
+  public synchronized void remove(String fileName) {
+    load();
+    if (entries.remove(fileName) != null) {
+      store();
+    }
+  }
+
+  private static List<Entry> sorted(Iterable<Entry> values) {
+    List<Entry> list = new ArrayList<>();
+    values.forEach(list::add);
+    list.sort(Comparator.comparingLong(Entry::getSavedAt).reversed().thenComparing(Entry::getFileName));
+    return list;
+  }
+
+  /**
+   * Reads the index if it has not been read yet, or rebuilds it.
+   *
+   * @return true if the index was rebuilt and should be stored
+   */
+  private boolean load() {
+    if (entries != null) {
+      return false;
+    }
+    entries = new HashMap<>();
+    try {
+      ByteBuffer buffer = GameSaveCodec.readFully(indexFile, MAX_INDEX_SIZE);
+      DataInputStream input = new DataInputStream(new ByteArrayInputStream(buffer.array(), 0, buffer.limit()));
+      if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+        throw new IOException("Save catalog is of another version");
+      }
+      int count = input.readInt();
+      for (int i = 0; i < count; i++) {
+        String fileName = input.readUTF();
+        long savedAt = input.readLong();
+        String boardName = input.readUTF();
+        long boardContentHash = input.readLong();
+        int turnCount = input.readInt();
+        String[] playerNames = new String[input.readUnsignedShort()];
+        for (int player = 0; player < playerNames.length; player++) {
+          playerNames[player] = input.readUTF();
+        }
+        entries.put(fileName, new Entry(fileName, savedAt, boardName, boardContentHash, turnCount,
+            List.of(playerNames)));
+      }
+      return false;
+    } catch (NoSuchFileException e) {
+      LOGGER.info("No save catalog yet, building it from " + savesDirectory);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Save catalog is damaged, rebuilding it: " + indexFile, e);
+    }
+    entries.clear();
+    // The entries are read back by list(), which finds every save missing from the index
+    return true;
+  }
+
+  private void store() {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream output = new DataOutputStream(bytes);
+      output.writeInt(MAGIC);
+      output.writeInt(FORMAT_VERSION);
+      output.writeInt(entries.size());
+      for (Entry entry : entries.values()) {
+        output.writeUTF(entry.fileName);
+        output.writeLong(entry.savedAt);
+        output.writeUTF(entry.boardName);
+        output.writeLong(entry.boardContentHash);
+        output.writeInt(entry.turnCount);
+        output.writeShort(entry.playerNames.size());
+        for (String playerName : entry.playerNames) {
+          output.writeUTF(playerName);
+        }
+      }
+      output.flush();
+      AtomicFiles.write(indexFile, channel -> bytes.writeTo(Channels.newOutputStream(channel)));
+    } catch (IOException | RuntimeException e) {
+      // The saves are still listed, the index is rebuilt next time
+      LOGGER.log(Level.WARNING, "Could not write save catalog " + indexFile, e);
+    }
+  }
+
+  private static Entry readEntry(Path file) {
+    String name = file.getFileName().toString();
+    long savedAt = lastModified(file);
+    if (name.toLowerCase(Locale.ROOT).endsWith(GameSaveCodec.SUFFIX)) {
+      try {
+        return Entry.of(name, savedAt, GameSaveCodec.read(file));
+      } catch (IOException e) {
+        LOGGER.log(Level.FINE, "Could not read save " + file, e);
+      }
+    }
+    return new Entry(name, savedAt, "", 0, Entry.UNKNOWN, List.of());
+  }
+
+  private static long lastModified(Path file) {
+    try {
+      return Files.getLastModifiedTime(file).toMillis();
+    } catch (IOException e) {
+      return System.currentTimeMillis();
+    }
+  }
+
+  /**
+   * What the catalog knows about one save.
+   */
+  public static final class Entry {
+    /** Turn count of a save that could not be read. */
+    public static final int UNKNOWN = -1;
+
+    private final String fileName;
+    private final long savedAt;
+    private final String boardName;
+    private final long boardContentHash;
+    private final int turnCount;
+    private final List<String> playerNames;
+
+    Entry(String fileName, long savedAt, String boardName, long boardContentHash, int turnCount,
+        List<String> playerNames) {
+      this.fileName = fileName;
+      this.savedAt = savedAt;
+      this.boardName = boardName;
+      this.boardContentHash = boardContentHash;
+      this.turnCount = turnCount;
+      this.playerNames = Collections.unmodifiableList(playerNames);
+    }
+
+    static Entry of(String fileName, long savedAt, GameSave save) {
+      List<String> playerNames = new ArrayList<>(save.getPlayers().size());
+      for (Player player : save.getPlayers()) {
+        playerNames.add(player.getName());
+      }
+      // Every turn is one roll of the die
+      int turnCount = (int) Math.min(Integer.MAX_VALUE, save.getDieRollCount());
+      return new Entry(fileName, savedAt, save.getBoardName(), save.getBoardContentHash(), turnCount, playerNames);
+    }
+
+    public String getFileName() {
+      return fileName;
+    }
+
+    /**
+     * Gets the time the save was written.
+     *
+     * @return the time in milliseconds since the epoch
+     */
+    public long getSavedAt() {
+      return savedAt;
+    }
+
+    /**
+     * Gets the name of the board, empty if not known.
+     *
+     * @return the board name
+     */
+    public String getBoardName() {
+      return boardName;
+    }
+
+    /**
+     * Gets the content hash of the board. It can key a thumbnail of the board, shared by every
+     * save on that board.
+     *
+     * @return the content hash, or 0 if not known
+     */
+    public long getBoardContentHash() {
+      return boardContentHash;
+    }
+
+    /**
+     * Gets the number of turns played.
+     *
+     * @return the turn count, or {@link #UNKNOWN}
+     */
+    public int getTurnCount() {
+      return turnCount;
+    }
+
+    public List<String> getPlayerNames() {
+      return playerNames;
+    }
+
+    @Override
+    public String toString() {
+      return "SaveCatalog.Entry{" + "file='" + fileName + '\'' + ", board='" + boardName + '\'' + ", turns="
+          + turnCount + ", players=" + playerNames + '}';
+    }
+  }
+}
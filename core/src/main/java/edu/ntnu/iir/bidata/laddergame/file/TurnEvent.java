@@ -0,0 +1,86 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.engine.GameEngine;
+
+/**
+ * One turn as it is written to a {@link TurnJournal}: who moved, what they rolled, where they
+ * started, where the roll landed them and where they ended up after any ladder.
+ */
+public final class TurnEvent {
+  private final int playerIndex;
+  private final int roll;
+  private final int from;
+  private final int landing;
+  private final int to;
+
+  /**
+   * Creates a turn event.
+   *
+   * @param playerIndex the seat index of the player that moved
+   * @param roll the die value
+   * @param from the position before the move
+   * @param landing the position the roll landed on
+   * @param to the position after any ladder
+   */
+  public TurnEvent(int playerIndex, int roll, int from, int landing, int to) {
+    this.playerIndex = playerIndex;
+    this.roll = roll;
+    this.from = from;
+    this.landing = landing;
+    this.to = to;
+  }
+
+  /**
+   * Creates the event of the last turn an engine played.
+   *
+   * @param engine the engine
+   * @return the event of its last turn
+   */
+  public static TurnEvent of(GameEngine engine) {
+    return new TurnEvent(engine.getLastPlayerIndex(), engine.getLastRoll(), engine.getLastFromPosition(),
+        engine.getLastLandingPosition(), engine.getLastPosition());
+  }
+
+  public int getPlayerIndex() {
+    return playerIndex;
+  }
+
+  public int getRoll() {
+    return roll;
+  }
+
+  public int getFrom() {
+    return from;
+  }
+
+  public int getLanding() {
+    return landing;
+  }
+
+  public int getTo() {
+    return to;
+  }
+
+  public boolean isLadderTaken() {
+    return landing != to;
+  }
+
+  /**
+   * Checks if this event is the last turn an engine played, i.e. if replaying it gave the same
+   * result as when it was recorded.
+   *
+   * @param engine the engine that replayed the turn
+   * @return true if the engine played the same turn
+   */
+  public boolean matches(GameEngine engine) {
+    return engine.getLastPlayerIndex() == playerIndex && engine.getLastRoll() == roll
+        && engine.getLastFromPosition() == from && engine.getLastLandingPosition() == landing
+        && engine.getLastPosition() == to;
+  }
+
+  @Override
+  public String toString() {
+    return "TurnEvent{" + "player=" + playerIndex + ", roll=" + roll + ", from=" + from + ", landing=" + landing
+        + ", to=" + to + '}';
+  }
+}
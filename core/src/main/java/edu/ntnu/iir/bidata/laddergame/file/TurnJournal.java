@@ -0,0 +1,420 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of the turns of a game, so a game can be rebuilt after a crash.
+ *
+ * <p>The journal starts with a {@link GameSave snapshot} of the game, followed by one record per
+ * turn. {@link #append(TurnEvent)} only puts the event on a queue, so it takes microseconds and
+ * never blocks the caller. A writer thread writes the queued records in batches and forces them
+ * to disk at most every {@link #SYNC_INTERVAL_MILLIS}, so a crash loses at most the turns of the
+ * last interval. A new snapshot replaces the whole journal atomically, which keeps it short.
+ *
+ * <p>{@link #replay(Path)} reads the last snapshot and the turns after it. Every record carries a
+ * CRC-32C checksum, and a record that was only partly written when the game crashed ends the
+ * replay.
+ *
+ * <p>Format, little endian: magic and format version, then records. A record is the length of
+ * its payload, its type, the payload and the CRC-32C of type and payload. A snapshot payload is a
+ * save in the format of {@link GameSaveCodec}, a turn payload is the player index, the roll as a
+ * byte, and the from, landing and to positions.
+ */
+public final class TurnJournal implements Closeable {
+  private static final Logger LOGGER = Logger.getLogger(TurnJournal.class.getName());
+
+  /** Version of the journal format. Journals written with another version are not replayed. */
+  public static final int FORMAT_VERSION = 1;
+  /** File name suffix of turn journals. */
+  public static final String SUFFIX = ".journal";
+  /** Longest time written turns wait before they are forced to disk. */
+  public static final long SYNC_INTERVAL_MILLIS = 200;
+  /** Journals larger than this are not replayed. */
+  public static final int MAX_JOURNAL_SIZE = 64 * 1024 * 1024;
+
+  private static final int MAGIC = 0x4E524A4C; // "LJRN" in little endian
+  private static final int HEADER_SIZE = 2 * Integer.BYTES;
+  private static final byte SNAPSHOT = 1;
+  private static final byte TURN = 2;
+  private static final int TURN_SIZE = 4 * Integer.BYTES + 1;
+  private static final int RECORD_OVERHEAD = 2 * Integer.BYTES + 1;
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final Object STOP = new Object();
+
+  private final Path file;
+  private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+  private final Thread writer;
+  private volatile boolean closed;
+  // Only used by the writer thread once it has started
+  private FileChannel channel;
+  private IOException failure;
+
+  private TurnJournal(Path file, FileChannel channel) {
+    this.file = file;
+    this.channel = channel;
+    this.writer = new Thread(this::writeQueued, "turn-journal-" + file.getFileName());
+    this.writer.setDaemon(true);
+  }
+
+  /**
+   * Starts a journal for a game, replacing any journal in the file.
+   *
+   * @param file the journal file
+   * @param snapshot the state of the game at the start of the journal
+   * @return the journal, ready to take turns
+   * @throws IOException if the journal cannot be written
+   */
+  public static TurnJournal open(Path file, GameSave snapshot) throws IOException {
+    writeSnapshotFile(file, snapshotRecord(snapshot));
+    TurnJournal journal = new TurnJournal(file, FileChannel.open(file, StandardOpenOption.WRITE,
+        StandardOpenOption.APPEND));
+    journal.writer.start();
+    return journal;
+  }
+
+  public Path getFile() {
+    return file;
+  }
+
+  /**
+   * Queues a turn to be written. Returns at once. A turn appended after the journal was closed,
+   * e.g. one that finished playing while the game was being left, is dropped.
+   *
+   * @param event the turn
+   */
+  public void append(TurnEvent event) {
+    synchronized (queue) {
+      if (closed) {
+        LOGGER.fine("Turn journal is closed, dropping turn: " + file);
+        return;
+      }
+      queue.add(event);
+    }
+  }
+
+  /**
+   * Queues a snapshot of the game, which replaces the journal so far. The snapshot is encoded
+   * before this returns, so the game may go on at once.
+   *
+   * @param snapshot the state of the game after the turns appended so far
+   * @throws IllegalStateException if the journal is closed
+   */
+  public void snapshot(GameSave snapshot) {
+    enqueue(snapshotRecord(snapshot));
+  }
+
+  /**
+   * Forces everything queued so far to disk.
+   *
+   * @return a future completed when it is on disk, or completed exceptionally if writing failed
+   * @throws IllegalStateException if the journal is closed
+   */
+  public CompletableFuture<Void> sync() {
+    CompletableFuture<Void> synced = new CompletableFuture<>();
+    enqueue(synced);
+    return synced;
+  }
+
+  /**
+   * Writes and forces everything queued, then closes the file. The journal stays on disk.
+   *
+   * @throws IOException if writing the journal failed at any time
+   */
+  @Override
+  public void close() throws IOException {
+    synchronized (queue) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      queue.add(STOP);
+    }
+    boolean interrupted = false;
+    while (writer.isAlive()) {
+      try {
+        writer.join();
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    if (failure != null) {
+      throw new IOException("Turn journal could not be written: " + file, failure);
+    }
+  }
+
+  private void enqueue(Object item) {
+    synchronized (queue) {
+      if (closed) {
+        throw new IllegalStateException("Turn journal is closed: " + file);
+      }
+      queue.add(item);
+    }
+  }
+
+  /**
+   * The writer thread: takes batches off the queue, writes them and forces them to disk when a
+   * sync is asked for, the journal is closed or the sync interval has passed.
+   */
+  private void writeQueued() {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    CRC32C crc = new CRC32C();
+    List<Object> batch = new ArrayList<>();
+    List<CompletableFuture<Void>> waiting = new ArrayList<>();
+    long syncInterval = TimeUnit.MILLISECONDS.toNanos(SYNC_INTERVAL_MILLIS);
+    long lastSync = System.nanoTime();
+    boolean dirty = false;
+    boolean running = true;
+    while (running) {
+      batch.clear();
+      try {
+        Object first = queue.poll(dirty ? SYNC_INTERVAL_MILLIS : Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        if (first != null) {
+          batch.add(first);
+          queue.drainTo(batch);
+        }
+      } catch (InterruptedException e) {
+        queue.drainTo(batch);
+        batch.add(STOP);
+      }
+
+      for (Object item : batch) {
+        try {
+          if (item instanceof TurnEvent event) {
+            if (buffer.remaining() < TURN_SIZE + RECORD_OVERHEAD) {
+              writeBuffer(buffer);
+            }
+            putTurn(buffer, crc, event);
+            dirty = true;
+          } else if (item instanceof ByteBuffer snapshot) {
+            writeBuffer(buffer);
+            replaceWithSnapshot(snapshot);
+            dirty = false;
+            lastSync = System.nanoTime();
+          } else if (item instanceof CompletableFuture<?> synced) {
+            @SuppressWarnings("unchecked")
+            CompletableFuture<Void> future = (CompletableFuture<Void>) synced;
+            waiting.add(future);
+          } else if (item == STOP) {
+            running = false;
+          }
+        } catch (IOException e) {
+          fail(e);
+        }
+      }
+
+      try {
+        writeBuffer(buffer);
+        long now = System.nanoTime();
+        if (dirty && (!waiting.isEmpty() || !running || now - lastSync >= syncInterval)) {
+          if (failure == null) {
+            channel.force(false);
+          }
+          dirty = false;
+          lastSync = now;
+        }
+      } catch (IOException e) {
+        fail(e);
+      }
+      for (CompletableFuture<Void> future : waiting) {
+        if (failure == null) {
+          future.complete(null);
+        } else {
+          future.completeExceptionally(failure);
+        }
+      }
+      waiting.clear();
+    }
+
+    try {
+      channel.close();
+    } catch (IOException e) {
+      fail(e);
+    }
+  }
+
+  private void putTurn(ByteBuffer buffer, CRC32C crc, TurnEvent event) {
+    int start = buffer.position();
+    buffer.putInt(TURN_SIZE).put(TURN).putInt(event.getPlayerIndex()).put((byte) event.getRoll())
+        .putInt(event.getFrom()).putInt(event.getLanding()).putInt(event.getTo());
+    crc.reset();
+    crc.update(buffer.slice(start + Integer.BYTES, 1 + TURN_SIZE));
+    buffer.putInt((int) crc.getValue());
+  }
+
+  private void writeBuffer(ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    try {
+      // After a failure records are dropped, the journal on disk stays as it was
+      while (failure == null && buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    } finally {
+      buffer.clear();
+    }
+  }
+
+  /**
+   * Replaces the journal with one holding only the snapshot. If the new journal cannot be moved
+   * into place, the snapshot is appended to the old one, where a replay finds it just as well.
+   */
+  private void replaceWithSnapshot(ByteBuffer snapshot) throws IOException {
+    if (failure != null) {
+      return;
+    }
+    try {
+      writeSnapshotFile(file, snapshot.duplicate());
+    } catch (IOException e) {
+      LOGGER.log(Level.FINE, "Could not replace turn journal, appending the snapshot instead: " + file, e);
+      ByteBuffer record = snapshot.duplicate();
+      while (record.hasRemaining()) {
+        channel.write(record);
+      }
+      channel.force(false);
+      return;
+    }
+    FileChannel old = channel;
+    channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    old.close();
+  }
+
+  private void fail(IOException e) {
+    if (failure == null) {
+      LOGGER.log(Level.WARNING, "Turn journal could not be written, later turns are not recorded: " + file, e);
+      failure = e;
+    } else if (failure != e) {
+      failure.addSuppressed(e);
+    }
+  }
+
+  private static void writeSnapshotFile(Path file, ByteBuffer record) throws IOException {
+    AtomicFiles.write(file, channel -> {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      header.putInt(MAGIC).putInt(FORMAT_VERSION).flip();
+      while (header.hasRemaining()) {
+        channel.write(header);
+      }
+      while (record.hasRemaining()) {
+        channel.write(record);
+      }
+    });
+  }
+
+  private static ByteBuffer snapshotRecord(GameSave snapshot) {
+    ByteBuffer save = GameSaveCodec.encode(snapshot);
+    ByteBuffer record = ByteBuffer.allocate(save.remaining() + RECORD_OVERHEAD).order(ByteOrder.LITTLE_ENDIAN);
+    record.putInt(save.remaining()).put(SNAPSHOT).put(save);
+    CRC32C crc = new CRC32C();
+    crc.update(record.slice(Integer.BYTES, record.position() - Integer.BYTES));
+    return record.putInt((int) crc.getValue()).flip();
+  }
+
+  /**
+   * Reads a journal: the last snapshot in it and the turns after that snapshot. Reading stops at
+   * the first record that is incomplete or does not match its checksum.
+   *
+   * @param file the journal file
+   * @return the replay
+   * @throws IOException if the file cannot be read, is not a journal or holds no snapshot
+   */
+  public static Replay replay(Path file) throws IOException {
+    ByteBuffer buffer = GameSaveCodec.readFully(file, MAX_JOURNAL_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+      throw new IOException("Not a turn journal: " + file);
+    }
+    int version = buffer.getInt();
+    if (version != FORMAT_VERSION) {
+      throw new IOException("Unsupported turn journal version " + version + ": " + file);
+    }
+
+    CRC32C crc = new CRC32C();
+    GameSave snapshot = null;
+    List<TurnEvent> turns = new ArrayList<>();
+    while (buffer.remaining() >= RECORD_OVERHEAD) {
+      int start = buffer.position();
+      int length = buffer.getInt();
+      if (length < 0 || (long) length + 1 + Integer.BYTES > buffer.remaining()) {
+        buffer.position(start);
+        break;
+      }
+      crc.reset();
+      crc.update(buffer.slice(start + Integer.BYTES, 1 + length));
+      byte type = buffer.get();
+      ByteBuffer payload = buffer.slice(buffer.position(), length).order(ByteOrder.LITTLE_ENDIAN);
+      buffer.position(buffer.position() + length);
+      if (buffer.getInt() != (int) crc.getValue()) {
+        buffer.position(start);
+        break;
+      }
+
+      if (type == SNAPSHOT) {
+        snapshot = GameSaveCodec.decode(payload);
+        turns.clear();
+      } else if (type == TURN && length == TURN_SIZE) {
+        turns.add(new TurnEvent(payload.getInt(), payload.get(), payload.getInt(), payload.getInt(),
+            payload.getInt()));
+      } else {
+        buffer.position(start);
+        break;
+      }
+    }
+    if (snapshot == null) {
+      throw new IOException("Turn journal holds no snapshot: " + file);
+    }
+    if (buffer.hasRemaining()) {
+      LOGGER.info("Turn journal ends with " + buffer.remaining() + " unreadable bytes, probably a crash: " + file);
+    }
+    return new Replay(snapshot, turns, buffer.hasRemaining());
+  }
+
+  /**
+   * What a journal holds: the last snapshot and the turns played after it.
+   */
+  public static final class Replay {
+    private final GameSave snapshot;
+    private final List<TurnEvent> turns;
+    private final boolean damagedTail;
+
+    Replay(GameSave snapshot, List<TurnEvent> turns, boolean damagedTail) {
+      this.snapshot = snapshot;
+      this.turns = Collections.unmodifiableList(turns);
+      this.damagedTail = damagedTail;
+    }
+
+    public GameSave getSnapshot() {
+      return snapshot;
+    }
+
+    public List<TurnEvent> getTurns() {
+      return turns;
+    }
+
+    /**
+     * Checks if the journal ended with a record that could not be read, e.g. one that was being
+     * written when the game crashed.
+     *
+     * @return true if the end of the journal was ignored
+     */
+    public boolean hasDamagedTail() {
+      return damagedTail;
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package edu.ntnu.iir.bidata.laddergame.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The board class represents the game board a 10*9 grid with 90 tiles. The board is responsible for
+ * creating the tiles and setting up the game.
+ *
+ * <p>The playable content is compiled into an immutable {@link BoardSnapshot} on first use. A
+ * board can be {@link #freeze() frozen}, after which its tiles cannot change, so it can be shared
+ * by several games and threads like its snapshot.
+ */
+public class Board {
+  private final List<Tile> tiles;
+  private final String name;
+  private final String description;
+  private final int x_dimension;
+  private final int y_dimension;
+  private volatile BoardSnapshot snapshot;
+  private volatile boolean frozen;
+
+  //empty constructor creates default board
+  public Board() {
+    this.name = "Stigespillet 90";
+    this.description = "Standard snakes and ladders with 90 (10x9) tiles";
+    tiles = new ArrayList<>(91);
+    this.x_dimension = 10;
+    this.y_dimension = 9;
+    createDefaultTiles();
+    tiles.forEach(tile -> tile.setBoard(this));
+  }
+
+  public Board(String name, String description, List<Tile> tiles) {
+    this.name = name;
+    this.description = description;
+    this.tiles = tiles;
+    this.x_dimension = tiles.stream().mapToInt(Tile::getX).max().orElse(0)+1;
+    this.y_dimension = tiles.stream().mapToInt(Tile::getY).max().orElse(0)+1;
+    tiles.forEach(tile -> tile.setBoard(this));
+  }
+
+  /**
+   * Creates a board for the tiles of a snapshot, sharing the snapshot.
+   */
+  Board(String name, String description, List<Tile> tiles, BoardSnapshot snapshot) {
+    this(name, description, tiles);
+    this.snapshot = snapshot;
+  }
+
+  public String getBoardName() {
+    return name;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  private void createDefaultTiles() {
+    tiles.addFirst(new Tile(0, -1, 9, new TileAction())); // Position outside the visible board
+
+    // Create tiles 1-90 for the visible board
+    for (int i = 1; i <= 90; i++) {
+      int y = (90-i) / 9;
+      int x = (90-i) % 9;
+      if (y % 2 == 1) {
+        x = 8 - x;
+      } else {
+        x = x;
+      }
+      tiles.add(i, new Tile(i, x, y, new TileAction()));
+    }
+    tiles.get(1).setTileAction(new LadderAction(40));
+    tiles.get(8).setTileAction(new LadderAction(10));
+    tiles.get(36).setTileAction(new LadderAction(52));
+    tiles.get(43).setTileAction(new LadderAction(62));
+    tiles.get(49).setTileAction(new LadderAction(79));
+    tiles.get(65).setTileAction(new LadderAction(82));
+    tiles.get(68).setTileAction(new LadderAction(85));
+    tiles.get(24).setTileAction(new LadderAction(5));
+    tiles.get(33).setTileAction(new LadderAction(3));
+    tiles.get(42).setTileAction(new LadderAction(30));
+    tiles.get(56).setTileAction(new LadderAction(37));
+    tiles.get(64).setTileAction(new LadderAction(27));
+    tiles.get(74).setTileAction(new LadderAction(12));
+    tiles.get(87).setTileAction(new LadderAction(70));
+  }
+
+  /**
+   * Gets the tiles of the board, in board order. The list cannot be changed once the board is
+   * frozen.
+   *
+   * @return the tiles
+   */
+  public List<Tile> getTiles() {
+    return frozen ? Collections.unmodifiableList(tiles) : tiles;
+  }
+
+  /**
+   * Freezes the board: from now on {@link Tile#setTileAction(TileAction)} fails for its tiles and
+   * the tile list cannot be changed. Changing the destination of a {@link LadderAction} in place is
+   * not prevented, but is not seen by the snapshot either.
+   *
+   * @return this board
+   */
+  public Board freeze() {
+    getSnapshot();
+    frozen = true;
+    return this;
+  }
+
+  public boolean isFrozen() {
+    return frozen;
+  }
+
+  /**
+   * Gets the immutable snapshot of the board. It is taken on first use and taken again after
+   * {@link Tile#setTileAction(TileAction)} has changed a tile of this board.
+   *
+   * @return the snapshot
+   */
+  public BoardSnapshot getSnapshot() {
+    BoardSnapshot current = snapshot;
+    if (current == null) {
+      current = BoardSnapshot.capture(name, description, tiles);
+      snapshot = current;
+    }
+    return current;
+  }
+
+  public Tile getTile(int index) {
+    return tiles.get(index);
+  }
+
+  /**
+   * Gets the compiled jump table of the board, from its {@link #getSnapshot() snapshot}. Changing
+   * the destination of a {@link LadderAction} in place is not tracked.
+   *
+   * @return the jump table
+   */
+  public JumpTable getJumpTable() {
+    return getSnapshot().getJumpTable();
+  }
+
+  /**
+   * Gets the index of the ladders on the board, from source to destination and back, from its
+   * {@link #getSnapshot() snapshot}.
+   *
+   * @return the ladder index
+   */
+  public LadderIndex getLadderIndex() {
+    return getSnapshot().getLadderIndex();
+  }
+
+  /**
+   * Gets a 64-bit hash of the playable content of the board: the number of tiles, their grid
+   * positions and their ladders. The name and description are not included, so two copies of
+   * the same board under different names get the same hash.
+   *
+   * @return the content hash
+   */
+  public long getContentHash() {
+    return getSnapshot().getContentHash();
+  }
+
+  /**
+   * Checks that a tile of this board may be changed.
+   *
+   * @throws IllegalStateException if the board is frozen
+   */
+  void checkNotFrozen() {
+    if (frozen) {
+      throw new IllegalStateException("Board is frozen and cannot be changed: " + name);
+    }
+  }
+
+  /**
+   * Marks the snapshot as stale after a tile has changed.
+   */
+  void tileActionChanged() {
+    snapshot = null;
+  }
+
+  public int getX_dimension() {
+    return x_dimension;
+  }
+
+  public int getY_dimension() {
+    return y_dimension;
+  }
+
+  public Integer getLastTile() {
+    return tiles.getLast().getIndex();
+  }
+}
@@ -0,0 +1,212 @@
+package edu.ntnu.iir.bidata.laddergame.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable copy of the playable content of a board, in primitive arrays.
+ *
+ * <p>The jump table, ladder index and content hash are computed when the snapshot is created, so
+ * a snapshot never changes and can be shared by any number of games on any number of threads.
+ * A game engine only needs the snapshot, so hosting many games on the same board costs one
+ * snapshot, not one board per game. The snapshot knows nothing about how tiles are drawn; views
+ * keep their own maps from tile index to node.
+ *
+ * <p>A snapshot is taken with {@link Board#getSnapshot()}. Tiles are indexed by their position on
+ * the board, as in {@link Board#getTile(int)}.
+ */
+public final class BoardSnapshot {
+  /** Ladder destination of a tile without a ladder. */
+  public static final int NO_LADDER = LadderIndex.NO_LADDER;
+
+  private final String name;
+  private final String description;
+  private final int[] ids;
+  private final int[] xs;
+  private final int[] ys;
+  private final int[] ladders;
+  private final int width;
+  private final int height;
+  private final JumpTable jumpTable;
+  private final LadderIndex ladderIndex;
+  private final long contentHash;
+
+  private BoardSnapshot(String name, String description, int[] ids, int[] xs, int[] ys, int[] ladders) {
+    this.name = name;
+    this.description = description;
+    this.ids = ids;
+    this.xs = xs;
+    this.ys = ys;
+    this.ladders = ladders;
+    int maxX = -1;
+    int maxY = -1;
+    for (int i = 0; i < ids.length; i++) {
+      maxX = Math.max(maxX, xs[i]);
+      maxY = Math.max(maxY, ys[i]);
+    }
+    this.width = maxX + 1;
+    this.height = maxY + 1;
+    this.jumpTable = JumpTable.compile(ladders);
+    this.ladderIndex = LadderIndex.compile(ladders);
+    this.contentHash = hash(ids, xs, ys, ladders);
+  }
+
+  /**
+   * Takes a snapshot of a list of tiles.
+   *
+   * @param name the board name
+   * @param description the board description
+   * @param tiles the tiles in board order
+   * @return the snapshot
+   */
+  static BoardSnapshot capture(String name, String description, List<Tile> tiles) {
+    int size = tiles.size();
+    int[] ids = new int[size];
+    int[] xs = new int[size];
+    int[] ys = new int[size];
+    int[] ladders = new int[size];
+    for (int i = 0; i < size; i++) {
+      Tile tile = tiles.get(i);
+      ids[i] = tile.getIndex();
+      xs[i] = tile.getX();
+      ys[i] = tile.getY();
+      ladders[i] = tile.getTileAction() instanceof LadderAction ladder ? ladder.getDestinationTileIndex() : NO_LADDER;
+    }
+    return new BoardSnapshot(name, description, ids, xs, ys, ladders);
+  }
+
+  /**
+   * Creates a frozen board with the content of this snapshot, for code that needs the tiles as
+   * objects, such as the board view. The board shares this snapshot.
+   *
+   * @return a new frozen board
+   */
+  public Board toBoard() {
+    List<Tile> tiles = new ArrayList<>(ids.length);
+    for (int i = 0; i < ids.length; i++) {
+      TileAction action = ladders[i] == NO_LADDER ? new TileAction() : new LadderAction(ladders[i]);
+      tiles.add(new Tile(ids[i], xs[i], ys[i], action));
+    }
+    return new Board(name, description, tiles, this).freeze();
+  }
+
+  public String getBoardName() {
+    return name;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public int getTileCount() {
+    return ids.length;
+  }
+
+  /**
+   * Gets the position of the final tile, the one a player has to reach.
+   *
+   * @return the index of the last tile
+   */
+  public int getFinalPosition() {
+    return ids.length - 1;
+  }
+
+  /**
+   * Gets the id of the tile at a position, which is the position itself on boards read from files.
+   *
+   * @param position the position on the board
+   * @return the tile id
+   */
+  public int getTileId(int position) {
+    return ids[position];
+  }
+
+  public int getX(int position) {
+    return xs[position];
+  }
+
+  public int getY(int position) {
+    return ys[position];
+  }
+
+  /**
+   * Gets the destination of the ladder on a tile, as written on the board, even if it leads off
+   * the board.
+   *
+   * @param position the position on the board
+   * @return the destination, or {@link #NO_LADDER}
+   */
+  public int getLadderDestination(int position) {
+    return ladders[position];
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  public JumpTable getJumpTable() {
+    return jumpTable;
+  }
+
+  public LadderIndex getLadderIndex() {
+    return ladderIndex;
+  }
+
+  /**
+   * Gets a 64-bit hash of the playable content: the number of tiles, their ids, grid positions and
+   * ladders. The name and description are not included.
+   *
+   * @return the content hash, never 0
+   */
+  public long getContentHash() {
+    return contentHash;
+  }
+
+  private static long hash(int[] ids, int[] xs, int[] ys, int[] ladders) {
+    long hash = mix(ids.length);
+    for (int i = 0; i < ids.length; i++) {
+      hash = mix(hash ^ ids[i]);
+      hash = mix(hash ^ ((long) xs[i] << 32 | (ys[i] & 0xFFFFFFFFL)));
+      hash = mix(hash ^ ladders[i]);
+    }
+    // 0 is kept free to mark a hash that is not known
+    return hash == 0 ? 1 : hash;
+  }
+
+  /**
+   * The SplitMix64 finalizer, spreading every input bit over the whole hash.
+   */
+  private static long mix(long value) {
+    value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+    value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+    return value ^ (value >>> 31);
+  }
+
+  @Override
+  public String toString() {
+    return "BoardSnapshot{" + "name='" + name + '\'' + ", tiles=" + ids.length + ", contentHash="
+        + Long.toHexString(contentHash) + '}';
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    return o instanceof BoardSnapshot other && contentHash == other.contentHash
+        && Objects.equals(name, other.name) && Objects.equals(description, other.description)
+        && Arrays.equals(ids, other.ids) && Arrays.equals(xs, other.xs) && Arrays.equals(ys, other.ys)
+        && Arrays.equals(ladders, other.ladders);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, description, contentHash);
+  }
+}
@@ -0,0 +1,141 @@
+package edu.ntnu.iir.bidata.laddergame.model;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Fast source of six-sided die faces for simulations and bots. Unlike {@link Die} it has no
+ * observers and can fill a whole buffer of faces in one call.
+ *
+ * <p>Each 32-bit half of a random long is turned into eleven faces by reading it as a base-6
+ * number, rejecting the few values that would make some faces more likely than others. This
+ * costs about one random long per 20 faces, so the faces are exactly uniform but form a
+ * different sequence than {@link Die#roll()} with the same seed. The sequence only depends on
+ * the seed, not on how many faces are asked for per call.
+ */
+public final class DiceSource {
+  private static final int FACES = 6;
+  private static final int DIGITS_PER_CHUNK = 11;
+  /** 6^11, the number of values eleven faces can take. */
+  private static final long CHUNK_RANGE = 362_797_056L;
+  /** The largest multiple of 6^11 that fits in 32 bits, higher chunks are rejected. */
+  private static final long CHUNK_LIMIT = CHUNK_RANGE * 11;
+  private static final long LOW_BITS = 0xFFFFFFFFL;
+
+  private final RandomGenerator random;
+  private long spareChunk;
+  private boolean hasSpareChunk;
+  private int digits;
+  private int digitsLeft;
+
+  /**
+   * Creates a dice source with the given seed, using the same algorithm as {@link Die}.
+   *
+   * @param seed the seed
+   */
+  public DiceSource(long seed) {
+    this(Die.createRandom(seed));
+  }
+
+  /**
+   * Creates a dice source drawing from the given random generator.
+   *
+   * @param random the random generator
+   * @throws NullPointerException if random is null
+   */
+  public DiceSource(RandomGenerator random) {
+    this.random = Objects.requireNonNull(random, "Random generator cannot be null");
+  }
+
+  /**
+   * Rolls one face.
+   *
+   * @return a face from 1 to 6
+   */
+  public int nextFace() {
+    if (digitsLeft == 0) {
+      nextChunk();
+    }
+    int face = digits % FACES;
+    digits /= FACES;
+    digitsLeft--;
+    return face + 1;
+  }
+
+  public void fill(int[] faces) {
+    fill(faces, 0, faces.length);
+  }
+
+  /**
+   * Fills part of an array with faces from 1 to 6.
+   *
+   * @param faces the array to fill
+   * @param from the first index to fill, inclusive
+   * @param to the last index to fill, exclusive
+   * @throws IndexOutOfBoundsException if the range is outside the array
+   */
+  public void fill(int[] faces, int from, int to) {
+    Objects.checkFromToIndex(from, to, faces.length);
+    int i = from;
+    while (i < to) {
+      if (digitsLeft == 0) {
+        nextChunk();
+      }
+      int count = Math.min(digitsLeft, to - i);
+      int remaining = digits;
+      for (int end = i + count; i < end; i++) {
+        faces[i] = remaining % FACES + 1;
+        remaining /= FACES;
+      }
+      digits = remaining;
+      digitsLeft -= count;
+    }
+  }
+
+  public void fill(byte[] faces) {
+    fill(faces, 0, faces.length);
+  }
+
+  /**
+   * Fills part of an array with faces from 1 to 6.
+   *
+   * @param faces the array to fill
+   * @param from the first index to fill, inclusive
+   * @param to the last index to fill, exclusive
+   * @throws IndexOutOfBoundsException if the range is outside the array
+   */
+  public void fill(byte[] faces, int from, int to) {
+    Objects.checkFromToIndex(from, to, faces.length);
+    int i = from;
+    while (i < to) {
+      if (digitsLeft == 0) {
+        nextChunk();
+      }
+      int count = Math.min(digitsLeft, to - i);
+      int remaining = digits;
+      for (int end = i + count; i < end; i++) {
+        faces[i] = (byte) (remaining % FACES + 1);
+        remaining /= FACES;
+      }
+      digits = remaining;
+      digitsLeft -= count;
+    }
+  }
+
+  private void nextChunk() {
+    long chunk;
+    do {
+      if (hasSpareChunk) {
+        chunk = spareChunk;
+        hasSpareChunk = false;
+      } else {
+        long bits = random.nextLong();
+        chunk = bits >>> 32;
+        spareChunk = bits & LOW_BITS;
+        hasSpareChunk = true;
+      }
+    } while (chunk >= CHUNK_LIMIT);
+    digits = (int) (chunk % CHUNK_RANGE);
+    digitsLeft = DIGITS_PER_CHUNK;
+  }
+}
@@ -0,0 +1,173 @@
+package edu.ntnu.iir.bidata.laddergame.model;
+
+import edu.ntnu.iir.bidata.laddergame.util.Observable;
+import edu.ntnu.iir.bidata.laddergame.util.Observer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * A six-sided die backed by a seeded random generator.
+ *
+ * <p>The seed and the number of rolls made are recorded, so the exact same sequence of rolls can
+ * be replayed later with {@link #restore(long, long)}. A {@code GameEngine} created with
+ * {@link #createRandom(long)} and the same seed rolls the same values as a die with that seed.
+ */
+public class Die extends Observable<Die> {
+  /** The random generator algorithm used unless another one is given. */
+  public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+
+  private static final RandomGeneratorFactory<RandomGenerator.SplittableGenerator> DEFAULT_FACTORY =
+      RandomGeneratorFactory.of(DEFAULT_ALGORITHM);
+  private static final int MIN_FACE = 1;
+  private static final int MAX_FACE = 6;
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+  private final RandomGeneratorFactory<RandomGenerator> factory;
+  private RandomGenerator random;
+  private long seed;
+  private long rollCount;
+  // Dice split off since the die was seeded, not part of the rolled stream
+  private long splitCount;
+  private int lastRoll;
+
+  /**
+   * Creates a die with a fresh random seed.
+   */
+  public Die() {
+    this(ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * Creates a die with the given seed and the default algorithm.
+   *
+   * @param seed the seed
+   */
+  public Die(long seed) {
+    this(DEFAULT_ALGORITHM, seed);
+  }
+
+  /**
+   * Creates a die with the given random generator algorithm and seed.
+   *
+   * @param algorithm the name of a {@link RandomGeneratorFactory} algorithm
+   * @param seed the seed
+   * @throws IllegalArgumentException if the algorithm is unknown
+   */
+  public Die(String algorithm, long seed) {
+    this.factory = RandomGeneratorFactory.of(algorithm);
+    this.lastRoll = 0;
+    restore(seed, 0);
+  }
+
+  /**
+   * Creates a splittable generator with the default algorithm, rolling the same values as a die
+   * with the same seed.
+   *
+   * @param seed the seed
+   * @return the random generator
+   */
+  public static RandomGenerator.SplittableGenerator createRandom(long seed) {
+    return DEFAULT_FACTORY.create(seed);
+  }
+
+  /**
+   * Creates a new die for another game or thread. Its seed is derived from the seed of this die
+   * and the number of dice split off before it, so a whole family of dice can be reproduced from
+   * the seed of the first one. Nothing is drawn from this die, so its rolls stay the ones
+   * replayed by {@link #restore(long, long)}.
+   *
+   * @return a new die with its own recorded seed
+   */
+  public Die split() {
+    splitCount++;
+    return new Die(getAlgorithm(), mix64(seed + splitCount * GOLDEN_GAMMA));
+  }
+
+  /**
+   * The SplitMix64 finalizer, spreading nearby inputs over all 64 bits.
+   */
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Reseeds the die and skips ahead, so the next roll is the one that followed the given number
+   * of rolls after seeding. Dice split off afterwards get the seeds they got after seeding.
+   *
+   * @param seed the seed
+   * @param rollCount the number of rolls already made
+   * @throws IllegalArgumentException if rollCount is negative
+   */
+  public void restore(long seed, long rollCount) {
+    if (rollCount < 0) {
+      throw new IllegalArgumentException("Roll count cannot be negative");
+    }
+    this.random = factory.create(seed);
+    this.seed = seed;
+    this.splitCount = 0;
+    for (long i = 0; i < rollCount; i++) {
+      nextFace();
+    }
+    this.rollCount = rollCount;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  public long getRollCount() {
+    return rollCount;
+  }
+
+  public String getAlgorithm() {
+    return factory.name();
+  }
+
+  public int getLastRoll() {
+    return lastRoll;
+  }
+
+  public void setLastRoll(int lastRoll) {
+    if (lastRoll < MIN_FACE || lastRoll > MAX_FACE) {
+      throw new IllegalArgumentException("Die face must be between " + MIN_FACE + " and " + MAX_FACE);
+    }
+    this.lastRoll = lastRoll;
+    notifyObservers("VALUE_CHANGED");
+  }
+
+  public void roll() {
+    this.lastRoll = nextFace();
+    rollCount++;
+    notifyObservers("ROLL");
+  }
+
+  private int nextFace() {
+    return random.nextInt(MIN_FACE, MAX_FACE + 1);
+  }
+
+  @Override
+  public void addObserver(Observer<Die> observer) {
+    super.addObserver(observer);
+  }
+
+  @Override
+  public void removeObserver(Observer<Die> observer) {
+    super.removeObserver(observer);
+  }
+
+  @Override
+  public void notifyObservers() {
+    notifyObservers("UPDATE");
+  }
+
+  public void notifyObservers(String eventType) {
+    super.getObservers().forEach(o -> o.update(this, eventType));
+  }
+
+  @Override
+  public String toString() {
+    return "Die{lastRoll=" + lastRoll + ", seed=" + seed + ", rollCount=" + rollCount + '}';
+  }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package edu.ntnu.iir.bidata.laddergame.model;
+
+/**
+ * Compiled, immutable table mapping each tile a player can land on to the tile the player ends up
+ * on, with chained ladders followed to the end. Tiles without a ladder map to themselves.
+ *
+ * <p>A ladder leading off the board is ignored. If ladders form a loop, the player follows them
+ * until the next ladder would lead back to a tile already visited on this move, and stops there.
+ */
+public final class JumpTable {
+  private static final byte UNVISITED = 0;
+  private static final byte VISITING = 1;
+  private static final byte DONE = 2;
+
+  private final int[] destinations;
+
+  private JumpTable(int[] destinations) {
+    this.destinations = destinations;
+  }
+
+  /**
+   * Compiles the jump table of a board.
+   *
+   * @param ladderDestinations the ladder destination of each tile, indexed by position on the
+   *     board, {@link LadderIndex#NO_LADDER} for tiles without a ladder
+   * @return the jump table
+   */
+  static JumpTable compile(int[] ladderDestinations) {
+    int size = ladderDestinations.length;
+    int[] ladders = new int[size];
+    for (int i = 0; i < size; i++) {
+      int destination = ladderDestinations[i];
+      ladders[i] = destination >= 0 && destination < size ? destination : i;
+    }
+
+    int[] destinations = new int[size];
+    byte[] states = new byte[size];
+    int[] path = new int[size];
+    for (int start = 0; start < size; start++) {
+      if (states[start] == DONE) {
+        continue;
+      }
+      int length = 0;
+      int current = start;
+      while (states[current] == UNVISITED && ladders[current] != current) {
+        states[current] = VISITING;
+        path[length++] = current;
+        current = ladders[current];
+      }
+
+      if (states[current] == VISITING) {
+        // The path ran into a loop starting at current. Entering the loop at a tile ends on the
+        // tile before it, every tile leading into the loop ends where the loop was entered from.
+        int last = path[length - 1];
+        int loopStart = length - 1;
+        while (path[loopStart] != current) {
+          loopStart--;
+        }
+        destinations[current] = last;
+        for (int i = loopStart + 1; i < length; i++) {
+          destinations[path[i]] = path[i - 1];
+        }
+        for (int i = 0; i < loopStart; i++) {
+          destinations[path[i]] = last;
+        }
+      } else {
+        int end = states[current] == DONE ? destinations[current] : current;
+        destinations[current] = end;
+        states[current] = DONE;
+        for (int i = 0; i < length; i++) {
+          destinations[path[i]] = end;
+        }
+      }
+      for (int i = 0; i < length; i++) {
+        states[path[i]] = DONE;
+      }
+    }
+    return new JumpTable(destinations);
+  }
+
+  /**
+   * Gets the tile a player landing on the given tile ends up on.
+   *
+   * @param landing the index of the tile landed on
+   * @return the index of the tile the move ends on
+   */
+  public int getDestination(int landing) {
+    return destinations[landing];
+  }
+
+  /**
+   * Checks if landing on the given tile moves the player.
+   *
+   * @param landing the index of the tile landed on
+   * @return true if the tile has a ladder that leads somewhere else
+   */
+  public boolean isJump(int landing) {
+    return destinations[landing] != landing;
+  }
+
+  public int size() {
+    return destinations.length;
+  }
+
+  /**
+   * Gets a copy of the table.
+   *
+   * @return the destination of each tile, indexed by tile
+   */
+  public int[] toArray() {
+    return destinations.clone();
+  }
+}
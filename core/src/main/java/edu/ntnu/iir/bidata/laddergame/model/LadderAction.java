@@ -0,0 +1,32 @@
+package edu.ntnu.iir.bidata.laddergame.model;
+
+public class LadderAction extends TileAction {
+  private int destinationTileIndex;
+
+  public LadderAction(int destinationTileIndex) {
+    this.destinationTileIndex = destinationTileIndex;
+  }
+
+  @Override
+  public void performAction(Player player) {
+    player.setPositionIndex(destinationTileIndex);
+  }
+
+  public int getDestinationTileIndex() {
+    return destinationTileIndex;
+  }
+
+  public void setDestinationTileIndex(int destinationTileIndex) {
+    this.destinationTileIndex = destinationTileIndex;
+  }
+
+  @Override
+  public String toString() {
+    return "LadderAction{" + "destinationTile=" + destinationTileIndex + '}';
+  }
+
+  @Override
+  public boolean leadsToPosition(Board board, int targetPosition) {
+    return getDestinationTileIndex() == targetPosition;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package edu.ntnu.iir.bidata.laddergame.model;
+
+import java.util.Arrays;
+
+/**
+ * Compiled, immutable index of the ladders on a board, from each ladder tile to its destination
+ * and from each destination to the ladder tiles leading there. Unlike the {@link JumpTable},
+ * only the ladder on the tile itself is looked at, chained ladders are not followed. Ladders
+ * leading off the board are left out.
+ */
+public final class LadderIndex {
+  /** Destination of a tile without a ladder. */
+  public static final int NO_LADDER = -1;
+
+  private final int[] destinations;
+  private final int[] sourceStart;
+  private final int[] sources;
+
+  private LadderIndex(int[] destinations, int[] sourceStart, int[] sources) {
+    this.destinations = destinations;
+    this.sourceStart = sourceStart;
+    this.sources = sources;
+  }
+
+  /**
+   * Compiles the ladder index of a board.
+   *
+   * @param ladderDestinations the ladder destination of each tile, indexed by position on the
+   *     board, {@link #NO_LADDER} for tiles without a ladder
+   * @return the ladder index
+   */
+  static LadderIndex compile(int[] ladderDestinations) {
+    int size = ladderDestinations.length;
+    int[] destinations = new int[size];
+    int[] sourceStart = new int[size + 1];
+    for (int i = 0; i < size; i++) {
+      int destination = ladderDestinations[i];
+      destinations[i] = NO_LADDER;
+      if (destination >= 0 && destination < size) {
+        destinations[i] = destination;
+        sourceStart[destination + 1]++;
+      }
+    }
+    for (int i = 0; i < size; i++) {
+      sourceStart[i + 1] += sourceStart[i];
+    }
+    // Filling in tile order keeps the sources of each destination sorted
+    int[] sources = new int[sourceStart[size]];
+    int[] fill = Arrays.copyOf(sourceStart, size);
+    for (int i = 0; i < size; i++) {
+      if (destinations[i] != NO_LADDER) {
+        sources[fill[destinations[i]]++] = i;
+      }
+    }
+    return new LadderIndex(destinations, sourceStart, sources);
+  }
+
+  /**
+   * Gets the destination of the ladder on a tile.
+   *
+   * @param source the index of the tile
+   * @return the index of the destination tile, or {@link #NO_LADDER}
+   */
+  public int getDestination(int source) {
+    return destinations[source];
+  }
+
+  public boolean hasLadder(int source) {
+    return destinations[source] != NO_LADDER;
+  }
+
+  /**
+   * Checks if any ladder leads to a tile.
+   *
+   * @param destination the index of the tile
+   * @return true if the tile is the destination of a ladder
+   */
+  public boolean isDestination(int destination) {
+    return sourceStart[destination + 1] > sourceStart[destination];
+  }
+
+  /**
+   * Gets the number of ladders leading to a tile.
+   *
+   * @param destination the index of the tile
+   * @return the number of ladder tiles with this destination
+   */
+  public int getSourceCount(int destination) {
+    return sourceStart[destination + 1] - sourceStart[destination];
+  }
+
+  /**
+   * Gets one of the ladder tiles leading to a tile, in ascending tile order.
+   *
+   * @param destination the index of the destination tile
+   * @param i the position among the sources, from 0 to {@link #getSourceCount(int)} - 1
+   * @return the index of the ladder tile
+   */
+  public int getSource(int destination, int i) {
+    return sources[sourceStart[destination] + i];
+  }
+
+  /**
+   * Gets all ladder tiles leading to a tile.
+   *
+   * @param destination the index of the destination tile
+   * @return the indices of the ladder tiles in ascending order
+   */
+  public int[] getSources(int destination) {
+    return Arrays.copyOfRange(sources, sourceStart[destination], sourceStart[destination + 1]);
+  }
+
+  public int getLadderCount() {
+    return sources.length;
+  }
+
+  public int size() {
+    return destinations.length;
+  }
+}
@@ -2,30 +2,32 @@ package edu.ntnu.iir.bidata.laddergame.model;
 
 import edu.ntnu.iir.bidata.laddergame.util.Observable;
 import edu.ntnu.iir.bidata.laddergame.util.Observer;
-import javafx.scene.paint.Color;
 
 public class Player extends Observable<Player> {
+  /** Color value for a player that has not been given a color. */
+  public static final int NO_COLOR = 0;
+
   private String name;
   private int positionIndex;
-  private Color color;
+  private int color; // packed as 0xRRGGBBAA
   private int shipType;
   private boolean isMoving;
 
   public Player(String name) {
     this.name = name;
     this.positionIndex = 0;
-    this.color = null;
+    this.color = NO_COLOR;
     this.shipType = 1;
   }
 
-  public Player(String name, Color color) {
+  public Player(String name, int color) {
     this.name = name;
     this.positionIndex = 0;
     this.color = color;
     this.shipType = 1;
   }
 
-  public Player(String name, Color color, int shipType) {
+  public Player(String name, int color, int shipType) {
     this.name = name;
     this.positionIndex = 0;
     this.color = color;
@@ -66,11 +68,20 @@ public class Player extends Observable<Player> {
     }
   }
 
-  public Color getColor() {
+  /**
+   * Gets the player color packed as 0xRRGGBBAA.
+   *
+   * @return the color, or {@link #NO_COLOR} if the player has no color
+   */
+  public int getColor() {
     return color;
   }
 
-  public void setColor(Color color) {
+  public boolean hasColor() {
+    return color != NO_COLOR;
+  }
+
+  public void setColor(int color) {
     this.color = color;
     notifyObservers("APPEARANCE_CHANGED");
   }
@@ -9,6 +9,7 @@ public class Tile {
   private int x;
   private int y;
   private TileAction tileAction;
+  private Board board;
 
   public Tile(int index, int x, int y, TileAction tileAction) {
     this.index = index;
@@ -33,8 +34,29 @@ public class Tile {
     return tileAction;
   }
 
+  /**
+   * Sets the action of the tile.
+   *
+   * @param tileAction the new action
+   * @throws IllegalStateException if the tile belongs to a frozen board
+   */
   public void setTileAction(TileAction tileAction) {
+    if (board != null) {
+      board.checkNotFrozen();
+    }
     this.tileAction = tileAction;
+    if (board != null) {
+      board.tileActionChanged();
+    }
+  }
+
+  /**
+   * Sets the board this tile belongs to, so the board is told when the tile action changes.
+   *
+   * @param board the board
+   */
+  void setBoard(Board board) {
+    this.board = board;
   }
 
     /**
@@ -53,14 +75,7 @@ public class Tile {
    * @return true if this tile is the destination of a ladder, false otherwise
    */
   public boolean isDestinationOfLadder(Board board) {
-    for (Tile tile : board.getTiles()) {
-      if (tile.getTileAction() instanceof LadderAction action) {
-        if (action.getDestinationTileIndex() == this.index) {
-          return true;
-        }
-      }
-    }
-    return false;
+    return board.getLadderIndex().isDestination(index);
   }
 
     /**
@@ -70,15 +85,8 @@ public class Tile {
      * @return The destination tile of the ladder, or null if this tile is not a ladder
      */
   public Tile getLadderDestination(Board board) {
-    if (this.tileAction instanceof LadderAction action) {
-      int destIndex = action.getDestinationTileIndex();
-      for (Tile t : board.getTiles()) {
-        if (t.getIndex() == destIndex) {
-          return t;
-        }
-      }
-    }
-    return null;
+    int destIndex = board.getLadderIndex().getDestination(index);
+    return destIndex == LadderIndex.NO_LADDER ? null : board.getTile(destIndex);
   }
 
 
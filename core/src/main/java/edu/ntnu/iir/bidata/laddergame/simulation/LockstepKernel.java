@@ -0,0 +1,23 @@
+package edu.ntnu.iir.bidata.laddergame.simulation;
+
+/**
+ * Advances every lane of a {@link LockstepLanes} batch by one step.
+ */
+interface LockstepKernel {
+
+  /**
+   * Plays one step in every active lane: the current seat rolls, moves and takes the jump table,
+   * or is skipped if it has finished, and the turn passes to the next seat. Lanes where a player
+   * finished or the turn limit was reached are passed to {@link LockstepLanes#handleEvent}.
+   *
+   * @param lanes the lanes to step
+   */
+  void step(LockstepLanes lanes);
+
+  /**
+   * Adds any landing counts the kernel buffers to the result of the lanes.
+   *
+   * @param lanes the lanes being stepped
+   */
+  void flushLandings(LockstepLanes lanes);
+}
@@ -0,0 +1,150 @@
+package edu.ntnu.iir.bidata.laddergame.simulation;
+
+/**
+ * State of a batch of games played side by side, one game per lane, in flat primitive arrays.
+ * When the game in a lane is over, the lane is given the next game of the range right away, so
+ * all lanes stay busy until the range runs out.
+ *
+ * <p>Each game rolls its dice with its own xoroshiro64** generator, seeded from
+ * {@link MonteCarloSimulator#gameSeed(long, long)}. A roll takes the upper 16 bits of the
+ * output, or the lower 16 bits if the upper ones are 65532 or more, and draws again if both
+ * are, which leaves every face exactly as likely. Lanes never depend on each other, so the
+ * outcome of a game only depends on the seed and the game number, not on the lane it ran in or
+ * on how many lanes a kernel steps at once.
+ *
+ * <p>The rules are those of {@link edu.ntnu.iir.bidata.laddergame.engine.GameEngine}: the seats
+ * move in turn, finished players are skipped and the game is over when everybody has finished
+ * or the turn limit is reached. A step where the current seat has already finished moves
+ * nobody and only passes the turn on.
+ */
+final class LockstepLanes {
+  /** Rolls below this 16-bit value are accepted, 65532 is the largest multiple of 6 below 2^16. */
+  static final int ROLL_LIMIT = 65_532;
+  static final int ROLL_MASK = 0xFFFF;
+  static final int MULTIPLIER = 0x9E3779BB;
+  static final int FACES = 6;
+
+  final int laneCount;
+  final int players;
+  final int finalTile;
+  final int maxTurns;
+  final int[] jumps;
+  /** Position of each seat in each lane, at {@code seat * laneCount + lane}. */
+  final int[] positions;
+  final int[] seats;
+  final int[] turns;
+  final int[] random0;
+  final int[] random1;
+  /** 1 while the lane is playing a game, 0 once the range has run out. */
+  final int[] active;
+  /** Extra landing row for lanes that did not move this step. */
+  final int idleTile;
+
+  private final long seed;
+  private final long endGame;
+  private final long[] games;
+  private final int[] finishedPlayers;
+  private final int[] winners;
+  private final int[] winnerRounds;
+  private final SimulationResult result;
+  private long nextGame;
+  private int activeLanes;
+
+  LockstepLanes(int[] jumps, int players, int laneCount, int maxTurns, long seed, long firstGame,
+      long endGame) {
+    this.jumps = jumps;
+    this.players = players;
+    this.laneCount = laneCount;
+    this.maxTurns = maxTurns;
+    this.finalTile = jumps.length - 1;
+    this.idleTile = jumps.length;
+    this.seed = seed;
+    this.nextGame = firstGame;
+    this.endGame = endGame;
+    this.positions = new int[players * laneCount];
+    this.seats = new int[laneCount];
+    this.turns = new int[laneCount];
+    this.random0 = new int[laneCount];
+    this.random1 = new int[laneCount];
+    this.active = new int[laneCount];
+    this.games = new long[laneCount];
+    this.finishedPlayers = new int[laneCount];
+    this.winners = new int[laneCount];
+    this.winnerRounds = new int[laneCount];
+    this.result = new SimulationResult(players, jumps.length);
+    for (int lane = 0; lane < laneCount; lane++) {
+      startNextGame(lane);
+    }
+  }
+
+  /**
+   * Steps all lanes with the given kernel until every game of the range is over.
+   *
+   * @param kernel the kernel doing the steps
+   * @return the statistics of the games
+   */
+  SimulationResult run(LockstepKernel kernel) {
+    while (activeLanes > 0) {
+      kernel.step(this);
+    }
+    kernel.flushLandings(this);
+    return result;
+  }
+
+  /**
+   * Handles a lane where the player in the given seat just finished or the turn limit was
+   * reached. Called by kernels after the lane's arrays are updated.
+   *
+   * @param lane the lane
+   * @param seat the seat that moved
+   */
+  void handleEvent(int lane, int seat) {
+    if (positions[seat * laneCount + lane] >= finalTile) {
+      finishedPlayers[lane]++;
+      if (winners[lane] < 0) {
+        winners[lane] = seat;
+        // Nobody is skipped before the first player finishes, so seats move in strict rotation
+        winnerRounds[lane] = (turns[lane] - 1) / players + 1;
+      }
+    }
+    if (finishedPlayers[lane] == players || turns[lane] >= maxTurns) {
+      if (winners[lane] < 0) {
+        result.recordUnfinishedGame();
+      } else {
+        result.recordGame(games[lane], winners[lane], winnerRounds[lane]);
+      }
+      startNextGame(lane);
+    }
+  }
+
+  void recordLandings(int tile, long count) {
+    result.recordLandings(tile, count);
+  }
+
+  private void startNextGame(int lane) {
+    if (nextGame >= endGame) {
+      if (active[lane] != 0) {
+        active[lane] = 0;
+        activeLanes--;
+      }
+      return;
+    }
+    if (active[lane] == 0) {
+      active[lane] = 1;
+      activeLanes++;
+    }
+    long game = nextGame++;
+    long gameSeed = MonteCarloSimulator.gameSeed(seed, game);
+    games[lane] = game;
+    random0[lane] = (int) (gameSeed >>> 32);
+    random1[lane] = (int) gameSeed == 0 && gameSeed >>> 32 == 0 ? 1 : (int) gameSeed;
+    for (int seat = 0; seat < players; seat++) {
+      positions[seat * laneCount + lane] = 0;
+    }
+    seats[lane] = 0;
+    turns[lane] = 0;
+    finishedPlayers[lane] = 0;
+    winners[lane] = -1;
+    winnerRounds[lane] = 0;
+  }
+}
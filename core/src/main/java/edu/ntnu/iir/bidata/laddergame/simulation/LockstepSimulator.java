@@ -0,0 +1,149 @@
+package edu.ntnu.iir.bidata.laddergame.simulation;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.logging.Logger;
+
+/**
+ * Simulates many games side by side in lockstep instead of one game at a time. Every fork/join
+ * task keeps a batch of lanes, each playing one game, in flat int arrays and advances all of them
+ * one step at a time, resolving ladders through the board's compiled jump table.
+ *
+ * <p>When the incubating Vector API is available (run with
+ * {@code --add-modules jdk.incubator.vector}) the lanes are stepped with SIMD instructions,
+ * otherwise a plain Java kernel is used. Both give exactly the same result for the same seed,
+ * and so does any number of lanes or threads. The results follow the same rules as
+ * {@link MonteCarloSimulator} but use a different dice generator, so they agree statistically,
+ * not game for game.
+ */
+public class LockstepSimulator {
+  private static final Logger LOGGER = Logger.getLogger(LockstepSimulator.class.getName());
+
+  /** Default number of games each task plays side by side. */
+  public static final int DEFAULT_LANES = 256;
+  private static final String VECTOR_MODULE = "jdk.incubator.vector";
+  private static final int MIN_GAMES_PER_LANE = 16;
+
+  private final ForkJoinPool pool;
+  private final int maxTurnsPerGame;
+  private final int lanes;
+  private final boolean vectorized;
+
+  /**
+   * Creates a simulator on the common fork/join pool, using the Vector API if available.
+   */
+  public LockstepSimulator() {
+    this(ForkJoinPool.commonPool(), MonteCarloSimulator.DEFAULT_MAX_TURNS_PER_GAME, DEFAULT_LANES,
+        isVectorApiAvailable());
+  }
+
+  /**
+   * Creates a simulator.
+   *
+   * @param pool the fork/join pool to run on
+   * @param maxTurnsPerGame the number of turns after which a game is abandoned
+   * @param lanes the number of games each task plays side by side
+   * @param vectorized true to use the Vector API, ignored if it is not available
+   * @throws NullPointerException if pool is null
+   * @throws IllegalArgumentException if maxTurnsPerGame or lanes is not positive
+   */
+  public LockstepSimulator(ForkJoinPool pool, int maxTurnsPerGame, int lanes, boolean vectorized) {
+    if (maxTurnsPerGame <= 0) {
+      throw new IllegalArgumentException("Max turns per game must be positive");
+    }
+    if (lanes <= 0) {
+      throw new IllegalArgumentException("Number of lanes must be positive");
+    }
+    this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    this.maxTurnsPerGame = maxTurnsPerGame;
+    this.vectorized = vectorized && isVectorApiAvailable();
+    if (vectorized && !this.vectorized) {
+      LOGGER.info("Vector API not available, using the scalar lockstep kernel");
+    }
+    // Round up to whole vectors, the lane count does not change the result
+    int width = this.vectorized ? VectorLockstepKernel.getWidth() : 1;
+    this.lanes = (lanes + width - 1) / width * width;
+  }
+
+  /**
+   * Checks if the incubating Vector API module is present in this JVM.
+   *
+   * @return true if the vector kernel can be used
+   */
+  public static boolean isVectorApiAvailable() {
+    return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+  }
+
+  public boolean isVectorized() {
+    return vectorized;
+  }
+
+  public int getLanes() {
+    return lanes;
+  }
+
+  /**
+   * Simulates complete games on a board.
+   *
+   * @param board the board to play on
+   * @param games the number of games to simulate
+   * @param players the number of players in each game
+   * @param seed the seed all dice are derived from
+   * @return the aggregated statistics
+   * @throws NullPointerException if board is null
+   * @throws IllegalArgumentException if games is negative or players is not positive
+   */
+  public SimulationResult simulate(Board board, long games, int players, long seed) {
+    Objects.requireNonNull(board, "Board cannot be null");
+    if (games < 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative");
+    }
+    if (players <= 0) {
+      throw new IllegalArgumentException("Number of players must be positive");
+    }
+    int[] jumps = board.getJumpTable().toArray();
+    long threshold = Math.max((long) lanes * MIN_GAMES_PER_LANE, games / (pool.getParallelism() * 8L));
+    return pool.invoke(new LockstepTask(jumps, players, seed, 0, games, threshold));
+  }
+
+  private LockstepKernel createKernel() {
+    return vectorized ? new VectorLockstepKernel() : new ScalarLockstepKernel();
+  }
+
+  /**
+   * Fork/join task simulating a range of games, split in halves until small enough.
+   */
+  private class LockstepTask extends RecursiveTask<SimulationResult> {
+    private final int[] jumps;
+    private final int players;
+    private final long seed;
+    private final long firstGame;
+    private final long endGame;
+    private final long threshold;
+
+    LockstepTask(int[] jumps, int players, long seed, long firstGame, long endGame, long threshold) {
+      this.jumps = jumps;
+      this.players = players;
+      this.seed = seed;
+      this.firstGame = firstGame;
+      this.endGame = endGame;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected SimulationResult compute() {
+      if (endGame - firstGame <= threshold) {
+        return new LockstepLanes(jumps, players, lanes, maxTurnsPerGame, seed, firstGame, endGame)
+            .run(createKernel());
+      }
+      long middle = firstGame + (endGame - firstGame) / 2;
+      LockstepTask left = new LockstepTask(jumps, players, seed, firstGame, middle, threshold);
+      LockstepTask right = new LockstepTask(jumps, players, seed, middle, endGame, threshold);
+      left.fork();
+      SimulationResult result = right.compute();
+      return result.merge(left.join());
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package edu.ntnu.iir.bidata.laddergame.simulation;
+
+import edu.ntnu.iir.bidata.laddergame.file.BoardRegistry;
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command line comparison of the simulators: the game-at-a-time Monte Carlo simulator against
+ * the scalar and vectorized lockstep simulators, reporting games per second.
+ *
+ * <p>Usage: {@code LockstepSimulatorCli <board name> [games] [players] [seed]}. Run the JVM with
+ * {@code --add-modules jdk.incubator.vector} to include the vectorized kernel.
+ */
+public class LockstepSimulatorCli {
+  private static final long DEFAULT_GAMES = 2_000_000;
+  private static final int DEFAULT_PLAYERS = 2;
+
+  public static void main(String[] args) {
+    if (args.length == 0) {
+      System.out.println("Usage: LockstepSimulatorCli <board name> [games] [players] [seed]");
+      System.out.println("Available boards: " + BoardRegistry.getInstance().getBoardNames());
+      return;
+    }
+
+    String boardName = args[0];
+    long games = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_GAMES;
+    int players = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_PLAYERS;
+    long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+    Board board = BoardRegistry.getInstance().getBoardByNameAsync(boardName).join();
+    if (board == null) {
+      System.out.println("Unknown board: " + boardName);
+      System.out.println("Available boards: " + BoardRegistry.getInstance().getBoardNames());
+      return;
+    }
+
+    System.out.printf(Locale.US, "Board: %s (%d tiles), %d games with %d players, seed %d%n",
+        board.getBoardName(), board.getTiles().size(), games, players, seed);
+    ForkJoinPool pool = ForkJoinPool.commonPool();
+    int maxTurns = MonteCarloSimulator.DEFAULT_MAX_TURNS_PER_GAME;
+    MonteCarloSimulator monteCarlo = new MonteCarloSimulator(pool, maxTurns);
+    LockstepSimulator scalar = new LockstepSimulator(pool, maxTurns, LockstepSimulator.DEFAULT_LANES, false);
+
+    // Warm up each path once before timing it
+    double baseline = report("Monte Carlo", games,
+        () -> monteCarlo.simulate(board, games / 10, players, seed),
+        () -> monteCarlo.simulate(board, games, players, seed), 0);
+    report("Lockstep scalar", games,
+        () -> scalar.simulate(board, games / 10, players, seed),
+        () -> scalar.simulate(board, games, players, seed), baseline);
+    if (LockstepSimulator.isVectorApiAvailable()) {
+      LockstepSimulator vector = new LockstepSimulator(pool, maxTurns, LockstepSimulator.DEFAULT_LANES, true);
+      report("Lockstep vector", games,
+          () -> vector.simulate(board, games / 10, players, seed),
+          () -> vector.simulate(board, games, players, seed), baseline);
+    } else {
+      System.out.println("Lockstep vector: not available, run with --add-modules jdk.incubator.vector");
+    }
+  }
+
+  private static double report(String name, long games, Simulation warmUp, Simulation run, double baseline) {
+    warmUp.simulate();
+    long start = System.nanoTime();
+    SimulationResult result = run.simulate();
+    double seconds = (System.nanoTime() - start) / 1e9;
+    double gamesPerSecond = games / seconds;
+    System.out.printf(Locale.US, "%-16s %10.0f games/s  mean length %.3f rounds%s%n",
+        name + ":", gamesPerSecond, result.getMeanLength(),
+        baseline > 0 ? String.format(Locale.US, "  (%.2fx Monte Carlo)", gamesPerSecond / baseline) : "");
+    return gamesPerSecond;
+  }
+
+  @FunctionalInterface
+  private interface Simulation {
+    SimulationResult simulate();
+  }
+}
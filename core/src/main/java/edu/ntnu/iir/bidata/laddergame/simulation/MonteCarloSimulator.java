@@ -0,0 +1,173 @@
+package edu.ntnu.iir.bidata.laddergame.simulation;
+
+import edu.ntnu.iir.bidata.laddergame.engine.GameEngine;
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.DiceSource;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Simulates complete games on a board with the headless {@link GameEngine}, spreading the games
+ * over all cores with fork/join.
+ *
+ * <p>Every game gets its own {@link DiceSource}, seeded from the simulation seed and the number of
+ * the game. No generator is shared between threads, the same seed always gives the same result
+ * no matter how the work is split, and any single game can be replayed with
+ * {@link #replayGame(Board, int, long, long)}.
+ */
+public class MonteCarloSimulator {
+  /** Default limit on the number of turns a single game may take. */
+  public static final int DEFAULT_MAX_TURNS_PER_GAME = 100_000;
+  private static final int MIN_GAMES_PER_TASK = 256;
+
+  private final ForkJoinPool pool;
+  private final int maxTurnsPerGame;
+
+  /**
+   * Creates a simulator that runs on the common fork/join pool.
+   */
+  public MonteCarloSimulator() {
+    this(ForkJoinPool.commonPool(), DEFAULT_MAX_TURNS_PER_GAME);
+  }
+
+  /**
+   * Creates a simulator that runs on the given pool.
+   *
+   * @param pool the fork/join pool to run on
+   * @param maxTurnsPerGame the number of turns after which a game is abandoned
+   * @throws NullPointerException if pool is null
+   * @throws IllegalArgumentException if maxTurnsPerGame is not positive
+   */
+  public MonteCarloSimulator(ForkJoinPool pool, int maxTurnsPerGame) {
+    if (maxTurnsPerGame <= 0) {
+      throw new IllegalArgumentException("Max turns per game must be positive");
+    }
+    this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    this.maxTurnsPerGame = maxTurnsPerGame;
+  }
+
+  /**
+   * Simulates complete games on a board.
+   *
+   * @param board the board to play on
+   * @param games the number of games to simulate
+   * @param players the number of players in each game
+   * @param seed the seed all random generators are derived from
+   * @return the aggregated statistics
+   * @throws NullPointerException if board is null
+   * @throws IllegalArgumentException if games is negative or players is not positive
+   */
+  public SimulationResult simulate(Board board, long games, int players, long seed) {
+    Objects.requireNonNull(board, "Board cannot be null");
+    if (games < 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative");
+    }
+    if (players <= 0) {
+      throw new IllegalArgumentException("Number of players must be positive");
+    }
+    long threshold = Math.max(MIN_GAMES_PER_TASK, games / (pool.getParallelism() * 8L));
+    return pool.invoke(new SimulationTask(board, players, seed, 0, games, threshold));
+  }
+
+  /**
+   * Plays one game of a simulation again, turn for turn.
+   *
+   * @param board the board the simulation was run on
+   * @param players the number of players in each game
+   * @param seed the seed of the simulation
+   * @param game the number of the game, from 0
+   * @return the engine after the game, or after the turn limit was reached
+   * @throws NullPointerException if board is null
+   * @throws IllegalArgumentException if players is not positive
+   */
+  public GameEngine replayGame(Board board, int players, long seed, long game) {
+    Objects.requireNonNull(board, "Board cannot be null");
+    if (players <= 0) {
+      throw new IllegalArgumentException("Number of players must be positive");
+    }
+    GameEngine engine = new GameEngine(board);
+    engine.setPlayerCount(players);
+    DiceSource dice = new DiceSource(gameSeed(seed, game));
+    int turns = 0;
+    while (turns < maxTurnsPerGame && engine.playTurn(dice.nextFace()) >= 0) {
+      turns++;
+    }
+    return engine;
+  }
+
+  /**
+   * Derives the seed of one game from the seed of the simulation.
+   *
+   * @param seed the seed of the simulation
+   * @param game the number of the game, from 0
+   * @return the seed of the game's dice
+   */
+  public static long gameSeed(long seed, long game) {
+    // SplitMix64 finalizer over the golden ratio sequence, as used by SplittableRandom
+    long z = seed + (game + 1) * 0x9e3779b97f4a7c15L;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Fork/join task simulating a range of games, split in halves until small enough.
+   */
+  private class SimulationTask extends RecursiveTask<SimulationResult> {
+    private final Board board;
+    private final int players;
+    private final long seed;
+    private final long firstGame;
+    private final long endGame;
+    private final long threshold;
+
+    SimulationTask(Board board, int players, long seed, long firstGame, long endGame, long threshold) {
+      this.board = board;
+      this.players = players;
+      this.seed = seed;
+      this.firstGame = firstGame;
+      this.endGame = endGame;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected SimulationResult compute() {
+      if (endGame - firstGame <= threshold) {
+        return simulateGames();
+      }
+      long middle = firstGame + (endGame - firstGame) / 2;
+      SimulationTask left = new SimulationTask(board, players, seed, firstGame, middle, threshold);
+      SimulationTask right = new SimulationTask(board, players, seed, middle, endGame, threshold);
+      left.fork();
+      SimulationResult result = right.compute();
+      return result.merge(left.join());
+    }
+
+    private SimulationResult simulateGames() {
+      GameEngine engine = new GameEngine(board);
+      engine.setPlayerCount(players);
+      SimulationResult result = new SimulationResult(players, board.getTiles().size());
+      for (long game = firstGame; game < endGame; game++) {
+        DiceSource dice = new DiceSource(gameSeed(seed, game));
+        engine.reset();
+        int winnerTurn = 0;
+        int turn = 0;
+        while (turn < maxTurnsPerGame && engine.playTurn(dice.nextFace()) >= 0) {
+          turn++;
+          result.recordLanding(engine.getLastLandingPosition());
+          if (winnerTurn == 0 && engine.getRankCount() > 0) {
+            winnerTurn = turn;
+          }
+        }
+        if (winnerTurn == 0) {
+          result.recordUnfinishedGame();
+        } else {
+          // Nobody is skipped before the first player finishes, so seats move in strict rotation
+          result.recordGame(game, engine.getRankedPlayer(0), (winnerTurn - 1) / players + 1);
+        }
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package edu.ntnu.iir.bidata.laddergame.simulation;
+
+/**
+ * Plain Java lockstep kernel, one lane at a time. Used when the Vector API is not available and
+ * as the reference the vector kernel must match.
+ */
+final class ScalarLockstepKernel implements LockstepKernel {
+  private long[] landings;
+
+  @Override
+  public void step(LockstepLanes lanes) {
+    if (landings == null) {
+      landings = new long[lanes.jumps.length];
+    }
+    int laneCount = lanes.laneCount;
+    for (int lane = 0; lane < laneCount; lane++) {
+      if (lanes.active[lane] == 0) {
+        continue;
+      }
+      int seat = lanes.seats[lane];
+      int index = seat * laneCount + lane;
+      int position = lanes.positions[index];
+      lanes.seats[lane] = seat + 1 == lanes.players ? 0 : seat + 1;
+      if (position >= lanes.finalTile) {
+        continue;
+      }
+
+      int s0 = lanes.random0[lane];
+      int s1 = lanes.random1[lane];
+      int roll;
+      do {
+        int output = Integer.rotateLeft(s0 * LockstepLanes.MULTIPLIER, 5) * 5;
+        s1 ^= s0;
+        s0 = Integer.rotateLeft(s0, 26) ^ s1 ^ (s1 << 9);
+        s1 = Integer.rotateLeft(s1, 13);
+        roll = output >>> 16;
+        if (roll >= LockstepLanes.ROLL_LIMIT) {
+          roll = output & LockstepLanes.ROLL_MASK;
+        }
+      } while (roll >= LockstepLanes.ROLL_LIMIT);
+      lanes.random0[lane] = s0;
+      lanes.random1[lane] = s1;
+
+      int landing = Math.min(position + roll % LockstepLanes.FACES + 1, lanes.finalTile);
+      int to = lanes.jumps[landing];
+      lanes.positions[index] = to;
+      landings[landing]++;
+      int turns = ++lanes.turns[lane];
+      if (to >= lanes.finalTile || turns >= lanes.maxTurns) {
+        lanes.handleEvent(lane, seat);
+      }
+    }
+  }
+
+  @Override
+  public void flushLandings(LockstepLanes lanes) {
+    if (landings == null) {
+      return;
+    }
+    for (int tile = 0; tile < landings.length; tile++) {
+      if (landings[tile] > 0) {
+        lanes.recordLandings(tile, landings[tile]);
+      }
+    }
+    landings = null;
+  }
+}
@@ -0,0 +1,235 @@
+package edu.ntnu.iir.bidata.laddergame.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Aggregated statistics from a batch of simulated games.
+ *
+ * <p>The game length is counted in rounds: the number of turns the winner needed to reach the
+ * final tile. With a single player this is the number of turns the game lasted. Tile landing
+ * counts record the tile each die roll put a player on, before any ladder was taken.
+ */
+public class SimulationResult {
+  private final int playerCount;
+  private long games;
+  private long unfinishedGames;
+  private long turns;
+  private long[] lengthCounts;
+  private final long[] wins;
+  private final long[] landingCounts;
+  private long longestGame = -1;
+  private int longestGameLength;
+
+  /**
+   * Creates an empty result.
+   *
+   * @param playerCount the number of players in each game
+   * @param tileCount the number of tiles on the board
+   */
+  public SimulationResult(int playerCount, int tileCount) {
+    this.playerCount = playerCount;
+    this.lengthCounts = new long[64];
+    this.wins = new long[playerCount];
+    this.landingCounts = new long[tileCount];
+  }
+
+  void recordGame(long game, int winner, int length) {
+    if (length > longestGameLength || (length == longestGameLength && game < longestGame)) {
+      longestGame = game;
+      longestGameLength = length;
+    }
+    games++;
+    wins[winner]++;
+    if (length >= lengthCounts.length) {
+      lengthCounts = Arrays.copyOf(lengthCounts, Math.max(length + 1, lengthCounts.length * 2));
+    }
+    lengthCounts[length]++;
+  }
+
+  void recordUnfinishedGame() {
+    unfinishedGames++;
+  }
+
+  void recordLanding(int tileIndex) {
+    turns++;
+    landingCounts[tileIndex]++;
+  }
+
+  void recordLandings(int tileIndex, long count) {
+    turns += count;
+    landingCounts[tileIndex] += count;
+  }
+
+  /**
+   * Adds the statistics of another result for the same board and player count to this one.
+   *
+   * @param other the result to merge
+   * @return this result
+   */
+  SimulationResult merge(SimulationResult other) {
+    if (other.longestGame >= 0 && (longestGame < 0 || other.longestGameLength > longestGameLength
+        || (other.longestGameLength == longestGameLength && other.longestGame < longestGame))) {
+      longestGame = other.longestGame;
+      longestGameLength = other.longestGameLength;
+    }
+    games += other.games;
+    unfinishedGames += other.unfinishedGames;
+    turns += other.turns;
+    if (other.lengthCounts.length > lengthCounts.length) {
+      lengthCounts = Arrays.copyOf(lengthCounts, other.lengthCounts.length);
+    }
+    for (int i = 0; i < other.lengthCounts.length; i++) {
+      lengthCounts[i] += other.lengthCounts[i];
+    }
+    for (int i = 0; i < wins.length; i++) {
+      wins[i] += other.wins[i];
+    }
+    for (int i = 0; i < landingCounts.length; i++) {
+      landingCounts[i] += other.landingCounts[i];
+    }
+    return this;
+  }
+
+  public int getPlayerCount() {
+    return playerCount;
+  }
+
+  /**
+   * Gets the number of games that produced a winner.
+   *
+   * @return the number of finished games
+   */
+  public long getGames() {
+    return games;
+  }
+
+  /**
+   * Gets the number of games stopped by the turn limit before anyone finished.
+   *
+   * @return the number of unfinished games
+   */
+  public long getUnfinishedGames() {
+    return unfinishedGames;
+  }
+
+  /**
+   * Gets the total number of turns played over all games.
+   *
+   * @return the number of turns
+   */
+  public long getTurns() {
+    return turns;
+  }
+
+  /**
+   * Gets the number of games that lasted the given number of rounds.
+   *
+   * @param length the game length in rounds
+   * @return the number of games with that length
+   */
+  public long getLengthCount(int length) {
+    return length >= 0 && length < lengthCounts.length ? lengthCounts[length] : 0;
+  }
+
+  /**
+   * Gets the longest game length observed.
+   *
+   * @return the maximum game length in rounds, or 0 if no game finished
+   */
+  public int getMaxLength() {
+    for (int i = lengthCounts.length - 1; i > 0; i--) {
+      if (lengthCounts[i] > 0) {
+        return i;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Gets the number of the longest finished game, the first one if several are equally long. The
+   * game can be replayed with {@link MonteCarloSimulator#replayGame}.
+   *
+   * @return the game number, or -1 if no game finished
+   */
+  public long getLongestGame() {
+    return longestGame;
+  }
+
+  /**
+   * Gets the mean game length.
+   *
+   * @return the mean length in rounds
+   */
+  public double getMeanLength() {
+    if (games == 0) {
+      return 0;
+    }
+    double sum = 0;
+    for (int i = 0; i < lengthCounts.length; i++) {
+      sum += (double) i * lengthCounts[i];
+    }
+    return sum / games;
+  }
+
+  /**
+   * Gets the smallest game length that at least the given fraction of games did not exceed.
+   *
+   * @param fraction the fraction between 0 and 1, e.g. 0.5 for the median
+   * @return the game length in rounds
+   */
+  public int getLengthPercentile(double fraction) {
+    long threshold = (long) Math.ceil(fraction * games);
+    long seen = 0;
+    for (int i = 0; i < lengthCounts.length; i++) {
+      seen += lengthCounts[i];
+      if (seen >= threshold && seen > 0) {
+        return i;
+      }
+    }
+    return getMaxLength();
+  }
+
+  /**
+   * Gets the number of games won by the player in the given seat.
+   *
+   * @param seat the seat index, 0 moves first
+   * @return the number of wins
+   */
+  public long getWins(int seat) {
+    return wins[seat];
+  }
+
+  /**
+   * Gets the fraction of finished games won by the player in the given seat.
+   *
+   * @param seat the seat index, 0 moves first
+   * @return the win rate between 0 and 1
+   */
+  public double getWinRate(int seat) {
+    return games == 0 ? 0 : (double) wins[seat] / games;
+  }
+
+  /**
+   * Gets the number of times a die roll put a player on the given tile.
+   *
+   * @param tileIndex the tile index
+   * @return the number of landings
+   */
+  public long getLandingCount(int tileIndex) {
+    return landingCounts[tileIndex];
+  }
+
+  public int getTileCount() {
+    return landingCounts.length;
+  }
+
+  @Override
+  public String toString() {
+    return "SimulationResult{" +
+        "games=" + games +
+        ", players=" + playerCount +
+        ", meanLength=" + getMeanLength() +
+        ", wins=" + Arrays.toString(wins) +
+        '}';
+  }
+}
@@ -0,0 +1,87 @@
+package edu.ntnu.iir.bidata.laddergame.simulation;
+
+import edu.ntnu.iir.bidata.laddergame.file.BoardRegistry;
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import java.util.Locale;
+
+/**
+ * Command line entry point for the Monte Carlo simulator.
+ *
+ * <p>Usage: {@code SimulatorCli <board name> [games] [players] [seed]}
+ */
+public class SimulatorCli {
+  private static final long DEFAULT_GAMES = 1_000_000;
+  private static final int DEFAULT_PLAYERS = 2;
+  private static final int HISTOGRAM_WIDTH = 50;
+
+  public static void main(String[] args) {
+    if (args.length == 0) {
+      System.out.println("Usage: SimulatorCli <board name> [games] [players] [seed]");
+      System.out.println("Available boards: " + BoardRegistry.getInstance().getBoardNames());
+      return;
+    }
+
+    String boardName = args[0];
+    long games = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_GAMES;
+    int players = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_PLAYERS;
+    long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+    Board board = BoardRegistry.getInstance().getBoardByNameAsync(boardName).join();
+    if (board == null) {
+      System.out.println("Unknown board: " + boardName);
+      System.out.println("Available boards: " + BoardRegistry.getInstance().getBoardNames());
+      return;
+    }
+
+    long start = System.nanoTime();
+    SimulationResult result = new MonteCarloSimulator().simulate(board, games, players, seed);
+    double seconds = (System.nanoTime() - start) / 1e9;
+
+    printReport(board, result, seed, seconds);
+  }
+
+  private static void printReport(Board board, SimulationResult result, long seed, double seconds) {
+    System.out.printf(Locale.US, "Board: %s (%d tiles)%n", board.getBoardName(), result.getTileCount());
+    System.out.printf(Locale.US, "Games: %d with %d players, seed %d%n",
+        result.getGames(), result.getPlayerCount(), seed);
+    System.out.printf(Locale.US, "Time: %.3f s (%.0f games/s, %.0f turns/s)%n",
+        seconds, result.getGames() / seconds, result.getTurns() / seconds);
+    if (result.getUnfinishedGames() > 0) {
+      System.out.println("Unfinished games (turn limit reached): " + result.getUnfinishedGames());
+    }
+
+    System.out.println();
+    System.out.println("Game length in rounds (turns taken by the winner)");
+    System.out.printf(Locale.US, "  mean %.2f, median %d, p90 %d, p99 %d, max %d%n",
+        result.getMeanLength(), result.getLengthPercentile(0.5), result.getLengthPercentile(0.9),
+        result.getLengthPercentile(0.99), result.getMaxLength());
+    if (result.getLongestGame() >= 0) {
+      System.out.printf(Locale.US, "  longest is game %d, replay it with seed %d and game %d%n",
+          result.getLongestGame(), seed, result.getLongestGame());
+    }
+    long mostCommon = 0;
+    for (int length = 0; length <= result.getMaxLength(); length++) {
+      mostCommon = Math.max(mostCommon, result.getLengthCount(length));
+    }
+    int lastShown = result.getLengthPercentile(0.999);
+    for (int length = 1; length <= lastShown; length++) {
+      long count = result.getLengthCount(length);
+      int bar = mostCommon == 0 ? 0 : (int) (count * HISTOGRAM_WIDTH / mostCommon);
+      System.out.printf(Locale.US, "  %4d %8.4f%% %s%n",
+          length, 100.0 * count / result.getGames(), "#".repeat(bar));
+    }
+
+    System.out.println();
+    System.out.println("Win rate per seat");
+    for (int seat = 0; seat < result.getPlayerCount(); seat++) {
+      System.out.printf(Locale.US, "  seat %d: %.4f%%%n", seat + 1, 100.0 * result.getWinRate(seat));
+    }
+
+    System.out.println();
+    System.out.println("Landings per tile (per game)");
+    for (int tile = 1; tile < result.getTileCount(); tile++) {
+      System.out.printf(Locale.US, "  tile %4d: %.4f%n",
+          tile, (double) result.getLandingCount(tile) / Math.max(1, result.getGames()));
+    }
+  }
+}
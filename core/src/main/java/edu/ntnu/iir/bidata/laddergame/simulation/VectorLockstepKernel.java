@@ -0,0 +1,131 @@
+package edu.ntnu.iir.bidata.laddergame.simulation;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Lockstep kernel using the incubating Vector API. Positions, seats, turn counters and dice
+ * generators of {@code IntVector.SPECIES_PREFERRED.length()} lanes are stepped together, the
+ * current positions and the jump table are read with gathers and landings are counted in a
+ * histogram with one column per vector lane, so no two lanes of a scatter hit the same slot.
+ *
+ * <p>Only loaded when the {@code jdk.incubator.vector} module is present.
+ */
+final class VectorLockstepKernel implements LockstepKernel {
+  static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+  private static final int WIDTH = SPECIES.length();
+  /** Flush the int histogram well before a slot could overflow. */
+  private static final long FLUSH_STEPS = 1L << 30;
+
+  private final int[] positionIndexes = new int[WIDTH];
+  private final int[] indexes = new int[WIDTH];
+  private final IntVector laneOffsets = IntVector.zero(SPECIES).addIndex(1);
+  private int[] histogram;
+  private long stepsSinceFlush;
+
+  static int getWidth() {
+    return WIDTH;
+  }
+
+  @Override
+  public void step(LockstepLanes lanes) {
+    if (histogram == null) {
+      histogram = new int[(lanes.idleTile + 1) * WIDTH];
+    }
+    int laneCount = lanes.laneCount;
+    int finalTile = lanes.finalTile;
+    for (int base = 0; base < laneCount; base += WIDTH) {
+      IntVector seat = IntVector.fromArray(SPECIES, lanes.seats, base);
+      IntVector index = seat.mul(laneCount).add(laneOffsets).add(base);
+      index.intoArray(positionIndexes, 0);
+      IntVector position = IntVector.fromArray(SPECIES, lanes.positions, 0, positionIndexes, 0);
+      VectorMask<Integer> moving = position.compare(VectorOperators.LT, finalTile)
+          .and(IntVector.fromArray(SPECIES, lanes.active, base).compare(VectorOperators.NE, 0));
+
+      IntVector next = seat.add(1);
+      next.blend(0, next.compare(VectorOperators.EQ, lanes.players)).intoArray(lanes.seats, base);
+      if (!moving.anyTrue()) {
+        continue;
+      }
+
+      // Roll in every lane, keeping the new generator state only where a player moves
+      IntVector s0 = IntVector.fromArray(SPECIES, lanes.random0, base);
+      IntVector s1 = IntVector.fromArray(SPECIES, lanes.random1, base);
+      IntVector output = s0.mul(LockstepLanes.MULTIPLIER).lanewise(VectorOperators.ROL, 5).mul(5);
+      IntVector mixed = s1.lanewise(VectorOperators.XOR, s0);
+      s0 = s0.blend(nextState0(s0, mixed), moving);
+      s1 = s1.blend(mixed.lanewise(VectorOperators.ROL, 13), moving);
+      IntVector roll = pickRoll(output);
+      VectorMask<Integer> redraw = roll.compare(VectorOperators.GE, LockstepLanes.ROLL_LIMIT).and(moving);
+      while (redraw.anyTrue()) {
+        output = s0.mul(LockstepLanes.MULTIPLIER).lanewise(VectorOperators.ROL, 5).mul(5);
+        mixed = s1.lanewise(VectorOperators.XOR, s0);
+        s0 = s0.blend(nextState0(s0, mixed), redraw);
+        s1 = s1.blend(mixed.lanewise(VectorOperators.ROL, 13), redraw);
+        roll = roll.blend(pickRoll(output), redraw);
+        redraw = roll.compare(VectorOperators.GE, LockstepLanes.ROLL_LIMIT).and(redraw);
+      }
+      s0.intoArray(lanes.random0, base);
+      s1.intoArray(lanes.random1, base);
+
+      // roll % 6 without a division: roll * 43691 >>> 18 is roll / 6 for every roll below 2^16
+      IntVector quotient = roll.mul(43_691).lanewise(VectorOperators.LSHR, 18);
+      IntVector face = roll.sub(quotient.mul(LockstepLanes.FACES)).add(1);
+      IntVector landing = position.add(face).min(finalTile);
+      landing.intoArray(indexes, 0);
+      IntVector to = IntVector.fromArray(SPECIES, lanes.jumps, 0, indexes, 0);
+      position.blend(to, moving).intoArray(lanes.positions, 0, positionIndexes, 0);
+
+      IntVector slot = landing.blend(lanes.idleTile, moving.not()).mul(WIDTH).add(laneOffsets);
+      slot.intoArray(indexes, 0);
+      IntVector.fromArray(SPECIES, histogram, 0, indexes, 0).add(1).intoArray(histogram, 0, indexes, 0);
+
+      IntVector turns = IntVector.fromArray(SPECIES, lanes.turns, base).lanewise(VectorOperators.ADD, 1, moving);
+      turns.intoArray(lanes.turns, base);
+
+      VectorMask<Integer> events = to.compare(VectorOperators.GE, finalTile)
+          .or(turns.compare(VectorOperators.GE, lanes.maxTurns)).and(moving);
+      long bits = events.toLong();
+      while (bits != 0) {
+        int lane = Long.numberOfTrailingZeros(bits);
+        bits &= bits - 1;
+        lanes.handleEvent(base + lane, seat.lane(lane));
+      }
+    }
+    if (++stepsSinceFlush * (laneCount / WIDTH) >= FLUSH_STEPS) {
+      flushLandings(lanes);
+    }
+  }
+
+  @Override
+  public void flushLandings(LockstepLanes lanes) {
+    if (histogram == null) {
+      return;
+    }
+    for (int tile = 0; tile < lanes.idleTile; tile++) {
+      long count = 0;
+      for (int lane = 0; lane < WIDTH; lane++) {
+        count += histogram[tile * WIDTH + lane];
+      }
+      if (count > 0) {
+        lanes.recordLandings(tile, count);
+      }
+    }
+    histogram = new int[histogram.length];
+    stepsSinceFlush = 0;
+  }
+
+  private static IntVector nextState0(IntVector s0, IntVector mixed) {
+    return s0.lanewise(VectorOperators.ROL, 26)
+        .lanewise(VectorOperators.XOR, mixed)
+        .lanewise(VectorOperators.XOR, mixed.lanewise(VectorOperators.LSHL, 9));
+  }
+
+  private static IntVector pickRoll(IntVector output) {
+    IntVector high = output.lanewise(VectorOperators.LSHR, 16);
+    IntVector low = output.and(LockstepLanes.ROLL_MASK);
+    return high.blend(low, high.compare(VectorOperators.GE, LockstepLanes.ROLL_LIMIT));
+  }
+}
@@ -1,14 +1,15 @@
 package edu.ntnu.iir.bidata.laddergame.util;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Generic observable base class for the observer pattern.
+ * Observers may be added and removed while observers are being notified, also from other threads.
  * @param <T> the type of data being observed
  */
 public abstract class Observable<T> {
-  private final List<Observer<T>> observers = new ArrayList<>();
+  private final List<Observer<T>> observers = new CopyOnWriteArrayList<>();
 
   public void addObserver(Observer<T> observer) {
     if (observer == null) throw new IllegalArgumentException("Observer cannot be null");
@@ -0,0 +1,16 @@
+module edu.ntnu.iir.bidata.laddergame.core {
+  requires com.google.gson;
+  requires java.logging;
+  // Optional: the lockstep simulator only uses it when the JVM is started with the module
+  requires static jdk.incubator.vector;
+
+  exports edu.ntnu.iir.bidata.laddergame.model;
+  exports edu.ntnu.iir.bidata.laddergame.engine;
+  exports edu.ntnu.iir.bidata.laddergame.simulation;
+  exports edu.ntnu.iir.bidata.laddergame.analysis;
+  exports edu.ntnu.iir.bidata.laddergame.util;
+  exports edu.ntnu.iir.bidata.laddergame.file;
+
+  opens edu.ntnu.iir.bidata.laddergame.model to com.google.gson;
+  opens edu.ntnu.iir.bidata.laddergame.util to com.google.gson;
+}
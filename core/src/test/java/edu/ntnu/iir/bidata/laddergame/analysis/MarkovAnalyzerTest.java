@@ -0,0 +1,58 @@
+package edu.ntnu.iir.bidata.laddergame.analysis;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.LadderAction;
+import edu.ntnu.iir.bidata.laddergame.model.Tile;
+import edu.ntnu.iir.bidata.laddergame.simulation.MonteCarloSimulator;
+import edu.ntnu.iir.bidata.laddergame.simulation.SimulationResult;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MarkovAnalyzerTest {
+
+    private final MarkovAnalyzer analyzer = new MarkovAnalyzer();
+
+    @Test
+    public void testMatchesMonteCarlo() {
+        Board board = new Board();
+        MarkovAnalysis analysis = analyzer.analyze(board, 10_000);
+        SimulationResult result = new MonteCarloSimulator().simulate(board, 200_000, 1, 3L);
+
+        double tolerance = 5 * analysis.getStandardDeviation() / Math.sqrt(result.getGames());
+        assertEquals(analysis.getExpectedTurns(), result.getMeanLength(), tolerance,
+            "Exact expectation should match the simulated mean");
+        assertEquals(1.0, analysis.getCumulativeProbability(analysis.getMaxTurns()) + analysis.getTailMass(), 1e-9,
+            "Length distribution should sum to 1");
+    }
+
+    @Test
+    public void testOvershootFinishesOnFinalTile() {
+        // The final tile is next to the start, so every roll finishes on it
+        MarkovAnalysis analysis = analyzer.analyze(createBoard(2), 10_000);
+        assertEquals(1.0, analysis.getExpectedTurns(), 1e-12, "Any roll should finish the game");
+        assertEquals(0.0, analysis.getVariance(), 1e-12, "Game length should be fixed");
+        assertEquals(1.0, analysis.getLengthProbability(1), 1e-12, "Game should take exactly one turn");
+    }
+
+    @Test
+    public void testTrappedTileGivesInfiniteExpectation() {
+        Board board = createBoard(20);
+        // Every tile from 10 to 15 leads back to 9, so tile 9 can never get past them
+        for (int i = 10; i <= 15; i++) {
+            board.getTile(i).setTileAction(new LadderAction(9));
+        }
+        MarkovAnalysis analysis = analyzer.analyze(board, 10_000);
+        assertFalse(analysis.isFinite(), "Trapped board should never finish");
+        assertTrue(analysis.getTailMass() > 0.5, "Most games should still be running");
+    }
+
+    private Board createBoard(int size) {
+        List<Tile> tiles = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            tiles.add(new Tile(i, i, 0, null));
+        }
+        return new Board("Test", "Test board", tiles);
+    }
+}
@@ -0,0 +1,62 @@
+package edu.ntnu.iir.bidata.laddergame.analysis;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.LadderAction;
+import edu.ntnu.iir.bidata.laddergame.model.Tile;
+import edu.ntnu.iir.bidata.laddergame.simulation.MonteCarloSimulator;
+import edu.ntnu.iir.bidata.laddergame.simulation.SimulationResult;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WinProbabilityCalculatorTest {
+
+    private final WinProbabilityCalculator calculator = new WinProbabilityCalculator();
+
+    @Test
+    public void testMatchesMonteCarlo() {
+        Board board = new Board();
+        WinProbabilities probabilities = calculator.calculate(board, 3);
+        SimulationResult result = new MonteCarloSimulator().simulate(board, 200_000, 3, 9L);
+
+        double sum = 0;
+        for (int seat = 0; seat < 3; seat++) {
+            double p = probabilities.getWinProbability(seat);
+            double tolerance = 5 * Math.sqrt(p * (1 - p) / result.getGames());
+            assertEquals(p, result.getWinRate(seat), tolerance, "Seat " + seat + " should match the simulated win rate");
+            sum += p;
+        }
+        assertEquals(1.0, sum + probabilities.getUnresolvedMass(), 1e-9, "Probabilities should sum to 1");
+        assertTrue(probabilities.getWinProbability(0) > probabilities.getWinProbability(2),
+            "Moving first should be an advantage");
+    }
+
+    @Test
+    public void testOneTurnBoardIsWonByFirstSeat() {
+        WinProbabilities probabilities = calculator.calculate(createBoard(2), 4);
+        assertEquals(1.0, probabilities.getWinProbability(0), 1e-12, "First seat should always win");
+        assertEquals(0.0, probabilities.getWinProbability(3), 1e-12, "Last seat should never win");
+    }
+
+    @Test
+    public void testCacheFollowsBoardContent() {
+        Board board = createBoard(50);
+        WinProbabilities before = calculator.calculate(board, 2);
+        assertSame(before, calculator.calculate(createBoard(50), 2), "Equal boards should share the cached result");
+
+        board.getTile(10).setTileAction(new LadderAction(45));
+        WinProbabilities after = calculator.calculate(board, 2);
+        assertNotEquals(before.getBoardHash(), after.getBoardHash(), "Changing a ladder should change the hash");
+        assertNotEquals(before.getWinProbability(0), after.getWinProbability(0), 1e-9,
+            "Changing a ladder should change the result");
+    }
+
+    private Board createBoard(int size) {
+        List<Tile> tiles = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            tiles.add(new Tile(i, i, 0, null));
+        }
+        return new Board("Test", "Test board", tiles);
+    }
+}
@@ -0,0 +1,50 @@
+package edu.ntnu.iir.bidata.laddergame.engine;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameEngineTest {
+
+    private GameEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        engine = new GameEngine(new Board(), 2, new SplittableRandom(42));
+    }
+
+    @Test
+    public void testTurnMovesCurrentPlayerAndPassesTurn() {
+        int moved = engine.playTurn(3);
+        assertEquals(0, moved, "First turn should belong to player 0");
+        assertEquals(3, engine.getPosition(0), "Player should move the rolled number of tiles");
+        assertEquals(1, engine.getCurrentPlayerIndex(), "Turn should pass to the next player");
+    }
+
+    @Test
+    public void testLadderIsAppliedAfterLanding() {
+        engine.playTurn(1);
+        assertEquals(1, engine.getLastLandingPosition(), "Player should land on tile 1");
+        assertEquals(40, engine.getPosition(0), "Ladder on tile 1 should take the player to tile 40");
+    }
+
+    @Test
+    public void testOvershootFinishesOnLastTile() {
+        engine.setPosition(0, engine.getFinalPosition() - 2);
+        engine.playTurn(6);
+        assertEquals(engine.getFinalPosition(), engine.getPosition(0), "Overshooting player should finish on the last tile");
+        assertEquals(1, engine.getRankCount(), "Finished player should be ranked");
+        assertEquals(0, engine.getRankedPlayer(0), "Player 0 should hold the first rank");
+        assertEquals(1, engine.getCurrentPlayerIndex(), "Finished players should be skipped");
+    }
+
+    @Test
+    public void testPlayToEndRanksEveryPlayer() {
+        engine.playToEnd(10_000);
+        assertTrue(engine.isGameOver(), "Game should be over");
+        assertEquals(2, engine.getRankCount(), "Every player should be ranked");
+        assertEquals(-1, engine.playTurn(), "No turn should be played after the game is over");
+    }
+}
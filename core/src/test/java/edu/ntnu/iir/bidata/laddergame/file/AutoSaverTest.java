@@ -0,0 +1,119 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.model.Player;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AutoSaverTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicLong turns = new AtomicLong();
+
+    private GameSave snapshot() {
+        return GameSave.of("Normal", 1L, 0, 7L, turns.get(), List.of(new Player("Ada"), new Player("Bo")), List.of());
+    }
+
+    private void play(AutoSaver autoSaver, int count) {
+        for (int i = 0; i < count; i++) {
+            turns.incrementAndGet();
+            autoSaver.turnPlayed();
+        }
+    }
+
+    @Test
+    public void testFastTurnsAreCoalesced() throws IOException {
+        Path file = tempDir.resolve("autosave" + GameSaveCodec.SUFFIX);
+        try (AutoSaver autoSaver = new AutoSaver(file, null, this::snapshot, Runnable::run, 1, Duration.ofHours(1),
+                Duration.ofMinutes(1))) {
+            play(autoSaver, 10_000);
+            autoSaver.flush().join();
+            assertTrue(autoSaver.getWriteCount() <= 2, "Snapshots waiting for the writer should be dropped");
+            assertEquals(10_000, GameSaveCodec.read(file).getDieRollCount(), "Newest snapshot should be written");
+        }
+    }
+
+    @Test
+    public void testSnapshotIsTakenEveryTurnInterval() throws IOException {
+        Path file = tempDir.resolve("autosave" + GameSaveCodec.SUFFIX);
+        try (AutoSaver autoSaver = new AutoSaver(file, null, this::snapshot, Runnable::run, 5, Duration.ofHours(1),
+                Duration.ZERO)) {
+            play(autoSaver, 4);
+            autoSaver.flush().join();
+            assertFalse(Files.exists(file), "No snapshot should be taken before the turn interval");
+
+            play(autoSaver, 8);
+            autoSaver.flush().join();
+            assertEquals(10, GameSaveCodec.read(file).getDieRollCount(), "Snapshot of the last due turn should be saved");
+        }
+    }
+
+    @Test
+    public void testCloseWritesWaitingSnapshot() throws IOException, InterruptedException {
+        Path savesDir = tempDir.resolve("saves");
+        Path file = savesDir.resolve("autosave" + GameSaveCodec.SUFFIX);
+        SaveCatalog catalog = new SaveCatalog(savesDir);
+        AutoSaver autoSaver = new AutoSaver(file, catalog, this::snapshot, Runnable::run, 1, Duration.ofHours(1),
+                Duration.ofMinutes(1));
+        play(autoSaver, 1);
+        autoSaver.flush().join();
+        play(autoSaver, 1);
+        autoSaver.close();
+        for (int i = 0; i < 100 && autoSaver.getWriteCount() < 2; i++) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(2, autoSaver.getWriteCount(), "Waiting snapshot should be written on close");
+        assertEquals(2, GameSaveCodec.read(file).getDieRollCount(), "Newest snapshot should be written");
+        assertEquals(2, catalog.list().getFirst().getTurnCount(), "Auto save should be listed in the catalog");
+        try (var files = Files.list(savesDir)) {
+            assertEquals(List.of(SaveCatalog.INDEX_FILE, file.getFileName().toString()),
+                files.map(p -> p.getFileName().toString()).sorted().toList(),
+                "No temporary files should be left behind");
+        }
+    }
+
+    @Test
+    public void testSnapshotIsTakenAfterTimeIntervalWithoutFurtherTurns()
+            throws IOException, InterruptedException, ExecutionException {
+        Path file = tempDir.resolve("autosave" + GameSaveCodec.SUFFIX);
+        ExecutorService gameThread = Executors.newSingleThreadExecutor();
+        try (AutoSaver autoSaver = new AutoSaver(file, null, this::snapshot, gameThread, 10,
+                Duration.ofMillis(200), Duration.ZERO)) {
+            gameThread.submit(() -> play(autoSaver, 3)).get();
+            assertFalse(Files.exists(file), "No snapshot should be taken before an interval has passed");
+
+            for (int i = 0; i < 100 && autoSaver.getWriteCount() == 0; i++) {
+                Thread.sleep(20);
+            }
+            assertEquals(1, autoSaver.getWriteCount(), "Idle game should be saved after the time interval");
+            assertEquals(3, GameSaveCodec.read(file).getDieRollCount(), "Turns played before going idle should be saved");
+        } finally {
+            gameThread.shutdown();
+        }
+    }
+
+    @Test
+    public void testTurnsAfterCloseAreIgnored() throws InterruptedException {
+        Path file = tempDir.resolve("autosave" + GameSaveCodec.SUFFIX);
+        AutoSaver autoSaver = new AutoSaver(file, null, this::snapshot, Runnable::run, 1, Duration.ofHours(1),
+                Duration.ZERO);
+        autoSaver.close();
+
+        assertDoesNotThrow(() -> play(autoSaver, 3), "Turns played after close should not fail");
+        Thread.sleep(100);
+        assertEquals(0, autoSaver.getWriteCount(), "Nothing should be saved after close");
+        assertFalse(Files.exists(file), "No save should be written after close");
+    }
+}
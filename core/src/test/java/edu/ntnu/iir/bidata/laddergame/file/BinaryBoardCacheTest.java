@@ -0,0 +1,76 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.LadderAction;
+import edu.ntnu.iir.bidata.laddergame.model.Tile;
+import edu.ntnu.iir.bidata.laddergame.model.TileAction;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryBoardCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testCopyIsWrittenAndUsed() throws IOException {
+        Path source = writeBoard("Big", 20_000);
+        BinaryBoardCache cache = new BinaryBoardCache(directory.resolve(".cache"), new BoardFileReaderGson());
+
+        Board parsed = cache.read(source);
+        Path copy = directory.resolve(".cache").resolve("board.json" + BinaryBoardCache.SUFFIX);
+        assertTrue(Files.exists(copy), "Large board should get a binary copy");
+
+        Board cached = cache.read(source);
+        assertEquals(parsed.getBoardName(), cached.getBoardName(), "Name should come from the copy");
+        assertEquals(parsed.getContentHash(), cached.getContentHash(), "Tiles should come from the copy");
+        assertTrue(cached.getTile(7).hasLadderAction(), "Ladders should come from the copy");
+    }
+
+    @Test
+    public void testStaleCopyFallsBackToJson() throws IOException {
+        Path source = writeBoard("Old", 20_000);
+        BinaryBoardCache cache = new BinaryBoardCache(directory.resolve(".cache"), new BoardFileReaderGson());
+        cache.read(source);
+
+        writeBoard("New", 20_000);
+        assertEquals("New", cache.read(source).getBoardName(), "Changed source should be parsed again");
+        assertEquals("New", cache.read(source).getBoardName(), "Copy should have been replaced");
+    }
+
+    @Test
+    public void testOtherFormatVersionIsIgnored() throws IOException {
+        Path source = writeBoard("Versioned", 20_000);
+        BinaryBoardCache cache = new BinaryBoardCache(directory.resolve(".cache"), new BoardFileReaderGson());
+        cache.read(source);
+
+        Path copy = directory.resolve(".cache").resolve("board.json" + BinaryBoardCache.SUFFIX);
+        try (FileChannel channel = FileChannel.open(copy, StandardOpenOption.WRITE)) {
+            ByteBuffer version = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            version.putInt(BinaryBoardCache.FORMAT_VERSION + 1).flip();
+            channel.write(version, Integer.BYTES);
+        }
+        assertEquals("Versioned", cache.read(source).getBoardName(), "Board should be parsed from JSON");
+    }
+
+    private Path writeBoard(String name, int size) throws IOException {
+        // Rows all run left to right, so no layout rule fits and every position is written
+        List<Tile> tiles = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            tiles.add(new Tile(i, i % 100, i / 100, i % 50 == 7 ? new LadderAction(i + 20) : new TileAction()));
+        }
+        Path source = directory.resolve("board.json");
+        new BoardFileWriterGson().writeBoard(new Board(name, "Test board", tiles), source.toString());
+        return source;
+    }
+}
@@ -0,0 +1,36 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardDirectoryWatcherTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testReportsChangedBoardFilesOnce() throws IOException, InterruptedException {
+        BlockingQueue<Set<Path>> changes = new LinkedBlockingQueue<>();
+        try (BoardDirectoryWatcher watcher = new BoardDirectoryWatcher(directory, 100,
+            (files, overflow) -> changes.add(files))) {
+            Path board = directory.resolve("board.json");
+            Files.writeString(board, "{\"name\": \"A\"}");
+            Files.writeString(board, "{\"name\": \"B\"}");
+            Files.writeString(directory.resolve("notes.txt"), "ignored");
+
+            Set<Path> changed = changes.poll(10, TimeUnit.SECONDS);
+            assertEquals(Set.of(board), changed, "Repeated writes should be reported as one change");
+
+            Files.delete(board);
+            assertEquals(Set.of(board), changes.poll(10, TimeUnit.SECONDS), "Deleting should be reported");
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.LadderAction;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardFileReaderGsonTest {
+
+    private final BoardFileReaderGson reader = new BoardFileReaderGson();
+
+    @Test
+    public void testReadsTilesAndSkipsUnknownFields() throws IOException {
+        Board board = reader.readBoard(stream("""
+            {"name": "Små stiger", "version": 2, "extra": {"nested": [1, 2, {"a": null}]},
+             "description": "Test",
+             "tiles": [
+               {"id": 0, "x": 0, "y": 0, "color": "red"},
+               {"id": 1, "x": 1, "y": 0, "action": {"type": "LadderAction", "destinationTileIndex": 2, "sound": "up"}},
+               {"id": 2, "x": 2, "y": 0, "action": {"type": "Teleport", "target": 0}}
+             ]}
+            """));
+
+        assertEquals("Små stiger", board.getBoardName(), "Name should be read as UTF-8");
+        assertEquals(3, board.getTiles().size(), "All tiles should be read");
+        assertEquals(2, ((LadderAction) board.getTile(1).getTileAction()).getDestinationTileIndex(),
+            "Ladder destination should be read");
+        assertFalse(board.getTile(2).hasLadderAction(), "Unknown actions should become plain tiles");
+    }
+
+    @Test
+    public void testLayoutMatchesGeneratedBoard() throws IOException {
+        Board normal;
+        try (InputStream stream = getClass().getResourceAsStream("/boards/normal.json")) {
+            normal = reader.readBoard(stream);
+        }
+        Board generated = new Board();
+        assertEquals(generated.getTiles().size(), normal.getTiles().size(), "Serpentine layout should create every tile");
+        for (int i = 0; i < generated.getTiles().size(); i++) {
+            assertEquals(generated.getTile(i).getX(), normal.getTile(i).getX(), "x of tile " + i);
+            assertEquals(generated.getTile(i).getY(), normal.getTile(i).getY(), "y of tile " + i);
+        }
+        assertEquals(generated.getJumpTable().getDestination(1), normal.getJumpTable().getDestination(1),
+            "Sparse ladders should be applied");
+    }
+
+    @Test
+    public void testSpiralLayoutWithPartialGrid() throws IOException {
+        Board board = reader.readBoard(stream("""
+            {"name": "Spiral", "layout": {"type": "spiral", "columns": 3, "rows": 3, "tiles": 8}, "ladders": [[2, 6]]}
+            """));
+        int[][] expected = {{0, 2}, {1, 2}, {2, 2}, {2, 1}, {2, 0}, {1, 0}, {0, 0}, {0, 1}};
+        assertEquals(expected.length, board.getTiles().size(), "Spiral should stop after the given tiles");
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i][0], board.getTile(i).getX(), "x of tile " + i);
+            assertEquals(expected[i][1], board.getTile(i).getY(), "y of tile " + i);
+        }
+        assertTrue(board.getTile(2).hasLadderAction(), "Ladder should be placed on tile 2");
+    }
+
+    @Test
+    public void testHeaderStopsBeforeTiles() throws IOException {
+        // The tiles are truncated, so reading them would fail
+        BoardHeader header = reader.readHeader(stream("{\"name\": \"Big\", \"description\": \"Many tiles\", \"tiles\": [{\"id\""));
+        assertEquals("Big", header.getName(), "Name should be read");
+        assertEquals("Many tiles", header.getDescription(), "Description should be read");
+    }
+
+    @Test
+    public void testInvalidBoardThrowsIOException() {
+        assertThrows(IOException.class, () -> reader.readBoard(stream("{\"name\": \"x\", \"tiles\": [{\"id\": 0, \"x\": 0}]}")),
+            "Tile without y should be rejected");
+        assertThrows(IOException.class, () -> reader.readBoard(stream("{\"name\": \"x\", \"tiles\": {}}")),
+            "Tiles that are not an array should be rejected");
+        assertThrows(IOException.class, () -> reader.readBoard(stream("{\"name\": \"x\", \"tiles\": [")),
+            "Truncated file should be rejected");
+        assertThrows(IOException.class, () -> reader.readBoard(stream("{\"name\": \"x\", \"layout\": {\"type\": \"hexagon\", \"columns\": 2, \"rows\": 2}}")),
+            "Unknown layout should be rejected");
+        assertThrows(IOException.class, () -> reader.readBoard(stream("{\"name\": \"x\", \"layout\": {\"type\": \"serpentine\", \"columns\": 2, \"rows\": 2}, \"ladders\": [[9, 1]]}")),
+            "Ladder outside the board should be rejected");
+    }
+
+    private InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
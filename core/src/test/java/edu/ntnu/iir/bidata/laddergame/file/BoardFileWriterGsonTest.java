@@ -0,0 +1,47 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardFileWriterGsonTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Board board = new Board();
+        Path file = directory.resolve("normal.json");
+        new BoardFileWriterGson().writeBoard(board, file.toString());
+
+        Board read;
+        try (InputStream stream = Files.newInputStream(file)) {
+            read = new BoardFileReaderGson().readBoard(stream);
+        }
+        assertEquals(board.getBoardName(), read.getBoardName(), "Name should survive a round trip");
+        assertEquals(board.getTiles().size(), read.getTiles().size(), "All tiles should be written");
+        assertEquals(board.getContentHash(), read.getContentHash(), "Tiles and ladders should survive a round trip");
+    }
+
+    @Test
+    public void testFailedWriteKeepsOldFile() throws IOException {
+        Path file = directory.resolve("board.json");
+        Files.writeString(file, "old");
+
+        assertThrows(IOException.class, () -> AtomicFiles.writeText(file, writer -> {
+            writer.write("partial");
+            throw new IOException("Disk full");
+        }));
+        assertEquals("old", Files.readString(file), "Old file should be untouched");
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count(), "Temporary file should be removed");
+        }
+    }
+}
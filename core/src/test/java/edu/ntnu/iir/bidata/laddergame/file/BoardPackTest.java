@@ -0,0 +1,71 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardPackTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testIndexAndBoardsSurviveRoundTrip() throws IOException {
+        Board normal = new Board();
+        Board small = new Board("Small", "Five tiles", new Board().getTiles().subList(0, 5));
+        Path file = directory.resolve("boards" + BoardPack.SUFFIX);
+        BoardPack.write(file, List.of(normal, small));
+
+        BoardPack pack = BoardPack.open(file, new BoardFileReaderGson());
+        assertEquals(2, pack.getEntries().size(), "Both boards should be in the index");
+        assertEquals("Small", pack.getEntries().get(1).getName(), "Index should keep the order boards were written in");
+        assertEquals("Five tiles", pack.getEntry("Small").getDescription(), "Description should be in the index");
+        assertEquals(small.getContentHash(), pack.getEntry("Small").getContentHash(), "Content hash should be in the index");
+
+        assertEquals(normal.getContentHash(), pack.readBoard(normal.getBoardName()).getContentHash(),
+            "Board should be parsed from the pack");
+        assertNull(pack.getEntry("Missing"), "Unknown board should have no entry");
+        assertThrows(IOException.class, () -> pack.readBoard("Missing"), "Unknown board cannot be read");
+    }
+
+    @Test
+    public void testDamagedBoardIsRejected() throws IOException {
+        Path file = directory.resolve("boards" + BoardPack.SUFFIX);
+        Board board = new Board();
+        BoardPack.write(file, List.of(board));
+        BoardPack.Entry entry = BoardPack.open(file, new BoardFileReaderGson()).getEntry(board.getBoardName());
+
+        // Change the last ladder destination digit of the JSON
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer json = ByteBuffer.allocate(entry.getLength());
+            channel.read(json, entry.getOffset());
+            int digit = entry.getLength() - 1;
+            while (!Character.isDigit(json.get(digit))) {
+                digit--;
+            }
+            byte changed = (byte) (json.get(digit) == '0' ? '1' : '0');
+            channel.write(ByteBuffer.wrap(new byte[] {changed}), entry.getOffset() + digit);
+        }
+
+        BoardPack pack = BoardPack.open(file, new BoardFileReaderGson());
+        assertThrows(IOException.class, () -> pack.readBoard(board.getBoardName()), "Board not matching its hash should be rejected");
+    }
+
+    @Test
+    public void testInvalidPacks() throws IOException {
+        Path file = directory.resolve("boards" + BoardPack.SUFFIX);
+        assertThrows(IllegalArgumentException.class, () -> BoardPack.write(file, List.of(new Board(), new Board())),
+            "Board names in a pack must be unique");
+
+        AtomicFiles.writeText(file, writer -> writer.write("{\"name\": \"Not a pack\"}"));
+        assertThrows(IOException.class, () -> BoardPack.open(file, new BoardFileReaderGson()),
+            "JSON file is not a pack");
+    }
+}
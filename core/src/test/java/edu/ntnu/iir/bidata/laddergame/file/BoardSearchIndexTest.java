@@ -0,0 +1,43 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardSearchIndexTest {
+
+    private BoardSearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new BoardSearchIndex();
+        index.put("Spiral", new BoardSummary("Spiral", "A spiral to the center", 91, 12, 1L));
+        index.put("Zigzag", new BoardSummary("Zigzag", "Rows of stars", 91, 20, 2L));
+        index.put("Big spiral", new BoardSummary("Big spiral", "Huge", 1000, 100, 1L));
+        index.put("Unread", BoardSummary.of(new BoardHeader("Unread", "Spiral, not read yet")));
+    }
+
+    @Test
+    public void testTextTermsMatchNameAndDescription() {
+        assertEquals(List.of("Spiral", "Big spiral", "Unread"), index.search("SPIRAL"),
+            "Boards named with the term should come first, then the rest by name");
+        assertEquals(List.of("Zigzag"), index.search("rows stars"), "Every term should have to match");
+        assertEquals(4, index.search("  ").size(), "Empty query should match every board");
+    }
+
+    @Test
+    public void testCountTerms() {
+        assertEquals(List.of("Spiral", "Zigzag"), index.search("tiles=91"), "Tile count should be compared");
+        assertEquals(List.of("Big spiral", "Zigzag"), index.search("ladders>=20"), "Ladder count should be compared");
+        assertEquals(List.of("Spiral"), index.search("spiral tiles<100"), "Text and count terms should combine");
+        assertFalse(index.search("tiles<100000").contains("Unread"), "Unknown counts should not match");
+    }
+
+    @Test
+    public void testDuplicatesAreFoundByContentHash() {
+        assertEquals(List.of("Big spiral", "Spiral"), index.findByContentHash(1L), "Same content hash should be found");
+        index.remove("Spiral");
+        assertEquals(List.of("Big spiral"), index.findByContentHash(1L), "Removed board should not be found");
+    }
+}
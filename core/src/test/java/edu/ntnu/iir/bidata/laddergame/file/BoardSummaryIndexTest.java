@@ -0,0 +1,64 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardSummaryIndexTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private final BoardSummary spiral = new BoardSummary("Spiral", "Round and round", 90, 7, 42L);
+
+    @Test
+    public void testSummariesAreKeptForUnchangedFiles() {
+        Path indexFile = cacheDir.resolve(BoardSummaryIndex.INDEX_FILE);
+        BoardSummaryIndex index = new BoardSummaryIndex(indexFile);
+        index.put("/boards/spiral.json", 1_000L, 512L, spiral);
+        index.put("/boards/new.json", 1_000L, 64L, new BoardSummary("New", "Not read yet", -1, -1, 0));
+        index.store();
+
+        BoardSummaryIndex reopened = new BoardSummaryIndex(indexFile);
+        BoardSummary summary = reopened.get("/boards/spiral.json", 1_000L, 512L);
+        assertNotNull(summary, "Summary of an unchanged file should be read back");
+        assertEquals("Round and round", summary.getDescription(), "Description should be indexed");
+        assertEquals(90, summary.getTileCount(), "Tile count should be indexed");
+        assertEquals(7, summary.getLadderCount(), "Ladder count should be indexed");
+        assertEquals(42L, summary.getContentHash(), "Content hash should be indexed");
+        assertNull(reopened.get("/boards/spiral.json", 2_000L, 512L), "Modified file should be parsed again");
+        assertNull(reopened.get("/boards/spiral.json", 1_000L, 513L), "Resized file should be parsed again");
+        assertNull(reopened.get("/boards/new.json", 1_000L, 64L), "Incomplete summaries should not be indexed");
+    }
+
+    @Test
+    public void testDeletedFilesAreDropped() {
+        Path indexFile = cacheDir.resolve(BoardSummaryIndex.INDEX_FILE);
+        BoardSummaryIndex index = new BoardSummaryIndex(indexFile);
+        index.put("/boards/spiral.json", 1_000L, 512L, spiral);
+        index.put("/boards/gone.json", 1_000L, 512L, spiral);
+        index.retainAll(Set.of("/boards/spiral.json"));
+        index.store();
+
+        BoardSummaryIndex reopened = new BoardSummaryIndex(indexFile);
+        assertNotNull(reopened.get("/boards/spiral.json", 1_000L, 512L), "Remaining file should be kept");
+        assertNull(reopened.get("/boards/gone.json", 1_000L, 512L), "Deleted file should be dropped");
+    }
+
+    @Test
+    public void testDamagedIndexIsRebuilt() throws IOException {
+        Path indexFile = cacheDir.resolve(BoardSummaryIndex.INDEX_FILE);
+        Files.writeString(indexFile, "damaged");
+
+        BoardSummaryIndex index = new BoardSummaryIndex(indexFile);
+        assertNull(index.get("/boards/spiral.json", 1_000L, 512L), "Damaged index should start out empty");
+        index.put("/boards/spiral.json", 1_000L, 512L, spiral);
+        index.store();
+        assertNotNull(new BoardSummaryIndex(indexFile).get("/boards/spiral.json", 1_000L, 512L),
+            "Rebuilt index should be stored");
+    }
+}
@@ -0,0 +1,73 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.model.Player;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameSaveCodecTest {
+
+    @TempDir
+    Path tempDir;
+
+    private GameSave createSave() {
+        Player first = new Player("Ada, \"the\" pilot", 0x11223344, 3);
+        first.setPositionIndex(42);
+        Player second = new Player("Åse\nnewline", 0xFF0000FF, 1);
+        second.setPositionIndex(90);
+        Player third = new Player("Ada, \"the\" pilot", Player.NO_COLOR, 2);
+        return GameSave.of("Spiral, big", 0x1234_5678_9ABCL, 2, -7L, 15L, List.of(first, second, third),
+            List.of(second, first));
+    }
+
+    @Test
+    public void testSaveRoundTripsThroughFile() throws IOException {
+        Path file = tempDir.resolve("game" + GameSaveCodec.SUFFIX);
+        GameSaveCodec.write(file, createSave());
+        GameSave save = GameSaveCodec.read(file);
+
+        assertEquals("Spiral, big", save.getBoardName(), "Board name should be kept");
+        assertEquals(0x1234_5678_9ABCL, save.getBoardContentHash(), "Board content hash should be kept");
+        assertEquals(2, save.getCurrentPlayerIndex(), "Current player should be kept");
+        assertEquals(-7L, save.getDieSeed(), "Die seed should be kept");
+        assertEquals(15L, save.getDieRollCount(), "Die roll count should be kept");
+        assertEquals(3, save.getPlayers().size(), "Every player should be kept");
+
+        Player first = save.getPlayers().getFirst();
+        assertEquals("Ada, \"the\" pilot", first.getName(), "Names with commas and quotes should be kept");
+        assertEquals(42, first.getPositionIndex(), "Position should be kept");
+        assertEquals(0x11223344, first.getColor(), "Color should be kept as RGBA");
+        assertEquals(3, first.getShipType(), "Ship type should be kept");
+        assertEquals("Åse\nnewline", save.getPlayers().get(1).getName(), "Any character should be kept");
+        assertArrayEquals(new int[] {1, 0}, save.getRankIndexes(), "Ranks should be kept by player index");
+        assertSame(save.getPlayers().get(1), save.getRanks().getFirst(), "Ranks should be the loaded players");
+    }
+
+    @Test
+    public void testDamagedSavesAreRefused() {
+        ByteBuffer encoded = GameSaveCodec.encode(createSave());
+        byte[] bytes = new byte[encoded.remaining()];
+        encoded.get(bytes);
+
+        assertThrows(IOException.class, () -> GameSaveCodec.decode(ByteBuffer.wrap(bytes, 0, bytes.length - 1)),
+            "Truncated save should be refused");
+        byte[] newer = bytes.clone();
+        newer[4] = (byte) (GameSaveCodec.FORMAT_VERSION + 1);
+        assertThrows(IOException.class, () -> GameSaveCodec.decode(ByteBuffer.wrap(newer)),
+            "Save of a newer version should be refused");
+        byte[] csv = "boardName,\"Normal\"\n".getBytes();
+        assertThrows(IOException.class, () -> GameSaveCodec.decode(ByteBuffer.wrap(csv)), "CSV save should be refused");
+    }
+
+    @Test
+    public void testMissingFileFails() {
+        assertThrows(IOException.class, () -> GameSaveCodec.read(tempDir.resolve("missing" + GameSaveCodec.SUFFIX)),
+            "Missing save should fail");
+        assertFalse(Files.exists(tempDir.resolve("missing" + GameSaveCodec.SUFFIX)), "Reading should not create files");
+    }
+}
@@ -0,0 +1,76 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.model.Player;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SaveCatalogTest {
+
+    @TempDir
+    Path savesDir;
+
+    private Path save(SaveCatalog catalog, String fileName, String boardName, long rollCount, long modified)
+            throws IOException {
+        GameSave save = GameSave.of(boardName, 9L, 0, 1L, rollCount, List.of(new Player("Ada"), new Player("Bo")),
+            List.of());
+        Path file = savesDir.resolve(fileName);
+        GameSaveCodec.write(file, save);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modified));
+        if (catalog != null) {
+            catalog.update(file, save);
+        }
+        return file;
+    }
+
+    @Test
+    public void testSavesAreListedFromTheIndex() throws IOException {
+        SaveCatalog catalog = new SaveCatalog(savesDir);
+        Path old = save(catalog, "old.cls", "Spiral", 12, 1_000_000);
+        save(catalog, "new.cls", "Normal", 40, 2_000_000);
+        Files.writeString(old, "not a save any more");
+
+        List<SaveCatalog.Entry> entries = new SaveCatalog(savesDir).list();
+        assertEquals(List.of("new.cls", "old.cls"), entries.stream().map(SaveCatalog.Entry::getFileName).toList(),
+            "Saves should be listed newest first");
+        SaveCatalog.Entry entry = entries.get(1);
+        assertEquals("Spiral", entry.getBoardName(), "Indexed saves should not be read again");
+        assertEquals(12, entry.getTurnCount(), "Turn count should be the number of rolls");
+        assertEquals(List.of("Ada", "Bo"), entry.getPlayerNames(), "Player names should be indexed");
+        assertEquals(9L, entry.getBoardContentHash(), "Board content hash should be indexed");
+    }
+
+    @Test
+    public void testMissingIndexIsRebuilt() throws IOException {
+        save(null, "a.cls", "Spiral", 3, 1_000_000);
+        Files.writeString(savesDir.resolve("b.csv"), "boardName,\"Normal\"\n");
+        Files.writeString(savesDir.resolve("notes.txt"), "not a save");
+
+        List<SaveCatalog.Entry> entries = new SaveCatalog(savesDir).list();
+        assertEquals(2, entries.size(), "Every save should be found");
+        assertTrue(Files.exists(savesDir.resolve(SaveCatalog.INDEX_FILE)), "Rebuilt index should be stored");
+        SaveCatalog.Entry csv = entries.stream().filter(e -> e.getFileName().equals("b.csv")).findFirst().orElseThrow();
+        assertEquals(SaveCatalog.Entry.UNKNOWN, csv.getTurnCount(), "CSV saves should be listed without details");
+
+        Files.writeString(savesDir.resolve(SaveCatalog.INDEX_FILE), "damaged");
+        assertEquals(2, new SaveCatalog(savesDir).list().size(), "Damaged index should be rebuilt");
+    }
+
+    @Test
+    public void testDeletedAndAddedSavesAreNoticed() throws IOException {
+        SaveCatalog catalog = new SaveCatalog(savesDir);
+        Path gone = save(catalog, "gone.cls", "Spiral", 1, 1_000_000);
+        assertEquals(1, catalog.list().size(), "Save should be listed");
+
+        Files.delete(gone);
+        save(null, "copied.cls", "Normal", 5, 2_000_000);
+        List<SaveCatalog.Entry> entries = catalog.list();
+        assertEquals(1, entries.size(), "Deleted save should be dropped");
+        assertEquals("Normal", entries.getFirst().getBoardName(), "Save copied in by hand should be read once");
+    }
+}
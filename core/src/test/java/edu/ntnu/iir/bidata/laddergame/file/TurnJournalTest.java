@@ -0,0 +1,111 @@
+package edu.ntnu.iir.bidata.laddergame.file;
+
+import edu.ntnu.iir.bidata.laddergame.engine.GameEngine;
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.Player;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TurnJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private GameSave createSave(int position) {
+        Player first = new Player("Ada", 0x11223344, 1);
+        first.setPositionIndex(position);
+        return GameSave.of("Normal", 1L, 0, 7L, 0L, List.of(first, new Player("Bo")), List.of());
+    }
+
+    private List<TurnEvent> playTurns(int count) {
+        GameEngine engine = new GameEngine(new Board(), 2, new SplittableRandom(3));
+        List<TurnEvent> turns = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            engine.playTurn();
+            turns.add(TurnEvent.of(engine));
+        }
+        return turns;
+    }
+
+    @Test
+    public void testTurnsAreReplayedAfterSnapshot() throws IOException {
+        Path file = tempDir.resolve("game" + TurnJournal.SUFFIX);
+        List<TurnEvent> turns = playTurns(20);
+        try (TurnJournal journal = TurnJournal.open(file, createSave(0))) {
+            turns.subList(0, 10).forEach(journal::append);
+            journal.sync().join();
+            assertEquals(10, TurnJournal.replay(file).getTurns().size(), "Synced turns should be on disk");
+
+            journal.snapshot(createSave(5));
+            turns.subList(10, 20).forEach(journal::append);
+        }
+
+        TurnJournal.Replay replay = TurnJournal.replay(file);
+        assertEquals(5, replay.getSnapshot().getPlayers().getFirst().getPositionIndex(), "Last snapshot should be used");
+        assertEquals(10, replay.getTurns().size(), "Only turns after the last snapshot should be replayed");
+        TurnEvent expected = turns.get(10);
+        TurnEvent actual = replay.getTurns().getFirst();
+        assertEquals(expected.getPlayerIndex(), actual.getPlayerIndex(), "Player should be kept");
+        assertEquals(expected.getRoll(), actual.getRoll(), "Roll should be kept");
+        assertEquals(expected.getFrom(), actual.getFrom(), "From position should be kept");
+        assertEquals(expected.isLadderTaken(), actual.isLadderTaken(), "Ladder should be kept");
+        assertFalse(replay.hasDamagedTail(), "Closed journal should not be damaged");
+    }
+
+    @Test
+    public void testTornRecordEndsReplay() throws IOException {
+        Path file = tempDir.resolve("game" + TurnJournal.SUFFIX);
+        try (TurnJournal journal = TurnJournal.open(file, createSave(0))) {
+            playTurns(3).forEach(journal::append);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 2);
+        }
+
+        TurnJournal.Replay replay = TurnJournal.replay(file);
+        assertEquals(2, replay.getTurns().size(), "Partly written turn should be ignored");
+        assertTrue(replay.hasDamagedTail(), "Partly written turn should be reported");
+    }
+
+    @Test
+    public void testReplayedTurnsRebuildTheGame() throws IOException {
+        Path file = tempDir.resolve("game" + TurnJournal.SUFFIX);
+        GameEngine original = new GameEngine(new Board(), 2, new SplittableRandom(11));
+        try (TurnJournal journal = TurnJournal.open(file, createSave(0))) {
+            for (int i = 0; i < 30; i++) {
+                original.playTurn();
+                journal.append(TurnEvent.of(original));
+            }
+        }
+
+        GameEngine rebuilt = new GameEngine(new Board(), 2, new SplittableRandom());
+        for (TurnEvent turn : TurnJournal.replay(file).getTurns()) {
+            rebuilt.playTurn(turn.getRoll());
+            assertTrue(turn.matches(rebuilt), "Replayed turn should give the recorded result");
+        }
+        assertEquals(original.getPosition(0), rebuilt.getPosition(0), "Rebuilt game should match");
+        assertEquals(original.getPosition(1), rebuilt.getPosition(1), "Rebuilt game should match");
+        assertTrue(Files.size(file) < 1024, "Turns should be compact");
+    }
+
+    @Test
+    public void testTurnsAfterCloseAreDropped() throws IOException {
+        Path file = tempDir.resolve("game" + TurnJournal.SUFFIX);
+        List<TurnEvent> turns = playTurns(3);
+        TurnJournal journal = TurnJournal.open(file, createSave(0));
+        turns.subList(0, 2).forEach(journal::append);
+        journal.close();
+
+        assertDoesNotThrow(() -> journal.append(turns.get(2)), "A turn finishing after close should not fail");
+        assertEquals(2, TurnJournal.replay(file).getTurns().size(), "Turns after close should not be written");
+    }
+}
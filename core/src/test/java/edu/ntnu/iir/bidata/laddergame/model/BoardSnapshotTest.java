@@ -0,0 +1,62 @@
+package edu.ntnu.iir.bidata.laddergame.model;
+
+import edu.ntnu.iir.bidata.laddergame.engine.GameEngine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardSnapshotTest {
+
+    @Test
+    public void testSnapshotCopiesBoardAndStaysUnchanged() {
+        Board board = new Board();
+        BoardSnapshot snapshot = board.getSnapshot();
+        assertEquals(board.getTiles().size(), snapshot.getTileCount(), "Snapshot should have every tile");
+        assertEquals(board.getTile(5).getX(), snapshot.getX(5), "Snapshot should keep tile positions");
+        assertEquals(40, snapshot.getLadderDestination(1), "Snapshot should keep ladders");
+        assertEquals(BoardSnapshot.NO_LADDER, snapshot.getLadderDestination(2), "Tile without ladder should have none");
+
+        board.getTile(2).setTileAction(new LadderAction(50));
+        assertEquals(BoardSnapshot.NO_LADDER, snapshot.getLadderDestination(2), "Old snapshot should not change");
+        assertNotSame(snapshot, board.getSnapshot(), "Changed board should take a new snapshot");
+        assertEquals(50, board.getJumpTable().getDestination(2), "Board should use the new snapshot");
+        assertNotEquals(snapshot.getContentHash(), board.getContentHash(), "Content hash should follow the change");
+    }
+
+    @Test
+    public void testFrozenBoardCannotChange() {
+        Board board = new Board().freeze();
+        assertThrows(IllegalStateException.class, () -> board.getTile(2).setTileAction(new LadderAction(50)),
+            "Tiles of a frozen board should not change");
+        assertThrows(UnsupportedOperationException.class, () -> board.getTiles().remove(0),
+            "Tile list of a frozen board should not change");
+
+        Board copy = board.getSnapshot().toBoard();
+        assertTrue(copy.isFrozen(), "Board made from a snapshot should be frozen");
+        assertSame(board.getSnapshot(), copy.getSnapshot(), "Board made from a snapshot should share it");
+    }
+
+    @Test
+    public void testEnginesShareSnapshotAcrossThreads() throws Exception {
+        BoardSnapshot snapshot = new Board().getSnapshot();
+        GameEngine alone = new GameEngine(snapshot, 3, new SplittableRandom(7));
+        int expectedTurns = alone.playToEnd(10_000);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int game = 0; game < 64; game++) {
+                results.add(executor.submit(() -> new GameEngine(snapshot, 3, new SplittableRandom(7)).playToEnd(10_000)));
+            }
+        }
+        for (Future<Integer> result : results) {
+            assertEquals(expectedTurns, result.get(), "Games sharing a snapshot should not affect each other");
+        }
+        assertSame(snapshot, alone.getSnapshot(), "Engine should use the shared snapshot");
+        assertEquals(snapshot.getContentHash(), alone.getBoard().getContentHash(), "Board of the engine should match the snapshot");
+    }
+}
@@ -0,0 +1,86 @@
+package edu.ntnu.iir.bidata.laddergame.model;
+
+import edu.ntnu.iir.bidata.laddergame.engine.GameEngine;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DieTest {
+
+    @Test
+    public void testRestoreReplaysRolls() {
+        Die die = new Die(42L);
+        for (int i = 0; i < 10; i++) {
+            die.roll();
+        }
+        int[] expected = new int[20];
+        for (int i = 0; i < expected.length; i++) {
+            die.roll();
+            expected[i] = die.getLastRoll();
+        }
+
+        Die replay = new Die();
+        replay.restore(die.getSeed(), 10);
+        for (int i = 0; i < expected.length; i++) {
+            replay.roll();
+            assertEquals(expected[i], replay.getLastRoll(), "Roll " + i + " should be replayed");
+        }
+        assertEquals(30, replay.getRollCount(), "Roll count should include the skipped rolls");
+    }
+
+    @Test
+    public void testSplitDoesNotChangeReplayedRolls() {
+        Die die = new Die(42L);
+        die.roll();
+        Die child = die.split();
+        Die secondChild = die.split();
+        assertNotEquals(child.getSeed(), secondChild.getSeed(), "Split dice should get their own seeds");
+
+        Die replay = new Die();
+        replay.restore(die.getSeed(), die.getRollCount());
+        for (int i = 0; i < 20; i++) {
+            die.roll();
+            replay.roll();
+            assertEquals(die.getLastRoll(), replay.getLastRoll(), "Roll " + i + " after a split should be replayed");
+        }
+        assertEquals(child.getSeed(), replay.split().getSeed(), "Split dice should be reproduced from the seed");
+    }
+
+    @Test
+    public void testEngineWithSameSeedRollsSameValues() {
+        Die die = new Die(7L);
+        GameEngine engine = new GameEngine(new Board(), 1, Die.createRandom(7L));
+        for (int i = 0; i < 20; i++) {
+            die.roll();
+            engine.playTurn();
+            assertEquals(die.getLastRoll(), engine.getLastRoll(), "Engine should roll like the die on turn " + i);
+        }
+    }
+
+    @Test
+    public void testDiceSourceDoesNotDependOnBatchSize() {
+        int[] single = new int[1000];
+        DiceSource one = new DiceSource(3L);
+        for (int i = 0; i < single.length; i++) {
+            single[i] = one.nextFace();
+        }
+        int[] batched = new int[1000];
+        DiceSource batch = new DiceSource(3L);
+        batch.fill(batched, 0, 7);
+        batch.fill(batched, 7, 500);
+        byte[] rest = new byte[500];
+        batch.fill(rest);
+        for (int i = 0; i < rest.length; i++) {
+            batched[500 + i] = rest[i];
+        }
+        assertArrayEquals(single, batched, "Faces should not depend on how they are requested");
+
+        int[] counts = new int[7];
+        for (int face : single) {
+            counts[face]++;
+        }
+        assertEquals(0, counts[0], "No face should be 0");
+        for (int face = 1; face <= 6; face++) {
+            assertTrue(counts[face] > 100, "Face " + face + " should come up regularly");
+        }
+    }
+}
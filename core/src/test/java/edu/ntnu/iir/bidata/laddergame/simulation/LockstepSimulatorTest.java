@@ -0,0 +1,52 @@
+package edu.ntnu.iir.bidata.laddergame.simulation;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class LockstepSimulatorTest {
+
+    private final Board board = new Board();
+    private final ForkJoinPool pool = ForkJoinPool.commonPool();
+    private final int maxTurns = MonteCarloSimulator.DEFAULT_MAX_TURNS_PER_GAME;
+
+    @Test
+    public void testLaneCountDoesNotChangeResult() {
+        SimulationResult few = new LockstepSimulator(pool, maxTurns, 3, false).simulate(board, 3_000, 3, 9L);
+        SimulationResult many = new LockstepSimulator(pool, maxTurns, 256, false).simulate(board, 3_000, 3, 9L);
+        assertResultsEqual(few, many);
+    }
+
+    @Test
+    public void testVectorKernelMatchesScalarKernel() {
+        assumeTrue(LockstepSimulator.isVectorApiAvailable(), "Vector API module not present");
+        LockstepSimulator vector = new LockstepSimulator(pool, maxTurns, 64, true);
+        assertTrue(vector.isVectorized(), "Vector kernel should be used when the module is present");
+        SimulationResult vectorResult = vector.simulate(board, 5_000, 4, 13L);
+        SimulationResult scalarResult = new LockstepSimulator(pool, maxTurns, 64, false).simulate(board, 5_000, 4, 13L);
+        assertResultsEqual(scalarResult, vectorResult);
+    }
+
+    @Test
+    public void testAgreesWithMonteCarlo() {
+        SimulationResult lockstep = new LockstepSimulator().simulate(board, 200_000, 2, 1L);
+        SimulationResult monteCarlo = new MonteCarloSimulator().simulate(board, 200_000, 2, 1L);
+        assertEquals(200_000, lockstep.getGames(), "All games should finish");
+        assertEquals(monteCarlo.getMeanLength(), lockstep.getMeanLength(), 0.2, "Mean lengths should agree");
+        assertEquals(monteCarlo.getWinRate(0), lockstep.getWinRate(0), 0.01, "Win rates should agree");
+    }
+
+    private void assertResultsEqual(SimulationResult expected, SimulationResult actual) {
+        assertEquals(expected.getGames(), actual.getGames(), "Game count should match");
+        assertEquals(expected.getTurns(), actual.getTurns(), "Turn count should match");
+        assertEquals(expected.getLongestGame(), actual.getLongestGame(), "Longest game should match");
+        for (int seat = 0; seat < expected.getPlayerCount(); seat++) {
+            assertEquals(expected.getWins(seat), actual.getWins(seat), "Wins should match for seat " + seat);
+        }
+        for (int tile = 0; tile < expected.getTileCount(); tile++) {
+            assertEquals(expected.getLandingCount(tile), actual.getLandingCount(tile), "Landings should match on tile " + tile);
+        }
+    }
+}
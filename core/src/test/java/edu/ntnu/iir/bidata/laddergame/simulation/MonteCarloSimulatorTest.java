@@ -0,0 +1,66 @@
+package edu.ntnu.iir.bidata.laddergame.simulation;
+
+import edu.ntnu.iir.bidata.laddergame.engine.GameEngine;
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.DiceSource;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MonteCarloSimulatorTest {
+
+    private final MonteCarloSimulator simulator = new MonteCarloSimulator();
+    private final Board board = new Board();
+
+    @Test
+    public void testSameSeedGivesSameResult() {
+        SimulationResult first = simulator.simulate(board, 5_000, 3, 7L);
+        SimulationResult second = simulator.simulate(board, 5_000, 3, 7L);
+        for (int seat = 0; seat < 3; seat++) {
+            assertEquals(first.getWins(seat), second.getWins(seat), "Wins should be reproducible for seat " + seat);
+        }
+        assertEquals(first.getTurns(), second.getTurns(), "Turn count should be reproducible");
+    }
+
+    @Test
+    public void testEveryGameHasOneWinner() {
+        SimulationResult result = simulator.simulate(board, 2_000, 4, 1L);
+        long wins = 0;
+        for (int seat = 0; seat < 4; seat++) {
+            wins += result.getWins(seat);
+        }
+        assertEquals(2_000, result.getGames(), "All games should finish");
+        assertEquals(result.getGames(), wins, "Each finished game should have exactly one winner");
+        assertTrue(result.getMeanLength() > 0, "Games should take at least one round");
+    }
+
+    @Test
+    public void testResultDoesNotDependOnParallelism() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            SimulationResult serial = new MonteCarloSimulator(single, MonteCarloSimulator.DEFAULT_MAX_TURNS_PER_GAME)
+                .simulate(board, 5_000, 2, 11L);
+            SimulationResult parallel = simulator.simulate(board, 5_000, 2, 11L);
+            assertEquals(serial.getTurns(), parallel.getTurns(), "Turn count should not depend on the pool");
+            assertEquals(serial.getLongestGame(), parallel.getLongestGame(), "Longest game should not depend on the pool");
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    public void testReplayLongestGame() {
+        SimulationResult result = simulator.simulate(board, 2_000, 2, 5L);
+        long game = result.getLongestGame();
+        assertTrue(simulator.replayGame(board, 2, 5L, game).isGameOver(), "Replayed game should finish");
+
+        GameEngine engine = new GameEngine(board);
+        engine.setPlayerCount(2);
+        DiceSource dice = new DiceSource(MonteCarloSimulator.gameSeed(5L, game));
+        int turns = 0;
+        while (engine.getRankCount() == 0 && engine.playTurn(dice.nextFace()) >= 0) {
+            turns++;
+        }
+        assertEquals(result.getMaxLength(), (turns - 1) / 2 + 1, "Replayed game should be the longest game");
+    }
+}
@@ -0,0 +1,76 @@
+package edu.ntnu.iir.bidata.view;
+
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.JumpTable;
+import edu.ntnu.iir.bidata.laddergame.model.LadderAction;
+import edu.ntnu.iir.bidata.laddergame.model.LadderIndex;
+import edu.ntnu.iir.bidata.laddergame.model.Tile;
+import edu.ntnu.iir.bidata.laddergame.model.TileAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardTest {
+
+    private Board board;
+
+    @BeforeEach
+    public void setUp() {
+        board = new Board();
+    }
+
+    @Test
+    public void testBoardHasTiles() {
+        assertNotNull(board.getTiles(), "Board should have a list of tiles");
+        assertTrue(board.getTiles().size() > 0, "Board should have at least one tile");
+    }
+
+    @Test
+    public void testGetTileByIndex() {
+        Tile tile = board.getTiles().get(0);
+        assertNotNull(tile, "First tile should not be null");
+        assertEquals(0, tile.getIndex(), "First tile index should be 0");
+    }
+
+    @Test
+    public void testLastTileIndex() {
+        int lastIndex = board.getLastTile();
+        assertEquals(board.getTiles().size() - 1, lastIndex, "Last tile index should match tiles size - 1");
+    }
+
+    @Test
+    public void testJumpTableFollowsChainedLadders() {
+        board.getTile(40).setTileAction(new LadderAction(45));
+        JumpTable table = board.getJumpTable();
+        assertEquals(45, table.getDestination(1), "Ladder from 1 to 40 should continue to 45");
+        assertEquals(45, table.getDestination(40), "Ladder from 40 should lead to 45");
+        assertEquals(2, table.getDestination(2), "Tile without ladder should map to itself");
+    }
+
+    @Test
+    public void testJumpTableIsRebuiltWhenTileChanges() {
+        assertEquals(40, board.getJumpTable().getDestination(1), "Default ladder should lead to 40");
+        board.getTile(1).setTileAction(new TileAction());
+        assertEquals(1, board.getJumpTable().getDestination(1), "Removed ladder should no longer move the player");
+    }
+
+    @Test
+    public void testJumpTableStopsInLadderLoop() {
+        board.getTile(2).setTileAction(new LadderAction(3));
+        board.getTile(3).setTileAction(new LadderAction(2));
+        JumpTable table = board.getJumpTable();
+        assertEquals(3, table.getDestination(2), "Loop entered at 2 should stop on 3");
+        assertEquals(2, table.getDestination(3), "Loop entered at 3 should stop on 2");
+    }
+
+    @Test
+    public void testLadderIndexMapsBothWays() {
+        board.getTile(20).setTileAction(new LadderAction(40));
+        LadderIndex ladders = board.getLadderIndex();
+        assertEquals(40, ladders.getDestination(1), "Ladder on 1 should lead to 40");
+        assertArrayEquals(new int[] {1, 20}, ladders.getSources(40), "Both ladders to 40 should be indexed");
+        assertTrue(board.getTile(40).isDestinationOfLadder(board), "Tile 40 should be a ladder destination");
+        assertFalse(ladders.hasLadder(2), "Tile 2 should have no ladder");
+        assertNull(board.getTile(2).getLadderDestination(board), "Tile 2 should have no ladder destination");
+    }
+}
@@ -8,6 +8,7 @@ import edu.ntnu.iir.bidata.laddergame.controller.board.PlayerController;
 import edu.ntnu.iir.bidata.laddergame.model.Board;
 import edu.ntnu.iir.bidata.laddergame.model.Player;
 import edu.ntnu.iir.bidata.laddergame.view.util.CSS;
+import edu.ntnu.iir.bidata.laddergame.view.util.PlayerColors;
 import edu.ntnu.iir.bidata.laddergame.view.util.PlayerData;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
@@ -80,7 +81,7 @@ public class ClickGameApp extends Application {
 
         if (playerDataList != null) {
             for (PlayerData data : playerDataList) {
-                players.add(new Player(data.getName(), data.getColor(), data.getShipType()));
+                players.add(new Player(data.getName(), PlayerColors.toRgba(data.getColor()), data.getShipType()));
             }
         }
         return players;
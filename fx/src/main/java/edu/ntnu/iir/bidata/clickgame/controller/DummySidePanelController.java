@@ -3,6 +3,7 @@ package edu.ntnu.iir.bidata.clickgame.controller;
 import edu.ntnu.iir.bidata.laddergame.controller.BoardGameController;
 import edu.ntnu.iir.bidata.laddergame.controller.board.PlayerController;
 import edu.ntnu.iir.bidata.laddergame.model.Player;
+import edu.ntnu.iir.bidata.laddergame.view.util.PlayerColors;
 import edu.ntnu.iir.bidata.laddergame.view.util.ShipUtils;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -31,7 +32,7 @@ public class DummySidePanelController {
 
     public Image getPlayerImage(Player player) {
         int shipType = player.getShipType();
-        Color color = player.getColor();
+        Color color = PlayerColors.getColor(player);
         Image baseImage = ShipUtils.loadShipSprite(shipType);
         ImageView coloredView = ShipUtils.createColoredShipImage(color, baseImage);
         return coloredView.getImage();
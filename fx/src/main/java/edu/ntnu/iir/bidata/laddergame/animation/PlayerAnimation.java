@@ -3,7 +3,7 @@ package edu.ntnu.iir.bidata.laddergame.animation;
 import edu.ntnu.iir.bidata.laddergame.model.Board;
 import edu.ntnu.iir.bidata.laddergame.model.Player;
 import edu.ntnu.iir.bidata.laddergame.model.Tile;
-import edu.ntnu.iir.bidata.laddergame.util.BoardUtils;
+import edu.ntnu.iir.bidata.laddergame.view.util.BoardUtils;
 import edu.ntnu.iir.bidata.laddergame.view.board.PlayerView;
 import java.util.HashMap;
 import java.util.Map;
@@ -80,8 +80,8 @@ public class PlayerAnimation {
      */
     private KeyFrame createSpecialMovementKeyFrame(ImageView sprite, int targetPosition) {
         Tile targetTile = board.getTiles().get(targetPosition);
-        double targetX = BoardUtils.getBoardOffsetX(board, targetTile) - PlayerView.SPRITE_WIDTH/2;
-        double targetY = BoardUtils.getBoardOffsetY(board, targetTile) - PlayerView.SPRITE_HEIGHT/2;
+        double targetX = BoardUtils.getBoardOffsetX(board, playerView.getTileNodeMap(), targetTile) - PlayerView.SPRITE_WIDTH/2;
+        double targetY = BoardUtils.getBoardOffsetY(board, playerView.getTileNodeMap(), targetTile) - PlayerView.SPRITE_HEIGHT/2;
         double targetRotation = BoardUtils.getRotationForTile(board, targetTile);
 
         return new KeyFrame(Duration.millis(SPECIAL_JUMP_DURATION_MS),
@@ -106,8 +106,8 @@ public class PlayerAnimation {
             int stepPosition = currentPosition + (i * direction);
             Tile stepTile = board.getTiles().get(stepPosition);
 
-            double stepX = BoardUtils.getBoardOffsetX(board, stepTile) - PlayerView.SPRITE_WIDTH/2;
-            double stepY = BoardUtils.getBoardOffsetY(board, stepTile) - PlayerView.SPRITE_HEIGHT/2;
+            double stepX = BoardUtils.getBoardOffsetX(board, playerView.getTileNodeMap(), stepTile) - PlayerView.SPRITE_WIDTH/2;
+            double stepY = BoardUtils.getBoardOffsetY(board, playerView.getTileNodeMap(), stepTile) - PlayerView.SPRITE_HEIGHT/2;
             double stepRotation = BoardUtils.getRotationForTile(board, stepTile);
 
             KeyFrame kf = new KeyFrame(Duration.millis(i * STEP_DURATION_MS),
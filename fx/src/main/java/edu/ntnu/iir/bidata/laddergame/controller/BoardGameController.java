@@ -2,56 +2,50 @@ package edu.ntnu.iir.bidata.laddergame.controller;
 
 import edu.ntnu.iir.bidata.laddergame.controller.board.DieController;
 import edu.ntnu.iir.bidata.laddergame.controller.board.PlayerController;
+import edu.ntnu.iir.bidata.laddergame.engine.GameEngine;
+import edu.ntnu.iir.bidata.laddergame.file.AutoSaver;
+import edu.ntnu.iir.bidata.laddergame.file.TurnEvent;
+import edu.ntnu.iir.bidata.laddergame.file.TurnJournal;
 import edu.ntnu.iir.bidata.laddergame.model.Board;
 import edu.ntnu.iir.bidata.laddergame.model.Die;
 import edu.ntnu.iir.bidata.laddergame.model.Player;
-import edu.ntnu.iir.bidata.laddergame.model.Tile;
-import javafx.animation.PauseTransition;
-import javafx.util.Duration;
-import edu.ntnu.iir.bidata.laddergame.view.board.DieView;
 
 import java.util.*;
 import java.util.logging.Logger;
 
 /**
  * Main controller responsible for managing the board game state and game flow.
- * This class coordinates player turns, die rolls, and movement on the board.
+ * This class is the animated adapter over the headless {@link GameEngine}: the engine resolves
+ * each turn, and the controller drives the die animation and pushes the result to the
+ * {@link Player} objects observed by the views.
  */
 public class BoardGameController {
   private static final Logger LOGGER = Logger.getLogger(BoardGameController.class.getName());
 
-  // Game state constants
-  private enum GameState { WAITING_FOR_PLAYERS, READY_TO_START, TURN_IN_PROGRESS, WAITING_FOR_TURN, GAME_OVER }
-
   // Game components
-  private Board board;
+  private final GameEngine engine;
   private List<Player> players;
-  private int currentPlayerIndex;
   private final Die die;
   private final List<Player> playerRanks;
-  private GameState gameState;
+  private boolean turnInProgress;
   private final PlayerController playerController;
   private final DieController dieController;
+  // Set and cleared on the game save thread, read on the JavaFX application thread
+  private volatile TurnJournal journal;
+  private volatile AutoSaver autoSaver;
 
-  /**
-   * Creates a new game controller with a default board.
-   */
   /**
    * Creates a new game controller with a default board.
    */
   public BoardGameController() {
-    this.board = new Board();
+    this.engine = new GameEngine(new Board());
     this.players = new ArrayList<>();
-    this.currentPlayerIndex = 0;
     this.die = new Die();
     this.playerRanks = new ArrayList<>();
-    this.gameState = GameState.WAITING_FOR_PLAYERS;
-
-    DieView dieView = new DieView();
-    this.dieController = new DieController(this.die, dieView);
-    this.playerController = new PlayerController(this.board, this.players);
+    this.playerController = null;
+    this.dieController = null;
 
-    LOGGER.info("BoardGameController initialized with default board");
+    LOGGER.info("BoardGameController initialized with default board, die seed " + die.getSeed());
   }
 
   /**
@@ -63,15 +57,13 @@ public class BoardGameController {
    * @throws NullPointerException if any parameter is null
    */
   public BoardGameController(Board board, PlayerController playerController, DieController dieController) {
-    this.board = Objects.requireNonNull(board, "Board cannot be null");
+    this.engine = new GameEngine(Objects.requireNonNull(board, "Board cannot be null"));
     this.playerController = Objects.requireNonNull(playerController, "PlayerController cannot be null");
     this.dieController = Objects.requireNonNull(dieController, "DieController cannot be null");
     this.players = new ArrayList<>();
-    this.currentPlayerIndex = 0;
     this.die = new Die();
     this.playerRanks = new ArrayList<>();
-    this.gameState = GameState.WAITING_FOR_PLAYERS;
-    LOGGER.info("BoardGameController initialized with custom board");
+    LOGGER.info("BoardGameController initialized with custom board, die seed " + die.getSeed());
   }
 
   /**
@@ -80,7 +72,16 @@ public class BoardGameController {
    * @return the board
    */
   public Board getBoard() {
-    return board;
+    return engine.getBoard();
+  }
+
+  /**
+   * Gets the headless engine holding the game state.
+   *
+   * @return the game engine
+   */
+  public GameEngine getEngine() {
+    return engine;
   }
 
   /**
@@ -103,8 +104,11 @@ public class BoardGameController {
       throw new IllegalArgumentException("Players list cannot be null or empty.");
     }
     this.players = new ArrayList<>(players);
-    this.currentPlayerIndex = 0;
-    this.gameState = GameState.READY_TO_START;
+    this.playerRanks.clear();
+    engine.setPlayerCount(players.size());
+    for (int i = 0; i < players.size(); i++) {
+      engine.setPosition(i, players.get(i).getPositionIndex());
+    }
     LOGGER.info("Players set: " + players.size() + " players");
   }
 
@@ -115,7 +119,7 @@ public class BoardGameController {
    * @throws NullPointerException if board is null
    */
   public void setBoard(Board board) {
-    this.board = Objects.requireNonNull(board, "Board cannot be null");
+    engine.setBoard(board);
     LOGGER.info("Game board updated");
   }
 
@@ -135,10 +139,7 @@ public class BoardGameController {
    * @throws IllegalArgumentException if index is invalid
    */
   public void setCurrentPlayerIndex(int currentPlayerIndex) {
-    if (currentPlayerIndex < 0 || (players.size() > 0 && currentPlayerIndex >= players.size())) {
-      throw new IllegalArgumentException("Invalid player index: " + currentPlayerIndex);
-    }
-    this.currentPlayerIndex = currentPlayerIndex;
+    engine.setCurrentPlayerIndex(currentPlayerIndex);
     LOGGER.fine("Current player index set to: " + currentPlayerIndex);
   }
 
@@ -148,7 +149,7 @@ public class BoardGameController {
    * @return the current player index
    */
   public int getCurrentPlayerIndex() {
-    return currentPlayerIndex;
+    return engine.getCurrentPlayerIndex();
   }
 
   /**
@@ -157,6 +158,7 @@ public class BoardGameController {
    * @return the current player, or null if not available
    */
   public Player getCurrentPlayer() {
+    int currentPlayerIndex = engine.getCurrentPlayerIndex();
     if (players.isEmpty() || currentPlayerIndex < 0 || currentPlayerIndex >= players.size()) {
       return null;
     }
@@ -179,8 +181,34 @@ public class BoardGameController {
    * @throws NullPointerException if playerRanks is null
    */
   public void setPlayerRanks(List<Player> playerRanks) {
+    Objects.requireNonNull(playerRanks, "Player ranks cannot be null");
     this.playerRanks.clear();
-    this.playerRanks.addAll(Objects.requireNonNull(playerRanks, "Player ranks cannot be null"));
+    engine.clearRanks();
+    for (Player player : playerRanks) {
+      int playerIndex = players.indexOf(player);
+      if (playerIndex >= 0 && !engine.isRanked(playerIndex)) {
+        engine.addRank(playerIndex);
+        this.playerRanks.add(player);
+      }
+    }
+    LOGGER.fine("Player ranks updated: " + playerRanks.size() + " players ranked");
+  }
+
+  /**
+   * Sets the player ranks by player index, without searching the player list.
+   *
+   * @param rankIndexes the indexes of the ranked players, best first
+   * @throws IndexOutOfBoundsException if an index is not the index of a player
+   */
+  public void setPlayerRankIndexes(int[] rankIndexes) {
+    this.playerRanks.clear();
+    engine.clearRanks();
+    for (int playerIndex : rankIndexes) {
+      if (!engine.isRanked(playerIndex)) {
+        engine.addRank(playerIndex);
+        this.playerRanks.add(players.get(playerIndex));
+      }
+    }
     LOGGER.fine("Player ranks updated: " + playerRanks.size() + " players ranked");
   }
 
@@ -195,43 +223,31 @@ public class BoardGameController {
     Objects.requireNonNull(dieController, "DieController cannot be null");
 
     // Prevent spamming: block if turn already in progress
-    if (gameState == GameState.TURN_IN_PROGRESS) {
+    if (turnInProgress) {
       LOGGER.warning("Turn already in progress, ignoring playTurn request");
       return;
     }
 
-    if (isGameOver()) {
+    if (engine.isGameOver()) {
       LOGGER.info("Game is already over, ignoring turn request");
       executeCallback(onTurnComplete);
       return;
     }
 
-    skipFinishedPlayers();
-
-    Player currentPlayer = getCurrentPlayer();
-    if (currentPlayer == null) {
+    if (players.isEmpty()) {
       LOGGER.warning("No current player available for turn");
       executeCallback(onTurnComplete);
       return;
     }
 
-    gameState = GameState.TURN_IN_PROGRESS;
-    LOGGER.info("Starting turn for player: " + currentPlayer.getName());
+    turnInProgress = true;
+    LOGGER.info("Starting turn");
 
-    dieController.setOnAnimationComplete(() -> handlePlayerRoll(currentPlayer, onTurnComplete));
+    dieController.setOnAnimationComplete(() -> handlePlayerRoll(onTurnComplete));
     die.roll();
     LOGGER.fine("Die rolled: " + die.getLastRoll());
   }
 
-  private boolean isGameOver() {
-    if (gameState == GameState.GAME_OVER || areAllPlayersFinished()) {
-      gameState = GameState.GAME_OVER;
-      currentPlayerIndex = -1;
-      return true;
-    }
-    return false;
-  }
-
   private void executeCallback(Runnable callback) {
     if (callback != null) {
       callback.run();
@@ -239,128 +255,98 @@ public class BoardGameController {
   }
 
   /**
-   * Checks if all players have finished the game.
+   * Resolves the rolled turn in the engine and pushes the result to the player, whose
+   * observers animate the move and any ladder taken.
    *
-   * @return true if all players have reached the final tile
+   * @param onTurnComplete callback to run after turn is complete
    */
-  private boolean areAllPlayersFinished() {
-    if (players.isEmpty() || board.getTiles().isEmpty()) {
-      return false;
+  private void handlePlayerRoll(Runnable onTurnComplete) {
+    int playerIndex = engine.playTurn(die.getLastRoll());
+    if (playerIndex >= 0) {
+      Player currentPlayer = players.get(playerIndex);
+      currentPlayer.move(engine.getLastLandingPosition() - engine.getLastFromPosition());
+      if (engine.getLastPosition() != engine.getLastLandingPosition()) {
+        currentPlayer.setPositionIndex(engine.getLastPosition());
+      }
+      syncPlayerRanks();
+      TurnJournal turnJournal = journal;
+      if (turnJournal != null) {
+        turnJournal.append(TurnEvent.of(engine));
+      }
+      AutoSaver turnAutoSaver = autoSaver;
+      if (turnAutoSaver != null) {
+        turnAutoSaver.turnPlayed();
+      }
+
+      LOGGER.info(currentPlayer.getName() + " rolled " + engine.getLastRoll() + " and is now at position " +
+              currentPlayer.getPositionIndex());
     }
 
-    int finalPosition = board.getTiles().size() - 1;
-    return players.stream().allMatch(player -> player.getPositionIndex() >= finalPosition);
+    turnInProgress = false;
+    executeCallback(onTurnComplete);
   }
 
-  /**
-   * Advances the current player index to skip players who have already finished.
-   */
-  private void skipFinishedPlayers() {
-    if (players.isEmpty()) return;
-
-    int finalPosition = board.getTiles().size() - 1;
-    int attempts = 0;
-
-    while (currentPlayerIndex >= 0 &&
-            currentPlayerIndex < players.size() &&
-            players.get(currentPlayerIndex).getPositionIndex() >= finalPosition) {
-
-      currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
-      attempts++;
-
-      if (attempts >= players.size()) {
-        currentPlayerIndex = -1;
-        gameState = GameState.GAME_OVER;
-        LOGGER.info("All players have finished after checking");
-        break;
-      }
+  private void syncPlayerRanks() {
+    for (int rank = playerRanks.size(); rank < engine.getRankCount(); rank++) {
+      Player player = players.get(engine.getRankedPlayer(rank));
+      playerRanks.add(player);
+      LOGGER.info(player.getName() + " finished in position " + playerRanks.size());
     }
   }
 
   /**
-   * Handles player movement after a die roll.
+   * Sets the journal every played turn is appended to, or null to stop recording turns.
    *
-   * @param currentPlayer the player whose turn it is
-   * @param onTurnComplete callback to run after turn is complete
+   * @param journal the journal
    */
-  private void handlePlayerRoll(Player currentPlayer, Runnable onTurnComplete) {
-    int roll = die.getLastRoll();
-    int boardSize = board.getTiles().size();
-    int currentPosition = currentPlayer.getPositionIndex();
-    int targetPosition = currentPosition + roll;
-
-    if (targetPosition >= boardSize - 1) {
-      movePlayerToFinish(currentPlayer, currentPosition);
-    } else {
-      currentPlayer.move(roll);
-    }
-
-    // Wait for any animation to finish
-    if (isBusy()) {
-      PauseTransition wait = new PauseTransition(Duration.millis(100));
-      wait.setOnFinished(e -> handlePlayerRoll(currentPlayer, onTurnComplete));
-      wait.play();
-      return;
-    }
-
-    // Both animations are complete, proceed with turn
-    applyTileEffects(currentPlayer);
-    advanceToNextPlayer();
-
-    LOGGER.info(currentPlayer.getName() + " rolled " + roll + " and is now at position " +
-            currentPlayer.getPositionIndex());
-
-    Runnable completeWithStateReset = () -> {
-      gameState = GameState.WAITING_FOR_TURN;
-      if (onTurnComplete != null) {
-        onTurnComplete.run();
-      }
-    };
-
-    executeCallback(completeWithStateReset);
+  public void setJournal(TurnJournal journal) {
+    this.journal = journal;
   }
 
-  public boolean isBusy() {
-    return dieController.isAnimating() || playerController.hasActiveAnimations();
+  public TurnJournal getJournal() {
+    return journal;
   }
 
-  private void movePlayerToFinish(Player player, int currentPosition) {
-    int finalPosition = board.getTiles().size() - 1;
-    int moveDistance = finalPosition - currentPosition;
-
-    player.move(moveDistance);
-
-    if (!playerRanks.contains(player)) {
-      playerRanks.add(player);
-      LOGGER.info(player.getName() + " finished in position " + playerRanks.size());
-    }
+  /**
+   * Sets the auto saver told about every played turn, or null to stop auto saving.
+   *
+   * @param autoSaver the auto saver
+   */
+  public void setAutoSaver(AutoSaver autoSaver) {
+    this.autoSaver = autoSaver;
   }
 
-  private void applyTileEffects(Player player) {
-    int position = player.getPositionIndex();
-    if (position >= 0 && position < board.getTiles().size()) {
-      Tile currentTile = board.getTiles().get(position);
-      currentTile.landOn(player);
-    }
+  public AutoSaver getAutoSaver() {
+    return autoSaver;
   }
 
   /**
-   * Advances the game to the next player's turn.
+   * Replays recorded turns without animation, e.g. to rebuild a game from its journal. Each turn
+   * is played with its recorded roll and must give the recorded result, otherwise the replay
+   * stops there. The die is moved on by one roll per replayed turn.
+   *
+   * @param turns the turns, in the order they were played
+   * @return the number of turns replayed
    */
-  private void advanceToNextPlayer() {
-    if (players.isEmpty()) {
-      return;
+  public int replayTurns(List<TurnEvent> turns) {
+    int replayed = 0;
+    for (TurnEvent turn : turns) {
+      if (engine.playTurn(turn.getRoll()) < 0 || !turn.matches(engine)) {
+        LOGGER.warning("Replayed turn does not match the recorded one, stopping at " + turn);
+        break;
+      }
+      players.get(turn.getPlayerIndex()).setPositionIndex(turn.getTo());
+      replayed++;
     }
+    syncPlayerRanks();
+    die.restore(die.getSeed(), die.getRollCount() + replayed);
+    LOGGER.info("Replayed " + replayed + " of " + turns.size() + " turns");
+    return replayed;
+  }
 
-    currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
-
-    if (areAllPlayersFinished()) {
-      currentPlayerIndex = -1;
-      gameState = GameState.GAME_OVER;
-    } else {
-      skipFinishedPlayers();
-      gameState = GameState.WAITING_FOR_TURN;
-    }
+  public boolean isBusy() {
+    return (dieController != null && dieController.isAnimating())
+            || (playerController != null && playerController.hasActiveAnimations());
   }
 
   /**
@@ -368,9 +354,9 @@ public class BoardGameController {
    */
   public void resetGame() {
     players.forEach(player -> player.setPositionIndex(0));
-    currentPlayerIndex = 0;
+    engine.reset();
     playerRanks.clear();
-    gameState = GameState.READY_TO_START;
+    turnInProgress = false;
     LOGGER.info("Game reset to initial state");
   }
 
@@ -386,11 +372,11 @@ public class BoardGameController {
   @Override
   public String toString() {
     return "BoardGameController{" +
-            "board=" + board +
+            "board=" + engine.getBoard() +
             ", players=" + players +
-            ", currentPlayerIndex=" + currentPlayerIndex +
+            ", currentPlayerIndex=" + engine.getCurrentPlayerIndex() +
             ", die=" + die +
-            ", gameState=" + gameState +
+            ", gameState=" + engine.getGameState() +
             '}';
   }
-}
\ No newline at end of file
+}
@@ -1,8 +1,11 @@
-package edu.ntnu.iir.bidata.laddergame.file;
+package edu.ntnu.iir.bidata.laddergame.controller;
 
-import edu.ntnu.iir.bidata.laddergame.controller.BoardGameController;
 import edu.ntnu.iir.bidata.laddergame.controller.board.DieController;
 import edu.ntnu.iir.bidata.laddergame.controller.board.PlayerController;
+import edu.ntnu.iir.bidata.laddergame.file.BoardFileReader;
+import edu.ntnu.iir.bidata.laddergame.file.BoardFileReaderGson;
+import edu.ntnu.iir.bidata.laddergame.file.BoardFileWriter;
+import edu.ntnu.iir.bidata.laddergame.file.BoardFileWriterGson;
 import edu.ntnu.iir.bidata.laddergame.model.Board;
 import edu.ntnu.iir.bidata.laddergame.model.Die;
 import edu.ntnu.iir.bidata.laddergame.view.board.DieView;
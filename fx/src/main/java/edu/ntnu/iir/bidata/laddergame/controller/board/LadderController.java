@@ -1,7 +1,7 @@
 package edu.ntnu.iir.bidata.laddergame.controller.board;
 
 import edu.ntnu.iir.bidata.laddergame.model.Board;
-import edu.ntnu.iir.bidata.laddergame.model.Tile;
+import edu.ntnu.iir.bidata.laddergame.model.LadderIndex;
 import edu.ntnu.iir.bidata.laddergame.view.board.LadderView;
 import javafx.scene.Node;
 import javafx.scene.layout.Pane;
@@ -9,7 +9,6 @@ import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 public class LadderController {
@@ -28,17 +27,16 @@ public class LadderController {
      * Adds all ladder visuals to the given pane, using the board's tile node map.
      */
     public void addLaddersToBoard(Pane boardPane, Map<Integer, Node> tileNodeMap) {
-        List<Tile> tiles = board.getTiles();
-        for (Tile tile : tiles) {
-            if (tile.getIndex() == 0) continue;
-            if (tile.hasLadderAction()) {
-                Tile destinationTile = tile.getLadderDestination(board);
-                Node fromTileNode = tileNodeMap.get(tile.getIndex());
-                Node toTileNode = tileNodeMap.get(destinationTile.getIndex());
-                boolean isLadderUp = tile.getIndex() < destinationTile.getIndex();
+        LadderIndex ladders = board.getLadderIndex();
+        for (int from = 1; from < ladders.size(); from++) {
+            if (ladders.hasLadder(from)) {
+                int to = ladders.getDestination(from);
+                Node fromTileNode = tileNodeMap.get(from);
+                Node toTileNode = tileNodeMap.get(to);
+                boolean isLadderUp = from < to;
                 Node ladderVisual = ladderView.createLadderVisual(fromTileNode, toTileNode, isLadderUp);
                 boardPane.getChildren().add(ladderVisual);
-                ladderVisuals.put(ladderKey(tile.getIndex(), destinationTile.getIndex()), ladderVisual);
+                ladderVisuals.put(ladderKey(from, to), ladderVisual);
             }
         }
     }
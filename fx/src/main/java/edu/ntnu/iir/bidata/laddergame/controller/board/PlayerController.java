@@ -1,17 +1,18 @@
 package edu.ntnu.iir.bidata.laddergame.controller.board;
 
 import edu.ntnu.iir.bidata.laddergame.animation.PlayerAnimation;
+import edu.ntnu.iir.bidata.laddergame.media.LadderSound;
 import edu.ntnu.iir.bidata.laddergame.model.Board;
-import edu.ntnu.iir.bidata.laddergame.model.LadderAction;
 import edu.ntnu.iir.bidata.laddergame.model.Player;
 import edu.ntnu.iir.bidata.laddergame.model.Tile;
-import edu.ntnu.iir.bidata.laddergame.util.BoardUtils;
+import edu.ntnu.iir.bidata.laddergame.view.util.BoardUtils;
 import edu.ntnu.iir.bidata.laddergame.util.Observable;
 import edu.ntnu.iir.bidata.laddergame.util.Observer;
 import edu.ntnu.iir.bidata.laddergame.view.board.PlayerView;
 import java.util.*;
 import javafx.animation.PauseTransition;
 import javafx.application.Platform;
+import javafx.scene.Node;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
 import javafx.util.Duration;
@@ -28,6 +29,7 @@ public class PlayerController implements Observer {
     private final Board board;
     private final PlayerView playerView;
     private final PlayerAnimation playerAnimation;
+    private final LadderSound ladderSound;
     private final HashMap<Player, Integer> previousPositions;
     private final AtomicBoolean playerAnimating = new AtomicBoolean(false);
 
@@ -46,6 +48,15 @@ public class PlayerController implements Observer {
         }
         this.playerView = new PlayerView(board, players);
         this.playerAnimation = new PlayerAnimation(board, playerView);
+        this.ladderSound = new LadderSound();
+    }
+
+    /**
+     * Sets the tile nodes of the board view the players are shown on.
+     * @param tileNodeMap a map from tile index to JavaFX Node
+     */
+    public void setTileNodeMap(Map<Integer, Node> tileNodeMap) {
+        playerView.setTileNodeMap(tileNodeMap);
     }
 
     /**
@@ -172,8 +183,9 @@ public class PlayerController implements Observer {
 
         PauseTransition pause = new PauseTransition(Duration.millis(LADDER_DELAY_MS));
         pause.setOnFinished(event -> {
-            if (tile.getTileAction() instanceof LadderAction ladderAction) {
-                ladderAction.playLadderSound(previousPosition);
+            int destination = board.getJumpTable().getDestination(tile.getIndex());
+            if (destination != tile.getIndex()) {
+                ladderSound.play(previousPosition, destination);
             }
             if (onComplete != null) onComplete.run();
         });
@@ -3,11 +3,13 @@ package edu.ntnu.iir.bidata.laddergame.controller.menu;
 import edu.ntnu.iir.bidata.laddergame.Stigespillet;
 import edu.ntnu.iir.bidata.laddergame.controller.BoardGameController;
 import edu.ntnu.iir.bidata.laddergame.controller.other.MusicController;
-import edu.ntnu.iir.bidata.laddergame.file.GameSaveWriterCSV;
-import edu.ntnu.iir.bidata.laddergame.file.SaveFileTracker;
-import java.io.IOException;
+import edu.ntnu.iir.bidata.laddergame.file.save.GameAutoSave;
+import edu.ntnu.iir.bidata.laddergame.file.save.GameJournal;
+import edu.ntnu.iir.bidata.laddergame.file.save.GameSaveService;
+import edu.ntnu.iir.bidata.laddergame.file.save.SaveFileTracker;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javafx.application.Platform;
@@ -37,52 +39,57 @@ public class InGameMenuController {
     }
 
     /**
-     * Returns to the main menu by closing all open stages and restarting the application.
+     * Returns to the main menu by closing all open stages and restarting the application. The
+     * journal is discarded in the background, before the main menu looks for a game to recover.
      */
     public void returnToMainMenu() {
         LOGGER.info("Returning to main menu");
         musicController.pause();
+        GameSaveService.getInstance().discardGame();
         closeAllStagesExcept(null);
         restartApplication();
     }
 
     /**
-     * Exits the game completely.
+     * Exits the game completely, once the journal is discarded in the background.
      */
     public void exitGame() {
         LOGGER.info("Exiting game");
-        System.exit(0);
+        GameSaveService.getInstance().discardGame().whenComplete((discarded, ex) -> System.exit(0));
     }
 
     /**
-     * Saves the current game state.
+     * Saves the current game state on a background thread. A game loaded from a save is saved
+     * to that file again, in the format of that file.
      *
      * @param fileName optional filename for the save file, can be null
-     * @return the path to the saved file
-     * @throws IOException if saving fails
+     * @return the path to the saved file, completing on the JavaFX application thread
      */
-    public String saveGame(String fileName) throws IOException {
+    public CompletableFuture<String> saveGame(String fileName) {
         LOGGER.info("Saving game" + (fileName != null ? " as " + fileName : ""));
 
-        GameSaveWriterCSV saveWriter = new GameSaveWriterCSV();
-        String savedFilePath;
+        SaveFileTracker tracker = SaveFileTracker.getInstance();
+        String saveFileName = tracker.wasLoadedFromSave() ? tracker.getCurrentSaveFileName() : fileName;
+        CompletableFuture<String> save = GameSaveService.getInstance().saveGame(boardGameController, saveFileName);
+        // The journal snapshot is taken from the game on the JavaFX application thread
+        save.thenAccept(savedFilePath -> {
+            GameJournal.getInstance().snapshot();
+            LOGGER.info("Game successfully saved to: " + savedFilePath);
+        });
+        return save;
+    }
 
-        try {
-            if (!SaveFileTracker.getInstance().wasLoadedFromSave()) {
-                savedFilePath = fileName != null ?
-                        saveWriter.saveGame(boardGameController, null, fileName) :
-                        saveWriter.saveGame(boardGameController, null);
-            } else {
-                String currentFileName = SaveFileTracker.getInstance().getCurrentSaveFileName();
-                savedFilePath = saveWriter.saveGame(boardGameController, null, currentFileName);
-            }
+    public boolean isAutoSaveEnabled() {
+        return GameAutoSave.getInstance().isEnabled();
+    }
 
-            LOGGER.info("Game successfully saved to: " + savedFilePath);
-            return savedFilePath;
-        } catch (IOException e) {
-            LOGGER.log(Level.SEVERE, "Failed to save game", e);
-            throw e;
-        }
+    /**
+     * Turns auto saving on or off, for this game and the games after it.
+     *
+     * @param enabled true to auto save
+     */
+    public void setAutoSaveEnabled(boolean enabled) {
+        GameAutoSave.getInstance().setEnabled(enabled);
     }
 
     /**
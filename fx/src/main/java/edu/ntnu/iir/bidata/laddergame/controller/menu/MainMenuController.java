@@ -0,0 +1,149 @@
+package edu.ntnu.iir.bidata.laddergame.controller.menu;
+
+import edu.ntnu.iir.bidata.laddergame.controller.BoardGameController;
+import edu.ntnu.iir.bidata.laddergame.file.BoardRegistry;
+import edu.ntnu.iir.bidata.laddergame.file.save.GameJournal;
+import edu.ntnu.iir.bidata.laddergame.file.save.GameSaveService;
+import edu.ntnu.iir.bidata.laddergame.file.save.SaveFileTracker;
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.Player;
+import edu.ntnu.iir.bidata.laddergame.view.BoardGameView;
+import edu.ntnu.iir.bidata.laddergame.view.menu.MainMenu;
+import edu.ntnu.iir.bidata.laddergame.view.menu.ProgressDialog;
+import edu.ntnu.iir.bidata.laddergame.view.util.PlayerColors;
+import edu.ntnu.iir.bidata.laddergame.view.util.PlayerData;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Alert.AlertType;
+import javafx.scene.control.ButtonType;
+import javafx.stage.Stage;
+
+/**
+ * Controller for the main menu, handling new game and load game actions.
+ */
+public class MainMenuController {
+    private final Stage primaryStage;
+    private final MainMenu view;
+    // Set when a game is started or loaded, so a game recovered afterwards is not offered
+    private boolean gameChosen;
+
+    public MainMenuController(Stage primaryStage) {
+        this.primaryStage = primaryStage;
+        this.view = new MainMenu(this, primaryStage);
+        view.showMainMenu();
+        offerRecovery();
+    }
+
+    /**
+     * Offers to resume the game left behind by a crash, if there is one. A game that is not
+     * resumed is discarded. The game is rebuilt, and its journal started or discarded, on a
+     * background thread, as it means reading the journal, looking up its board and replaying its
+     * turns.
+     */
+    private void offerRecovery() {
+        GameSaveService.getInstance().recoverGame().thenAccept(recovered -> {
+            if (recovered == null || gameChosen || GameJournal.getInstance().isStarted()) {
+                return; // Nothing to resume, or a game was started in the meantime
+            }
+            Alert alert = new Alert(AlertType.CONFIRMATION);
+            alert.setTitle("Resume Mission");
+            alert.setHeaderText(null);
+            alert.setContentText("The last mission on " + recovered.getBoard().getBoardName()
+                    + " was interrupted. Do you want to resume it?");
+            if (alert.showAndWait().filter(ButtonType.OK::equals).isPresent()) {
+                SaveFileTracker.getInstance().reset();
+                showGame(recovered);
+            } else {
+                GameSaveService.getInstance().discardGame();
+            }
+        });
+    }
+
+    /**
+     * Starts a new game with the selected board and player details.
+     *
+     * @param boardName     the name of the board to load
+     * @param numPlayers    the number of players
+     * @param playerDetails the list of player data
+     */
+    public void startNewGame(String boardName, int numPlayers, List<PlayerData> playerDetails) {
+        if (boardName == null || boardName.isBlank() || playerDetails == null || playerDetails.size() < numPlayers) {
+            showError("Invalid game setup", "Please select a board and enter valid player details.");
+            return;
+        }
+
+        SaveFileTracker.getInstance().reset();
+        gameChosen = true;
+
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < numPlayers; i++) {
+            PlayerData data = playerDetails.get(i);
+            players.add(new Player(data.getName(), PlayerColors.toRgba(data.getColor()), data.getShipType()));
+        }
+
+        Board board;
+        try {
+            board = BoardRegistry.getInstance().getBoardByName(boardName);
+            if (board == null) throw new IllegalArgumentException("Board not found: " + boardName);
+        } catch (Exception e) {
+            showError("Board Loading Error", "Could not load board: " + e.getMessage());
+            board = new Board();
+        }
+
+        BoardGameController game = new BoardGameController();
+        game.setPlayers(players);
+        game.setBoard(board);
+        showGame(game);
+    }
+
+    /**
+     * Starts journaling a game on a background thread and shows it once the journal is started,
+     * so no turn is played before it can be recorded. A game whose journal could not be started
+     * is still shown, only without crash recovery.
+     */
+    private void showGame(BoardGameController game) {
+        GameSaveService.getInstance().startGame(game).whenComplete((started, ex) -> {
+            BoardGameView boardGameView = new BoardGameView(game);
+            boardGameView.setUpStage(primaryStage);
+        });
+    }
+
+    /**
+     * Loads a saved game from the given file.
+     *
+     * @param file the save file to load
+     */
+    public void loadGame(File file) {
+        if (file == null || !file.exists()) {
+            showError("Load Failed", "Selected save file does not exist.");
+            return;
+        }
+        gameChosen = true;
+        // Reading the save and its board happens on a background thread, the view is built here
+        CompletableFuture<BoardGameController> load = GameSaveService.getInstance().loadGame(file);
+        new ProgressDialog().show(primaryStage, "Loading mission...", load);
+        load.whenComplete((loadedGame, ex) -> {
+            if (ex == null) {
+                BoardGameView boardGameView = new BoardGameView(loadedGame);
+                boardGameView.setUpStage(primaryStage);
+            } else if (!(ex instanceof CancellationException)) {
+                showError("Load Failed", "Failed to load game: " + ex.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Shows an error alert with the given title and message.
+     */
+    private void showError(String title, String message) {
+        Alert alert = new Alert(AlertType.ERROR);
+        alert.setTitle(title);
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+}
\ No newline at end of file
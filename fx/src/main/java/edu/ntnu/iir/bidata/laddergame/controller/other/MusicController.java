@@ -1,6 +1,6 @@
 package edu.ntnu.iir.bidata.laddergame.controller.other;
 
-import edu.ntnu.iir.bidata.laddergame.model.MusicPlayer;
+import edu.ntnu.iir.bidata.laddergame.media.MusicPlayer;
 
 public class MusicController {
     private final MusicPlayer musicPlayer;
@@ -0,0 +1,117 @@
+package edu.ntnu.iir.bidata.laddergame.file.save;
+
+import edu.ntnu.iir.bidata.laddergame.controller.BoardGameController;
+import edu.ntnu.iir.bidata.laddergame.file.AutoSaver;
+import edu.ntnu.iir.bidata.laddergame.file.GameSaveCodec;
+import edu.ntnu.iir.bidata.laddergame.file.SaveCatalog;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+import javafx.application.Platform;
+
+/**
+ * Singleton auto saving the game being played with an {@link AutoSaver}, when the player has
+ * turned auto saving on. Auto saving is off until it is turned on, and is then used for every
+ * game until it is turned off again.
+ *
+ * <p>The game is saved to {@value #FILE_NAME} in the saves directory, so it is listed with the
+ * other saves and an auto save never overwrites a save made by the player.
+ */
+public class GameAutoSave {
+  private static final Logger LOGGER = Logger.getLogger(GameAutoSave.class.getName());
+
+  /** Name of the auto save in the saves directory. */
+  public static final String FILE_NAME = "autosave" + GameSaveCodec.SUFFIX;
+
+  private static GameAutoSave instance;
+  private boolean enabled;
+  private BoardGameController game;
+  private AutoSaver autoSaver;
+
+  private GameAutoSave() {
+  }
+
+  /**
+   * Gets the singleton instance
+   * @return The GameAutoSave instance
+   */
+  public static synchronized GameAutoSave getInstance() {
+    if (instance == null) {
+      instance = new GameAutoSave();
+    }
+    return instance;
+  }
+
+  public synchronized boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Turns auto saving on or off, also for the game being played.
+   *
+   * @param enabled true to auto save
+   */
+  public synchronized void setEnabled(boolean enabled) {
+    if (this.enabled == enabled) {
+      return;
+    }
+    this.enabled = enabled;
+    LOGGER.info("Auto saving turned " + (enabled ? "on" : "off"));
+    if (enabled && game != null) {
+      attach();
+    } else {
+      detach();
+    }
+  }
+
+  /**
+   * Starts auto saving a game, if auto saving is on, and stops auto saving any earlier game.
+   *
+   * @param boardGameController the game
+   */
+  public synchronized void start(BoardGameController boardGameController) {
+    stop();
+    game = boardGameController;
+    if (enabled) {
+      attach();
+    }
+  }
+
+  /**
+   * Stops auto saving the game being played. A snapshot still waiting is written in the
+   * background.
+   */
+  public synchronized void stop() {
+    detach();
+    game = null;
+  }
+
+  /**
+   * Stops auto saving a game, if it is the game being auto saved.
+   *
+   * @param boardGameController the game
+   */
+  public synchronized void stop(BoardGameController boardGameController) {
+    if (game == boardGameController) {
+      stop();
+    }
+  }
+
+  private void attach() {
+    SaveCatalog catalog = SaveCatalog.getInstance();
+    Path target = catalog.getSavesDirectory().resolve(FILE_NAME);
+    BoardGameController snapshotGame = game;
+    // Snapshots are taken on the FX thread playing the turns, only the write is in the background
+    autoSaver = new AutoSaver(target, catalog,
+        () -> GameSaveWriterBinary.toGameSave(snapshotGame, null), Platform::runLater);
+    game.setAutoSaver(autoSaver);
+  }
+
+  private void detach() {
+    if (autoSaver == null) {
+      return;
+    }
+    game.setAutoSaver(null);
+    autoSaver.close();
+    autoSaver = null;
+  }
+}
@@ -0,0 +1,154 @@
+package edu.ntnu.iir.bidata.laddergame.file.save;
+
+import edu.ntnu.iir.bidata.laddergame.controller.BoardGameController;
+import edu.ntnu.iir.bidata.laddergame.file.TurnJournal;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Singleton keeping a {@link TurnJournal} of the game being played, so the game can be rebuilt
+ * if the application crashes before it is saved.
+ *
+ * <p>The journal starts with a snapshot when a game starts and takes a new snapshot whenever the
+ * game is saved. Leaving a game on purpose discards the journal, so only a crash leaves one behind.
+ *
+ * <p>Starting, stopping and discarding a journal wait for the disk, so they are called on the
+ * background thread of {@link GameSaveService}, never on the JavaFX application thread.
+ */
+public class GameJournal {
+  private static final Logger LOGGER = Logger.getLogger(GameJournal.class.getName());
+  private static GameJournal instance;
+  private final Path journalFile;
+  // Read without the lock by isStarted(), so the JavaFX application thread never waits on a write
+  private volatile TurnJournal journal;
+  private BoardGameController game;
+
+  private GameJournal() {
+    this.journalFile = Paths.get(System.getProperty("user.home") + File.separator + "cosmicladder"
+        + File.separator + "journal" + File.separator + "last-game" + TurnJournal.SUFFIX);
+  }
+
+  /**
+   * Gets the singleton instance
+   * @return The GameJournal instance
+   */
+  public static synchronized GameJournal getInstance() {
+    if (instance == null) {
+      instance = new GameJournal();
+    }
+    return instance;
+  }
+
+  /**
+   * Starts recording the turns of a game, replacing the journal of any earlier game. A game
+   * that cannot be journaled is still played, only without crash recovery.
+   *
+   * @param boardGameController the game
+   */
+  public synchronized void start(BoardGameController boardGameController) {
+    stop();
+    try {
+      journal = TurnJournal.open(journalFile, GameSaveWriterBinary.toGameSave(boardGameController, null));
+      game = boardGameController;
+      game.setJournal(journal);
+      LOGGER.fine("Journaling game to " + journalFile);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Could not start turn journal, the game will not be recovered after a crash", e);
+    }
+  }
+
+  /**
+   * Takes a snapshot of the game being journaled, e.g. after it was saved, so the journal does
+   * not grow without end.
+   */
+  public synchronized void snapshot() {
+    if (journal != null) {
+      journal.snapshot(GameSaveWriterBinary.toGameSave(game, null));
+    }
+  }
+
+  /**
+   * Stops recording turns and closes the journal, leaving it on disk.
+   */
+  public synchronized void stop() {
+    if (journal == null) {
+      return;
+    }
+    game.setJournal(null);
+    try {
+      journal.close();
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Turn journal was not fully written", e);
+    }
+    journal = null;
+    game = null;
+  }
+
+  /**
+   * Stops recording turns and deletes the journal, e.g. when the player leaves the game.
+   */
+  public synchronized void discard() {
+    stop();
+    try {
+      Files.deleteIfExists(journalFile);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Could not delete turn journal " + journalFile, e);
+    }
+  }
+
+  /**
+   * Stops recording turns and deletes the journal, if it is the journal of the given game.
+   *
+   * @param boardGameController the game
+   */
+  public synchronized void discard(BoardGameController boardGameController) {
+    if (game == boardGameController) {
+      discard();
+    }
+  }
+
+  /**
+   * Tells if the turns of a game are being recorded.
+   *
+   * @return true if a game is being journaled
+   */
+  public boolean isStarted() {
+    return journal != null;
+  }
+
+  /**
+   * Rebuilds the game left behind by a crash from the last snapshot in the journal and the turns
+   * recorded after it.
+   *
+   * @return the rebuilt game, or null if there is no journal, it cannot be read or its game is over
+   */
+  public synchronized BoardGameController recover() {
+    if (journal != null) {
+      return null; // The journal belongs to the game being played
+    }
+    try {
+      TurnJournal.Replay replay = TurnJournal.replay(journalFile);
+      if (replay.getSnapshot().getPlayers().isEmpty()) {
+        return null;
+      }
+      BoardGameController recovered = GameSaveReaderBinary.toController(replay.getSnapshot());
+      recovered.replayTurns(replay.getTurns());
+      if (recovered.getEngine().isGameOver()) {
+        return null;
+      }
+      LOGGER.info("Recovered game from " + journalFile + " with " + replay.getTurns().size() + " turns");
+      return recovered;
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException | RuntimeException e) {
+      LOGGER.log(Level.WARNING, "Could not recover game from " + journalFile, e);
+      return null;
+    }
+  }
+}
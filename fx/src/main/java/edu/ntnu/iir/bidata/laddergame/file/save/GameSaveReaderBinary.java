@@ -0,0 +1,99 @@
+package edu.ntnu.iir.bidata.laddergame.file.save;
+
+import edu.ntnu.iir.bidata.laddergame.controller.BoardGameController;
+import edu.ntnu.iir.bidata.laddergame.file.BoardRegistry;
+import edu.ntnu.iir.bidata.laddergame.file.GameSave;
+import edu.ntnu.iir.bidata.laddergame.file.GameSaveCodec;
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads a game saved by {@link GameSaveWriterBinary} and reconstructs the {@link BoardGameController}.
+ *
+ * <p>The board is looked up by the saved name. If the board with that name no longer has the
+ * saved content, a board with the saved content is used instead when there is one, e.g. after the
+ * board was renamed.
+ */
+public class GameSaveReaderBinary {
+  private static final Logger LOGGER = Logger.getLogger(GameSaveReaderBinary.class.getName());
+  private final String savesDirectory;
+
+  public GameSaveReaderBinary() {
+    this.savesDirectory = System.getProperty("user.home") + File.separator + "cosmicladder" + File.separator + "saves";
+  }
+
+  /**
+   * Loads a game from a binary save and reconstructs the BoardGameController.
+   *
+   * @param filePath The save file, relative to the saves directory unless absolute.
+   * @return The controller of the loaded game.
+   * @throws IOException If the file cannot be read or is not a valid save.
+   */
+  public BoardGameController loadGame(String filePath) throws IOException {
+    Path path = Paths.get(filePath);
+    if (!path.isAbsolute()) {
+      path = Paths.get(savesDirectory).resolve(path);
+    }
+    LOGGER.info("Loading game from: " + path);
+    GameSave save = GameSaveCodec.read(path);
+    if (save.getPlayers().isEmpty()) {
+      throw new IOException("Invalid save file: Missing required data.");
+    }
+    SaveFileTracker.getInstance().setCurrentSaveFilePath(path.toString());
+    return toController(save);
+  }
+
+  /**
+   * Builds the controller of a saved game.
+   *
+   * @param save The saved game, with at least one player.
+   * @return The controller of the game.
+   */
+  static BoardGameController toController(GameSave save) {
+    BoardGameController boardGameController = new BoardGameController();
+    boardGameController.setBoard(loadBoard(save));
+    boardGameController.setPlayers(save.getPlayers());
+    boardGameController.setCurrentPlayerIndex(save.getCurrentPlayerIndex());
+    boardGameController.setPlayerRankIndexes(save.getRankIndexes());
+    try {
+      boardGameController.getDie().restore(save.getDieSeed(), save.getDieRollCount());
+    } catch (IllegalArgumentException e) {
+      LOGGER.log(Level.WARNING, "Could not restore die from save, using a new seed", e);
+    }
+
+    LOGGER.info("Successfully loaded game with " + save.getPlayers().size() + " players");
+    return boardGameController;
+  }
+
+  private static Board loadBoard(GameSave save) {
+    BoardRegistry registry = BoardRegistry.getInstance();
+    // Runs on the save I/O thread, so it may wait for the scan of the user boards
+    Board board = registry.getBoardByNameAsync(save.getBoardName()).join();
+    if (board != null && (save.getBoardContentHash() == 0 || board.getContentHash() == save.getBoardContentHash())) {
+      return board;
+    }
+    // Boards are only found by content hash once they are summarized, which may take a while longer
+    registry.getBoardSummariesScan().exceptionally(e -> null).join();
+    List<String> sameContent = registry.findBoardsByContentHash(save.getBoardContentHash());
+    if (!sameContent.isEmpty()) {
+      LOGGER.info("Board '" + save.getBoardName() + "' has changed, using '" + sameContent.getFirst()
+          + "' with the saved content");
+      Board match = registry.getBoardByName(sameContent.getFirst());
+      if (match != null) {
+        return match;
+      }
+    }
+    if (board != null) {
+      LOGGER.warning("Board '" + save.getBoardName() + "' has changed since the game was saved");
+      return board;
+    }
+    LOGGER.warning("Unknown board name: '" + save.getBoardName() + "', using default board");
+    return new Board();
+  }
+}
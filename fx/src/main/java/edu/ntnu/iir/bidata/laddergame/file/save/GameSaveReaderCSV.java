@@ -1,6 +1,7 @@
-package edu.ntnu.iir.bidata.laddergame.file;
+package edu.ntnu.iir.bidata.laddergame.file.save;
 
 import edu.ntnu.iir.bidata.laddergame.controller.BoardGameController;
+import edu.ntnu.iir.bidata.laddergame.file.BoardRegistry;
 import edu.ntnu.iir.bidata.laddergame.model.Board;
 import edu.ntnu.iir.bidata.laddergame.model.Player;
 import java.io.*;
@@ -9,6 +10,7 @@ import java.text.DecimalFormatSymbols;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import edu.ntnu.iir.bidata.laddergame.view.util.PlayerColors;
 import javafx.scene.paint.Color;
 
 /**
@@ -68,45 +70,74 @@ public class GameSaveReaderCSV {
       boardGameController.setPlayers(players);
       boardGameController.setCurrentPlayerIndex(currentPlayerIndex);
       boardGameController.setPlayerRanks(rankings);
+      restoreDie(boardGameController, indexParts);
 
       LOGGER.info("Successfully loaded game with " + players.size() + " players");
       return boardGameController;
     }
   }
 
+  /**
+   * Restores the die seed and roll count if the save has them, so the game continues with the
+   * same rolls it would have had. Saves from older versions keep the fresh die.
+   */
+  private void restoreDie(BoardGameController boardGameController, String[] indexParts) {
+    String seed = null;
+    String rollCount = null;
+    for (int i = 2; i + 1 < indexParts.length; i += 2) {
+      if ("dieSeed".equals(indexParts[i])) {
+        seed = indexParts[i + 1];
+      } else if ("dieRollCount".equals(indexParts[i])) {
+        rollCount = indexParts[i + 1];
+      }
+    }
+    if (seed == null || rollCount == null) {
+      return;
+    }
+    try {
+      boardGameController.getDie().restore(Long.parseLong(seed), Long.parseLong(rollCount));
+    } catch (IllegalArgumentException e) {
+      LOGGER.log(Level.WARNING, "Could not restore die from save, using a new seed", e);
+    }
+  }
+
   private String getCsvValue(String[] arr, int idx) {
     if (arr == null || arr.length <= idx) return null;
-    return arr[idx].replaceAll("^\"|\"$", "");
+    return arr[idx];
   }
 
   private List<String> getRankingNames(String[] rankingParts) {
     List<String> names = new ArrayList<>();
     for (int i = 1; i < rankingParts.length; i++) {
-      names.add(rankingParts[i].replaceAll("^\"|\"$", ""));
+      names.add(rankingParts[i]);
     }
     return names;
   }
 
   private List<Player> getPlayerRankings(List<String> rankingNames, List<Player> players) {
+    Map<String, Player> playersByName = new HashMap<>();
+    for (Player player : players) {
+      playersByName.putIfAbsent(player.getName(), player);
+    }
     List<Player> rankings = new ArrayList<>();
     for (String name : rankingNames) {
-      players.stream()
-              .filter(p -> p.getName().equals(name))
-              .findFirst()
-              .ifPresent(rankings::add);
+      Player player = playersByName.get(name);
+      if (player != null) {
+        rankings.add(player);
+      }
     }
     return rankings;
   }
 
   private Player parsePlayerFromData(String[] parts) {
-    String playerName = parts[0].replaceAll("^\"|\"$", "");
+    String playerName = parts[0];
     int position = Integer.parseInt(parts[1].trim());
     Player player = new Player(playerName);
     player.setPositionIndex(position);
 
     if (parts.length >= 3 && !parts[2].trim().isEmpty()) {
       Color color = parsePlayerColor(parts[2].trim(), playerName);
-      if (color != null) player.setColor(color);
+      if (color != null) player.setColor(PlayerColors.toRgba(color));
     }
     if (parts.length >= 4 && !parts[3].trim().isEmpty()) {
       try {
@@ -148,30 +179,48 @@ public class GameSaveReaderCSV {
   }
 
   /**
-   * Parses a CSV line using the "," delimiter, handling quoted values.
+   * Parses a CSV line using the "," delimiter. Quoted values are unquoted, with doubled quotes
+   * inside them read as one quote, and unquoted values are trimmed.
    */
   private String[] parseCsvLine(String line) {
+    if (line == null) {
+      return new String[0];
+    }
     List<String> result = new ArrayList<>();
     StringBuilder current = new StringBuilder();
     boolean inQuotes = false;
-    for (char c : line.toCharArray()) {
-      if (c == '"') {
-        inQuotes = !inQuotes;
-        current.append(c);
-      } else if (!inQuotes && c == ',') {
-        result.add(current.toString().trim());
-        current = new StringBuilder();
-      } else {
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (inQuotes) {
+        if (c != '"') {
+          current.append(c);
+        } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          current.append('"');
+          i++;
+        } else {
+          inQuotes = false;
+        }
+      } else if (c == ',') {
+        result.add(quoted ? current.toString() : current.toString().trim());
+        current.setLength(0);
+        quoted = false;
+      } else if (c == '"' && !quoted) {
+        current.setLength(0);
+        inQuotes = true;
+        quoted = true;
+      } else if (!quoted) {
         current.append(c);
       }
     }
-    result.add(current.toString().trim());
+    result.add(quoted ? current.toString() : current.toString().trim());
     return result.toArray(new String[0]);
   }
 
   private Board loadBoardByName(String boardName) throws IOException {
     BoardRegistry registry = BoardRegistry.getInstance();
-    Board board = registry.getBoardByName(boardName);
+    // Runs on the save I/O thread, so it may wait for the scan of the user boards
+    Board board = registry.getBoardByNameAsync(boardName).join();
     if (board == null) {
       LOGGER.warning("Unknown board name: '" + boardName + "', using default board");
       return new Board();
@@ -0,0 +1,278 @@
+package edu.ntnu.iir.bidata.laddergame.file.save;
+
+import edu.ntnu.iir.bidata.laddergame.controller.BoardGameController;
+import edu.ntnu.iir.bidata.laddergame.file.GameSave;
+import edu.ntnu.iir.bidata.laddergame.file.SaveCatalog;
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.scene.control.ProgressIndicator;
+
+/**
+ * Singleton that saves and loads games on a background thread, so reading and writing saves and
+ * looking up their boards never holds up the JavaFX application thread.
+ *
+ * <p>The futures returned complete on the JavaFX application thread, so their callbacks may
+ * update the views directly. The state of a game is captured on the JavaFX application thread
+ * before it is written, so the game does not have to wait for the save. Operations run one at a
+ * time in the order they were started, so a game is never loaded while it is still being saved.
+ *
+ * <p>Cancelling a future stops its operation before the next step. A save file that is already
+ * being written is finished, so a cancelled save never leaves a broken file behind. A load
+ * cancelled after it finished stops journaling the loaded game again.
+ */
+public class GameSaveService {
+  private static final Logger LOGGER = Logger.getLogger(GameSaveService.class.getName());
+  private static GameSaveService instance;
+
+  private final ExecutorService executor;
+  private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(0);
+  private final ReadOnlyBooleanWrapper running = new ReadOnlyBooleanWrapper(false);
+  // Operations started and not finished yet, only used on the JavaFX application thread
+  private int pending;
+
+  private GameSaveService() {
+    this.executor = Executors.newSingleThreadExecutor(task -> {
+      Thread thread = new Thread(task, "game-save-io");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Gets the singleton instance
+   * @return The GameSaveService instance
+   */
+  public static synchronized GameSaveService getInstance() {
+    if (instance == null) {
+      instance = new GameSaveService();
+    }
+    return instance;
+  }
+
+  /**
+   * Gets the progress of the running operation, from 0 to 1, or
+   * {@link ProgressIndicator#INDETERMINATE_PROGRESS} while it cannot be told.
+   *
+   * @return the progress, updated on the JavaFX application thread
+   */
+  public ReadOnlyDoubleProperty progressProperty() {
+    return progress.getReadOnlyProperty();
+  }
+
+  /**
+   * Tells if a save or load is running or waiting to run.
+   *
+   * @return true while an operation is not finished, updated on the JavaFX application thread
+   */
+  public ReadOnlyBooleanProperty runningProperty() {
+    return running.getReadOnlyProperty();
+  }
+
+  /**
+   * Saves a game. Must be called on the JavaFX application thread. Games are saved in the binary
+   * format, except to a CSV save of an earlier version, which keeps its format.
+   *
+   * @param boardGameController the game to save
+   * @param fileName the name of the save file, or null for a name made from the current time
+   * @return the path of the save file
+   */
+  public CompletableFuture<String> saveGame(BoardGameController boardGameController, String fileName) {
+    if (boardGameController == null) {
+      throw new IllegalArgumentException("BoardGameController cannot be null.");
+    }
+    GameSave save = GameSaveWriterBinary.toGameSave(boardGameController, null);
+    String saveFileName = fileName != null ? fileName : GameSaveWriterBinary.timestampedFileName();
+    boolean csv = saveFileName.toLowerCase(Locale.ROOT).endsWith(SaveCatalog.CSV_SUFFIX);
+    return submit("Saving game to " + saveFileName, step -> {
+      step.update(ProgressIndicator.INDETERMINATE_PROGRESS);
+      return csv
+          ? new GameSaveWriterCSV().saveGame(save, saveFileName)
+          : new GameSaveWriterBinary().saveGame(save, saveFileName);
+    });
+  }
+
+  /**
+   * Loads a game and starts journaling and auto saving it. Must be called on the JavaFX
+   * application thread.
+   *
+   * @param file the save file, in the binary or the CSV format
+   * @return the loaded game
+   */
+  public CompletableFuture<BoardGameController> loadGame(File file) {
+    String filePath = file.getAbsolutePath();
+    boolean csv = file.getName().toLowerCase(Locale.ROOT).endsWith(SaveCatalog.CSV_SUFFIX);
+    return submit("Loading game from " + filePath, step -> {
+      step.update(0.1);
+      // Reads the save and looks up its board, which may have to be parsed
+      BoardGameController loadedGame = csv
+          ? new GameSaveReaderCSV().loadGame(filePath)
+          : new GameSaveReaderBinary().loadGame(filePath);
+      step.update(0.7);
+      step.checkCancelled();
+      startRecording(loadedGame);
+      step.update(1);
+      return loadedGame;
+    }, GameSaveService::abandon);
+  }
+
+  /**
+   * Starts journaling and auto saving a new or resumed game, stopping those of any earlier game.
+   * Must be called on the JavaFX application thread, and the game should not be played before
+   * the future completes, so the journal does not miss a turn.
+   *
+   * @param boardGameController the game
+   * @return the game, once its journal is started
+   */
+  public CompletableFuture<BoardGameController> startGame(BoardGameController boardGameController) {
+    if (boardGameController == null) {
+      throw new IllegalArgumentException("BoardGameController cannot be null.");
+    }
+    return submit("Starting journal of game", step -> {
+      step.update(ProgressIndicator.INDETERMINATE_PROGRESS);
+      startRecording(boardGameController);
+      return boardGameController;
+    });
+  }
+
+  /**
+   * Stops journaling and auto saving the game being played and deletes its journal, e.g. when
+   * the player leaves the game. Must be called on the JavaFX application thread.
+   *
+   * @return completes when the journal is closed and deleted
+   */
+  public CompletableFuture<Void> discardGame() {
+    return submit("Discarding journal of game", step -> {
+      step.update(ProgressIndicator.INDETERMINATE_PROGRESS);
+      GameJournal.getInstance().discard();
+      GameAutoSave.getInstance().stop();
+      return null;
+    });
+  }
+
+  /**
+   * Rebuilds the game left behind by a crash from its journal, see {@link GameJournal#recover()}.
+   * Must be called on the JavaFX application thread.
+   *
+   * @return the rebuilt game, or null if there is none
+   */
+  public CompletableFuture<BoardGameController> recoverGame() {
+    return submit("Recovering game", step -> {
+      step.update(ProgressIndicator.INDETERMINATE_PROGRESS);
+      // Reads the journal, looks up its board and replays the turns
+      return GameJournal.getInstance().recover();
+    });
+  }
+
+  /**
+   * Starts journaling and auto saving a game, on the background thread as writing the first
+   * journal snapshot and closing the journal of the earlier game wait for the disk.
+   */
+  private static void startRecording(BoardGameController game) {
+    GameJournal.getInstance().start(game);
+    GameAutoSave.getInstance().start(game);
+  }
+
+  /**
+   * Stops journaling and auto saving a game that was loaded after its load was cancelled, so the
+   * next launch does not offer to resume it.
+   */
+  private static void abandon(BoardGameController loadedGame) {
+    GameJournal.getInstance().discard(loadedGame);
+    GameAutoSave.getInstance().stop(loadedGame);
+  }
+
+  private <T> CompletableFuture<T> submit(String description, Operation<T> operation) {
+    return submit(description, operation, value -> { });
+  }
+
+  /**
+   * Runs an operation on the background thread.
+   *
+   * @param description what the operation does, for the log
+   * @param operation the operation
+   * @param undo undoes what the operation did if it was cancelled after it finished, called on
+   *     the background thread
+   * @return completes with the value of the operation on the JavaFX application thread
+   */
+  private <T> CompletableFuture<T> submit(String description, Operation<T> operation, Consumer<T> undo) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    pending++;
+    running.set(true);
+    progress.set(0);
+    executor.execute(() -> {
+      Step step = new Step(result);
+      try {
+        step.checkCancelled();
+        T value = operation.run(step);
+        Platform.runLater(() -> {
+          if (!result.complete(value)) {
+            LOGGER.info(description + " was cancelled after it finished, undoing it");
+            executor.execute(() -> undo.accept(value));
+          }
+        });
+      } catch (CancellationException e) {
+        LOGGER.info(description + " was cancelled");
+      } catch (IOException | RuntimeException e) {
+        LOGGER.log(Level.WARNING, description + " failed", e);
+        Platform.runLater(() -> result.completeExceptionally(e));
+      } finally {
+        Platform.runLater(this::finished);
+      }
+    });
+    return result;
+  }
+
+  private void finished() {
+    pending--;
+    if (pending == 0) {
+      running.set(false);
+      progress.set(0);
+    }
+  }
+
+  /**
+   * Work done on the background thread.
+   */
+  @FunctionalInterface
+  private interface Operation<T> {
+    T run(Step step) throws IOException;
+  }
+
+  /**
+   * Lets an operation report its progress and find out if it was cancelled.
+   */
+  private final class Step {
+    private final CompletableFuture<?> result;
+
+    private Step(CompletableFuture<?> result) {
+      this.result = result;
+    }
+
+    void update(double value) {
+      Platform.runLater(() -> {
+        if (!result.isDone()) {
+          progress.set(value);
+        }
+      });
+    }
+
+    void checkCancelled() {
+      if (result.isCancelled()) {
+        throw new CancellationException();
+      }
+    }
+  }
+}
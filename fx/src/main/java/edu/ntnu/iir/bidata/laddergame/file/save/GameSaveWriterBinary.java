@@ -0,0 +1,125 @@
+package edu.ntnu.iir.bidata.laddergame.file.save;
+
+import edu.ntnu.iir.bidata.laddergame.controller.BoardGameController;
+import edu.ntnu.iir.bidata.laddergame.file.GameSave;
+import edu.ntnu.iir.bidata.laddergame.file.GameSaveCodec;
+import edu.ntnu.iir.bidata.laddergame.file.SaveCatalog;
+import edu.ntnu.iir.bidata.laddergame.model.Board;
+import edu.ntnu.iir.bidata.laddergame.model.Die;
+import edu.ntnu.iir.bidata.laddergame.model.Player;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Saves the current game state in the binary save format of {@link GameSaveCodec}.
+ * The file is replaced atomically, so an interrupted save never leaves a broken file behind.
+ */
+public class GameSaveWriterBinary {
+  private static final Logger LOGGER = Logger.getLogger(GameSaveWriterBinary.class.getName());
+  private final String savesDirectory;
+
+  public GameSaveWriterBinary() {
+    this.savesDirectory = System.getProperty("user.home") + File.separator + "cosmicladder" + File.separator + "saves";
+  }
+
+  /**
+   * Saves the game state with a timestamped filename.
+   *
+   * @param boardGameController The game controller containing the current game state.
+   * @param boardName The name of the board. If null, the name of the board being played is used.
+   * @return The path to the saved file.
+   * @throws IOException If an error occurs while writing to the file.
+   */
+  public String saveGame(BoardGameController boardGameController, String boardName) throws IOException {
+    return saveGame(boardGameController, boardName, timestampedFileName());
+  }
+
+  /**
+   * Saves the game state with a specified filename.
+   *
+   * @param boardGameController The game controller containing the current game state.
+   * @param boardName The name of the board. If null, the name of the board being played is used.
+   * @param fileName The name of the file to save the game state to.
+   * @return The path to the saved file.
+   * @throws IOException If an error occurs while writing to the file.
+   */
+  public String saveGame(BoardGameController boardGameController, String boardName, String fileName)
+      throws IOException {
+    if (boardGameController == null) {
+      throw new IllegalArgumentException("BoardGameController cannot be null.");
+    }
+    return saveGame(toGameSave(boardGameController, boardName), fileName);
+  }
+
+  /**
+   * Saves a captured game state with a specified filename. The state is not read from a live
+   * game, so this may be called off the JavaFX application thread.
+   *
+   * @param save The game state, as captured by {@link #toGameSave}.
+   * @param fileName The name of the file to save the game state to.
+   * @return The path to the saved file.
+   * @throws IOException If an error occurs while writing to the file.
+   */
+  public String saveGame(GameSave save, String fileName) throws IOException {
+    if (!fileName.toLowerCase(Locale.ROOT).endsWith(GameSaveCodec.SUFFIX)) {
+      fileName += GameSaveCodec.SUFFIX;
+    }
+    Path filePath = Paths.get(savesDirectory, fileName);
+
+    GameSaveCodec.write(filePath, save);
+    SaveCatalog.getInstance().update(filePath, save);
+
+    SaveFileTracker.getInstance().setCurrentSaveFilePath(filePath.toString());
+    LOGGER.info("Game saved to: " + filePath);
+    return filePath.toString();
+  }
+
+  /**
+   * Makes the name of a new save from the current time.
+   *
+   * @return The file name.
+   */
+  static String timestampedFileName() {
+    return "game_save_" + new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date()) + GameSaveCodec.SUFFIX;
+  }
+
+  /**
+   * Captures the state of a game. The players are copied, so the state does not change when the
+   * game goes on and can be written on another thread.
+   *
+   * @param boardGameController The game controller containing the current game state.
+   * @param boardName The name of the board. If null, the name of the board being played is used.
+   * @return The state to save.
+   */
+  static GameSave toGameSave(BoardGameController boardGameController, String boardName) {
+    Board board = boardGameController.getBoard();
+    if (boardName == null || boardName.isBlank() || boardName.equals("Unknown Board")) {
+      boardName = board.getBoardName();
+    }
+    Map<Player, Player> copies = new IdentityHashMap<>();
+    List<Player> players = new ArrayList<>();
+    for (Player player : boardGameController.getPlayers()) {
+      Player copy = new Player(player.getName(), player.getColor(), player.getShipType());
+      copy.setPositionIndex(player.getPositionIndex());
+      copies.put(player, copy);
+      players.add(copy);
+    }
+    List<Player> ranks = new ArrayList<>();
+    for (Player player : boardGameController.getPlayerRanks()) {
+      ranks.add(copies.getOrDefault(player, player));
+    }
+    Die die = boardGameController.getDie();
+    return GameSave.of(boardName, board.getContentHash(), boardGameController.getCurrentPlayerIndex(),
+        die.getSeed(), die.getRollCount(), players, ranks);
+  }
+}
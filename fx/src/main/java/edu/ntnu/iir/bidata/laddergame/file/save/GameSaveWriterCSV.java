@@ -1,10 +1,11 @@
-package edu.ntnu.iir.bidata.laddergame.file;
+package edu.ntnu.iir.bidata.laddergame.file.save;
 
 import edu.ntnu.iir.bidata.laddergame.controller.BoardGameController;
+import edu.ntnu.iir.bidata.laddergame.file.AtomicFiles;
+import edu.ntnu.iir.bidata.laddergame.file.GameSave;
+import edu.ntnu.iir.bidata.laddergame.file.SaveCatalog;
 import edu.ntnu.iir.bidata.laddergame.model.Player;
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.*;
 import java.text.DecimalFormat;
@@ -14,6 +15,7 @@ import java.util.Date;
 import java.util.Locale;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import edu.ntnu.iir.bidata.laddergame.view.util.PlayerColors;
 import javafx.scene.paint.Color;
 
 /**
@@ -22,6 +24,7 @@ import javafx.scene.paint.Color;
  */
 public class GameSaveWriterCSV {
   private static final String DELIMITER = ",";
+  private static final String NEW_LINE = System.lineSeparator();
   private static final Logger LOGGER = Logger.getLogger(GameSaveWriterCSV.class.getName());
   private final String savesDirectory;
   private final DecimalFormat colorFormat;
@@ -64,58 +67,78 @@ public class GameSaveWriterCSV {
     if (boardGameController == null) {
       throw new IllegalArgumentException("BoardGameController cannot be null.");
     }
-    if (boardName == null || boardName.isBlank() || boardName.equals("Unknown Board")) {
-      boardName = boardGameController.getBoard().getBoardName();
-    }
+    return saveGame(GameSaveWriterBinary.toGameSave(boardGameController, boardName), fileName);
+  }
+
+  /**
+   * Saves a captured game state to a CSV file with a specified filename. The state is not read
+   * from a live game, so this may be called off the JavaFX application thread.
+   *
+   * @param save The game state, as captured by {@link GameSaveWriterBinary#toGameSave}.
+   * @param fileName The name of the file to save the game state to.
+   * @return The path to the saved file.
+   * @throws IOException If an error occurs while writing to the file.
+   */
+  public String saveGame(GameSave save, String fileName) throws IOException {
     if (!fileName.toLowerCase().endsWith(".csv")) {
       fileName += ".csv";
     }
     String filePath = savesDirectory + File.separator + fileName;
 
-    try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
+    // Written to a temporary file first, so an interrupted save does not truncate the old one
+    AtomicFiles.writeText(Paths.get(filePath), writer -> {
       // Row 1: boardName,"Board Name"
-      writer.write("boardName" + DELIMITER + "\"" + boardName + "\"");
-      writer.newLine();
+      writer.write("boardName" + DELIMITER + quote(save.getBoardName()));
+      writer.write(NEW_LINE);
 
-      // Row 2: currentPlayerIndex,0
-      writer.write("currentPlayerIndex" + DELIMITER + boardGameController.getCurrentPlayerIndex());
-      writer.newLine();
+      // Row 2: currentPlayerIndex,0,dieSeed,123,dieRollCount,4
+      writer.write("currentPlayerIndex" + DELIMITER + save.getCurrentPlayerIndex() +
+              DELIMITER + "dieSeed" + DELIMITER + save.getDieSeed() +
+              DELIMITER + "dieRollCount" + DELIMITER + save.getDieRollCount());
+      writer.write(NEW_LINE);
 
       // Row 3: playerName,position,color,shipTypeId
       writer.write("playerName" + DELIMITER + "position" + DELIMITER + "color" + DELIMITER + "shipTypeId");
-      writer.newLine();
+      writer.write(NEW_LINE);
 
       // Row 4: player ranking
       StringBuilder rankings = new StringBuilder("rankings");
-      for (Player rankedPlayer : boardGameController.getPlayerRanks()) {
-        rankings.append(DELIMITER).append("\"").append(rankedPlayer.getName()).append("\"");
+      for (Player rankedPlayer : save.getRanks()) {
+        rankings.append(DELIMITER).append(quote(rankedPlayer.getName()));
       }
       writer.write(rankings.toString());
-      writer.newLine();
+      writer.write(NEW_LINE);
 
       // Row 5+: player data
-      for (Player player : boardGameController.getPlayers()) {
-        String formattedName = "\"" + player.getName() + "\"";
+      for (Player player : save.getPlayers()) {
+        String formattedName = quote(player.getName());
         int position = player.getPositionIndex();
-        String colorStr = formatPlayerColor(player.getColor());
+        String colorStr = formatPlayerColor(PlayerColors.getColor(player));
         int shipTypeId = player.getShipType();
 
         writer.write(formattedName + DELIMITER +
                 position + DELIMITER +
                 colorStr + DELIMITER +
                 shipTypeId);
-        writer.newLine();
+        writer.write(NEW_LINE);
 
         LOGGER.fine("Saved player: " + player.getName() +
                 ", position: " + position +
                 ", color: " + colorStr +
                 ", shipTypeId: " + shipTypeId);
       }
+    });
+    SaveCatalog.getInstance().update(Paths.get(filePath), save);
+    SaveFileTracker.getInstance().setCurrentSaveFilePath(filePath);
+    LOGGER.info("Game saved to: " + filePath);
+    return filePath;
+  }
 
-      SaveFileTracker.getInstance().setCurrentSaveFilePath(filePath);
-      LOGGER.info("Game saved to: " + filePath);
-      return filePath;
-    }
+  /**
+   * Quotes a value, doubling any quotes in it, so names may contain commas and quotes.
+   */
+  private String quote(String value) {
+    return "\"" + value.replace("\"", "\"\"") + "\"";
   }
 
   /**
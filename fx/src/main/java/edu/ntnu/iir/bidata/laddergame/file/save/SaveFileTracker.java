@@ -1,8 +1,9 @@
-package edu.ntnu.iir.bidata.laddergame.file;
+package edu.ntnu.iir.bidata.laddergame.file.save;
 
 /**
  * Singleton class that tracks the currently loaded save file.
  * This allows the game to overwrite the original save file when saving.
+ * Saves and loads run on a background thread, so access is synchronized.
  */
 public class SaveFileTracker {
   private static SaveFileTracker instance;
@@ -29,7 +30,7 @@ public class SaveFileTracker {
    * Sets the current save file path when a game is loaded
    * @param filePath The path to the save file
    */
-  public void setCurrentSaveFilePath(String filePath) {
+  public synchronized void setCurrentSaveFilePath(String filePath) {
     this.currentSaveFilePath = filePath;
     this.loadedFromSave = true;
   }
@@ -38,7 +39,7 @@ public class SaveFileTracker {
    * Gets the current save file path
    * @return The save file path or null if no file was loaded
    */
-  public String getCurrentSaveFilePath() {
+  public synchronized String getCurrentSaveFilePath() {
     return currentSaveFilePath;
   }
 
@@ -46,14 +47,14 @@ public class SaveFileTracker {
    * Checks if the current game was loaded from a save file
    * @return true if the game was loaded from a save file
    */
-  public boolean wasLoadedFromSave() {
+  public synchronized boolean wasLoadedFromSave() {
     return loadedFromSave;
   }
 
   /**
    * Resets the tracker for a new game
    */
-  public void reset() {
+  public synchronized void reset() {
     this.currentSaveFilePath = null;
     this.loadedFromSave = false;
   }
@@ -62,7 +63,7 @@ public class SaveFileTracker {
    * Extracts the filename from a full path
    * @return The filename without path
    */
-  public String getCurrentSaveFileName() {
+  public synchronized String getCurrentSaveFileName() {
     if (currentSaveFilePath == null) {
       return null;
     }
@@ -0,0 +1,52 @@
+package edu.ntnu.iir.bidata.laddergame.media;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+
+/**
+ * Plays the portal sound when a player takes a ladder. Ladders leading up and down
+ * use different sounds.
+ */
+public class LadderSound {
+  private static final Logger LOGGER = Logger.getLogger(LadderSound.class.getName());
+  private final MediaPlayer mediaPlayerUp;
+  private final MediaPlayer mediaPlayerDown;
+
+  public LadderSound() {
+    this.mediaPlayerUp = createMediaPlayer("portal.wav");
+    this.mediaPlayerDown = createMediaPlayer("portal2.wav");
+  }
+
+  /**
+   * Plays the sound for a ladder taken from one position to another.
+   *
+   * @param previousPosition the position the player moved from
+   * @param destinationTileIndex the destination of the ladder
+   */
+  public void play(int previousPosition, int destinationTileIndex) {
+    if (destinationTileIndex > previousPosition) {
+      playSound(mediaPlayerUp);
+    } else {
+      playSound(mediaPlayerDown);
+    }
+  }
+
+  private void playSound(MediaPlayer mediaPlayer) {
+    if (mediaPlayer != null) {
+      mediaPlayer.stop();
+      mediaPlayer.play();
+    }
+  }
+
+  private MediaPlayer createMediaPlayer(String soundFile) {
+    try {
+      Media sound = new Media(getClass().getResource("/audio/" + soundFile).toExternalForm());
+      return new MediaPlayer(sound);
+    } catch (Exception e) {
+      LOGGER.log(Level.WARNING, "Could not load sound file: " + soundFile, e);
+      return null;
+    }
+  }
+}
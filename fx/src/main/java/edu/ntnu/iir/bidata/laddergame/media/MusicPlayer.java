@@ -1,4 +1,4 @@
-package edu.ntnu.iir.bidata.laddergame.model;
+package edu.ntnu.iir.bidata.laddergame.media;
 
 import java.util.HashMap;
 import java.util.Map;
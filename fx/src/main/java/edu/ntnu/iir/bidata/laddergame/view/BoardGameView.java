@@ -4,7 +4,7 @@ import edu.ntnu.iir.bidata.laddergame.controller.BoardGameController;
 import edu.ntnu.iir.bidata.laddergame.controller.board.BoardController;
 import edu.ntnu.iir.bidata.laddergame.controller.board.PlayerController;
 import edu.ntnu.iir.bidata.laddergame.controller.other.MusicController;
-import edu.ntnu.iir.bidata.laddergame.model.MusicPlayer;
+import edu.ntnu.iir.bidata.laddergame.media.MusicPlayer;
 import edu.ntnu.iir.bidata.laddergame.view.board.BoardView;
 import edu.ntnu.iir.bidata.laddergame.view.board.SidePanelView;
 import edu.ntnu.iir.bidata.laddergame.view.other.ControlPanel;
@@ -79,8 +79,8 @@ public class BoardView {
         Pane ladderPane = new Pane();
         Pane playerPane = new Pane();
 
-        // Setup the board's tile node map in the model
-        boardController.getBoard().setTileNodeMap(tileNodeMap);
+        // Players are positioned on the tile nodes of this view, the board may be shown by others too
+        playerController.setTileNodeMap(tileNodeMap);
 
         // Add ladders and players to their respective panes
         ladderController.addLaddersToBoard(ladderPane, tileNodeMap);
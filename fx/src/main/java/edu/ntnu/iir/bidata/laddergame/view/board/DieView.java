@@ -1,5 +1,6 @@
 package edu.ntnu.iir.bidata.laddergame.view.board;
 
+import edu.ntnu.iir.bidata.laddergame.model.Die;
 import javafx.scene.control.Button;
 import javafx.scene.control.Tooltip;
 import javafx.scene.image.Image;
@@ -7,6 +8,8 @@ import javafx.scene.image.ImageView;
 import javafx.scene.layout.Background;
 import java.io.InputStream;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -19,6 +22,9 @@ public class DieView {
     private static final String DEFAULT_DIE_IMAGE_PATH = "/image/die/die_0.png";
 
     private final ImageView imageView;
+    // Faces shown while the die spins come from their own generator, so the animation never
+    // consumes rolls of the game die and cannot change a replayed game
+    private final RandomGenerator animationRandom = Die.createRandom(ThreadLocalRandom.current().nextLong());
 
     public DieView() {
         this.imageView = new ImageView(getDieImage(0));
@@ -49,7 +55,7 @@ public class DieView {
     }
 
     public int setToRandomDieImage() {
-        int randomRoll = (int) (Math.random() * MAX_FACE) + MIN_FACE;
+        int randomRoll = animationRandom.nextInt(MIN_FACE, MAX_FACE + 1);
         imageView.setImage(getDieImage(randomRoll));
         return randomRoll;
     }
@@ -3,10 +3,12 @@ package edu.ntnu.iir.bidata.laddergame.view.board;
 import edu.ntnu.iir.bidata.laddergame.model.Board;
 import edu.ntnu.iir.bidata.laddergame.model.Player;
 import edu.ntnu.iir.bidata.laddergame.model.Tile;
-import edu.ntnu.iir.bidata.laddergame.util.BoardUtils;
+import edu.ntnu.iir.bidata.laddergame.view.util.BoardUtils;
+import edu.ntnu.iir.bidata.laddergame.view.util.PlayerColors;
 import edu.ntnu.iir.bidata.laddergame.view.util.ShipUtils;
 import java.util.*;
 import javafx.application.Platform;
+import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
@@ -19,6 +21,8 @@ public class PlayerView {
   private final Board board;
   private final Map<Player, ImageView> playerSprites = new HashMap<>();
   private final Map<Player, Image> baseSprites = new HashMap<>();
+  // Tile nodes of the board view showing the players, empty until the board is rendered
+  private Map<Integer, Node> tileNodeMap = Map.of();
   public static final int SPRITE_WIDTH = 32;
   public static final int SPRITE_HEIGHT = 32;
 
@@ -34,11 +38,11 @@ public class PlayerView {
     for (int i = 0; i < players.size(); i++) {
       final int index = i;
       Player player = Objects.requireNonNull(players.get(i), "Player at index " + i + " is null");
-      Color playerColor = player.getColor();
+      Color playerColor = PlayerColors.getColor(player);
       if (playerColor == null) {
         Color[] defaultColors = ShipUtils.getDefaultColors();
         Color c = defaultColors[index % defaultColors.length];
-        player.setColor(c);
+        player.setColor(PlayerColors.toRgba(c));
         playerColor = c;
       }
 
@@ -54,6 +58,19 @@ public class PlayerView {
     }
   }
 
+  /**
+   * Sets the tile nodes the players are positioned on. Each board view has its own nodes, even
+   * when several games share the same board.
+   * @param tileNodeMap a map from tile index to JavaFX Node
+   */
+  public void setTileNodeMap(Map<Integer, Node> tileNodeMap) {
+    this.tileNodeMap = Objects.requireNonNull(tileNodeMap, "Tile node map cannot be null");
+  }
+
+  public Map<Integer, Node> getTileNodeMap() {
+    return tileNodeMap;
+  }
+
   /**
    * Adds all player sprites to the given board pane.
    * @param boardPane the board pane
@@ -77,8 +94,8 @@ public class PlayerView {
       // Only set position directly when no animation is running
       if (!sprite.getProperties().containsKey("animating") ||
               !((Boolean)sprite.getProperties().getOrDefault("animating", false))) {
-        double targetX = BoardUtils.getBoardOffsetX(board, tile) - SPRITE_WIDTH/2;
-        double targetY = BoardUtils.getBoardOffsetY(board, tile) - SPRITE_HEIGHT/2;
+        double targetX = BoardUtils.getBoardOffsetX(board, tileNodeMap, tile) - SPRITE_WIDTH/2;
+        double targetY = BoardUtils.getBoardOffsetY(board, tileNodeMap, tile) - SPRITE_HEIGHT/2;
         double rotation = BoardUtils.getRotationForTile(board, tile);
 
         sprite.setTranslateX(targetX);
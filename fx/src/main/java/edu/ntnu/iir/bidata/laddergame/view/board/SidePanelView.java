@@ -7,6 +7,7 @@ import edu.ntnu.iir.bidata.laddergame.controller.board.SidePanelController;
 import edu.ntnu.iir.bidata.laddergame.model.Player;
 import edu.ntnu.iir.bidata.laddergame.view.util.CSS;
 import edu.ntnu.iir.bidata.laddergame.view.util.PixelArtUpscaler;
+import edu.ntnu.iir.bidata.laddergame.view.util.PlayerColors;
 import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
@@ -233,7 +234,7 @@ public class SidePanelView {
     }
 
     private Color getPlayerColor(Player player) {
-        return player.getColor() != null ? player.getColor() : Color.WHITE;
+        return player.hasColor() ? PlayerColors.getColor(player) : Color.WHITE;
     }
 
     /**
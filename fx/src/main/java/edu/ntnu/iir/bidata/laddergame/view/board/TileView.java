@@ -1,8 +1,7 @@
 package edu.ntnu.iir.bidata.laddergame.view.board;
 
 import edu.ntnu.iir.bidata.laddergame.model.Board;
-import edu.ntnu.iir.bidata.laddergame.model.LadderAction;
-import edu.ntnu.iir.bidata.laddergame.model.Tile;
+import edu.ntnu.iir.bidata.laddergame.model.LadderIndex;
 import javafx.scene.control.Label;
 import javafx.scene.layout.StackPane;
 
@@ -57,25 +56,18 @@ public class TileView {
       return; // Goal styling takes precedence
     }
 
-    // Simplified ladder checks
-    for (Tile tile : board.getTiles()) {
-      if (tile.getTileAction() instanceof LadderAction action) {
-        // Check if this is a ladder destination
-        if (action.getDestinationTileIndex() == tileIndex) {
-          String styleClass = tileIndex > tile.getIndex() ?
-                  "tile-ladder-destination-up" : "tile-ladder-destination-down";
-          stackPane.getStyleClass().add(styleClass);
-          break;
-        }
-
-        // Check if this is a ladder action tile
-        if (tile.getIndex() == tileIndex) {
-          String styleClass = action.getDestinationTileIndex() > tileIndex ?
-                  "tile-ladder-action-up" : "tile-ladder-action-down";
-          stackPane.getStyleClass().add(styleClass);
-          break;
-        }
-      }
+    // The lowest ladder tile involved decides, so a destination reached from a lower tile
+    // is styled as a destination even if it has a ladder of its own
+    LadderIndex ladders = board.getLadderIndex();
+    int firstSource = ladders.isDestination(tileIndex) ? ladders.getSource(tileIndex, 0) : Integer.MAX_VALUE;
+    if (ladders.hasLadder(tileIndex) && tileIndex < firstSource) {
+      String styleClass = ladders.getDestination(tileIndex) > tileIndex ?
+              "tile-ladder-action-up" : "tile-ladder-action-down";
+      stackPane.getStyleClass().add(styleClass);
+    } else if (firstSource != Integer.MAX_VALUE) {
+      String styleClass = tileIndex > firstSource ?
+              "tile-ladder-destination-up" : "tile-ladder-destination-down";
+      stackPane.getStyleClass().add(styleClass);
     }
   }
 }
\ No newline at end of file
@@ -3,7 +3,10 @@ package edu.ntnu.iir.bidata.laddergame.view.menu;
 import edu.ntnu.iir.bidata.laddergame.controller.menu.MainMenuController;
 import edu.ntnu.iir.bidata.laddergame.file.BoardRegistry;
 import edu.ntnu.iir.bidata.laddergame.view.util.CSS;
+import edu.ntnu.iir.bidata.laddergame.util.Observable;
+import edu.ntnu.iir.bidata.laddergame.util.Observer;
 import edu.ntnu.iir.bidata.laddergame.view.util.PlayerData;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -42,9 +45,32 @@ public class GameSetupMenu {
         // Board selection
         Label boardLabel = css.createStyledLabel("SELECT GALAXY:", FontWeight.BOLD, 16, Color.WHITE);
 
+        // Filters the galaxies by name and description, and by size with terms like tiles>50 or ladders<10
+        TextField boardFilter = new TextField();
+        boardFilter.setPromptText("Search galaxies, e.g. spiral ladders>10");
+        boardFilter.getStyleClass().add("space-text-field");
+
         ComboBox<String> boardSelector = new ComboBox<>();
-        boardSelector.getItems().addAll(BoardRegistry.getInstance().getBoardNames());
-        boardSelector.setValue(boardSelector.getItems().isEmpty() ? "" : boardSelector.getItems().get(0));
+        BoardRegistry registry = BoardRegistry.getInstance();
+        boardSelector.getItems().addAll(registry.searchBoards(""));
+        boardFilter.textProperty().addListener((observable, oldText, newText) ->
+                updateBoardNames(boardSelector, registry.searchBoards(newText)));
+        // Follow boards found by the startup scan or added, edited and deleted while the menu is open
+        registry.addObserver(new Observer<>() {
+            @Override
+            public void update(Observable<BoardRegistry> observable, String eventType) {
+                Platform.runLater(() -> {
+                    if (boardSelector.getScene() == null || primaryStage.getScene() != boardSelector.getScene()) {
+                        registry.removeObserver(this);
+                        return;
+                    }
+                    updateBoardNames(boardSelector, registry.searchBoards(boardFilter.getText()));
+                });
+            }
+        });
+        // Search results are sorted by name, so pick the standard board explicitly
+        boardSelector.setValue(boardSelector.getItems().contains("Normal") ? "Normal"
+                : boardSelector.getItems().isEmpty() ? "" : boardSelector.getItems().get(0));
         boardSelector.getStyleClass().add("space-combo-box");
         boardSelector.setMaxWidth(Double.MAX_VALUE);
 
@@ -88,7 +114,7 @@ public class GameSetupMenu {
 
         // Settings container
         VBox settingsBox = new VBox(
-                boardLabel, boardSelector,
+                boardLabel, boardFilter, boardSelector,
                 new Separator(),
                 playerLabel, playerSpinner,
                 new Separator(),
@@ -110,6 +136,21 @@ public class GameSetupMenu {
         primaryStage.setScene(scene);
     }
 
+    /**
+     * Brings the board list in line with the registry or the search, keeping the selection if it is still listed.
+     */
+    private void updateBoardNames(ComboBox<String> boardSelector, List<String> names) {
+        String selected = boardSelector.getValue();
+        if (!boardSelector.getItems().equals(names)) {
+            boardSelector.getItems().setAll(names);
+        }
+        if (selected != null && names.contains(selected)) {
+            boardSelector.setValue(selected);
+        } else {
+            boardSelector.setValue(names.isEmpty() ? "" : names.get(0));
+        }
+    }
+
     public void showLoadGameDialog() {
         new LoadGameDialog(controller, primaryStage).show();
     }
@@ -1,11 +1,12 @@
 package edu.ntnu.iir.bidata.laddergame.view.menu;
 
 import edu.ntnu.iir.bidata.laddergame.controller.menu.InGameMenuController;
-import edu.ntnu.iir.bidata.laddergame.file.SaveFileTracker;
+import edu.ntnu.iir.bidata.laddergame.file.save.SaveFileTracker;
 import edu.ntnu.iir.bidata.laddergame.view.util.CSS;
-import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javafx.application.Platform;
@@ -28,7 +29,7 @@ public class InGameMenu extends VBox {
   private static final Logger LOGGER = Logger.getLogger(InGameMenu.class.getName());
 
   private static final int MENU_WIDTH = 400;
-  private static final int MENU_HEIGHT = 500;
+  private static final int MENU_HEIGHT = 570;
   private static final int SPACING = 30;
   private static final int PADDING = 40;
   private static final String BACKGROUND_PATH = "/image/background/mainmenu.png";
@@ -37,6 +38,8 @@ public class InGameMenu extends VBox {
 
   private static final String RESUME_TEXT = "Resume Mission";
   private static final String SAVE_TEXT = "Save Mission";
+  private static final String AUTO_SAVE_ON_TEXT = "Autosave: On";
+  private static final String AUTO_SAVE_OFF_TEXT = "Autosave: Off";
   private static final String MAIN_MENU_TEXT = "Return to Base";
   private static final String EXIT_TEXT = "Abort Mission";
   private static final String SAVE_DIALOG_TITLE = "Save Mission";
@@ -104,9 +107,18 @@ public class InGameMenu extends VBox {
     Button resumeButton = createMenuButton(RESUME_TEXT, e -> menuStage.close());
     Button mainMenuButton = createMenuButton(MAIN_MENU_TEXT, e -> handleMainMenuAction());
     Button saveButton = createMenuButton(SAVE_TEXT, e -> handleSaveAction());
+    Button autoSaveButton = createMenuButton(autoSaveText(), null);
+    autoSaveButton.setOnAction(e -> {
+      controller.setAutoSaveEnabled(!controller.isAutoSaveEnabled());
+      autoSaveButton.setText(autoSaveText());
+    });
     Button exitButton = createMenuButton(EXIT_TEXT, e -> handleExitAction());
 
-    getChildren().addAll(title, resumeButton, mainMenuButton, saveButton, exitButton);
+    getChildren().addAll(title, resumeButton, mainMenuButton, saveButton, autoSaveButton, exitButton);
+  }
+
+  private String autoSaveText() {
+    return controller.isAutoSaveEnabled() ? AUTO_SAVE_ON_TEXT : AUTO_SAVE_OFF_TEXT;
   }
 
   private void setupBackground() {
@@ -190,14 +202,17 @@ public class InGameMenu extends VBox {
       fileName = inputName;
     }
 
-    try {
-      String savedFilePath = controller.saveGame(fileName);
-      showSaveSuccessMessage(savedFilePath);
-      menuStage.close();
-    } catch (IOException ex) {
-      LOGGER.log(Level.SEVERE, "Failed to save game", ex);
-      showSaveErrorMessage(ex.getMessage());
-    }
+    CompletableFuture<String> save = controller.saveGame(fileName);
+    new ProgressDialog().show(menuStage, "Saving mission...", save);
+    save.whenComplete((savedFilePath, ex) -> {
+      if (ex == null) {
+        showSaveSuccessMessage(savedFilePath);
+        menuStage.close();
+      } else if (!(ex instanceof CancellationException)) {
+        LOGGER.log(Level.SEVERE, "Failed to save game", ex);
+        showSaveErrorMessage(ex.getMessage());
+      }
+    });
   }
 
   private void handleExitAction() {
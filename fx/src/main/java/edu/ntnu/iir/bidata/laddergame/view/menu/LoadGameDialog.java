@@ -0,0 +1,164 @@
+package edu.ntnu.iir.bidata.laddergame.view.menu;
+
+import edu.ntnu.iir.bidata.laddergame.controller.menu.MainMenuController;
+import edu.ntnu.iir.bidata.laddergame.file.GameSaveCodec;
+import edu.ntnu.iir.bidata.laddergame.file.SaveCatalog;
+import edu.ntnu.iir.bidata.laddergame.file.save.SaveFileTracker;
+import edu.ntnu.iir.bidata.laddergame.view.util.CSS;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.FontWeight;
+import javafx.stage.FileChooser;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Lists the saved missions from the {@link SaveCatalog}, so the list shows the board, players and
+ * turn count of every save without opening the saves. Other files can still be picked with the
+ * file chooser.
+ */
+public class LoadGameDialog {
+    private static final String BACKGROUND_PATH = "/image/background/mainmenu.png";
+    private static final int DIALOG_WIDTH = 560;
+    private static final int DIALOG_HEIGHT = 520;
+
+    private final MainMenuController controller;
+    private final Stage primaryStage;
+    private final CSS css;
+
+    public LoadGameDialog(MainMenuController controller, Stage primaryStage) {
+        this.controller = controller;
+        this.primaryStage = primaryStage;
+        this.css = new CSS();
+    }
+
+    public void show() {
+        Stage dialog = new Stage();
+        dialog.initOwner(primaryStage);
+        dialog.initModality(Modality.APPLICATION_MODAL);
+        dialog.setTitle("Load Saved Mission");
+
+        SaveCatalog catalog = SaveCatalog.getInstance();
+        ListView<SaveCatalog.Entry> saveList = new ListView<>();
+        saveList.setPlaceholder(new Label("Scanning saved missions..."));
+        saveList.setCellFactory(list -> new SaveCell());
+        VBox.setVgrow(saveList, Priority.ALWAYS);
+
+        Button loadButton = css.createSpaceButton("Load");
+        loadButton.disableProperty().bind(saveList.getSelectionModel().selectedItemProperty().isNull());
+        loadButton.setOnAction(e -> load(dialog, catalog, saveList.getSelectionModel().getSelectedItem()));
+        saveList.setOnMouseClicked(e -> {
+            if (e.getClickCount() == 2 && saveList.getSelectionModel().getSelectedItem() != null) {
+                load(dialog, catalog, saveList.getSelectionModel().getSelectedItem());
+            }
+        });
+        Button browseButton = css.createSpaceButton("Browse...");
+        browseButton.setOnAction(e -> browse(dialog, catalog));
+        Button cancelButton = css.createSpaceButton("Cancel");
+        cancelButton.setOnAction(e -> dialog.close());
+
+        HBox buttons = new HBox(10, loadButton, browseButton, cancelButton);
+        buttons.setAlignment(Pos.CENTER);
+        VBox root = new VBox(15,
+                css.createStyledLabel("SAVED MISSIONS", FontWeight.BOLD, 20, css.getSpaceBlue()),
+                saveList, buttons);
+        root.setAlignment(Pos.CENTER);
+        root.setPadding(new Insets(20));
+        root.setBackground(css.createSpaceBackground(BACKGROUND_PATH));
+
+        Scene scene = new Scene(root, DIALOG_WIDTH, DIALOG_HEIGHT);
+        css.applyDefaultStylesheet(scene);
+        dialog.setScene(scene);
+
+        // Listing may have to read saves that are not indexed yet, so it is kept off the FX thread
+        CompletableFuture.supplyAsync(catalog::list).whenComplete((entries, error) -> Platform.runLater(() -> {
+            if (error != null || entries.isEmpty()) {
+                saveList.setPlaceholder(new Label("No saved missions found"));
+                return;
+            }
+            saveList.getItems().setAll(entries);
+            selectCurrentSave(saveList, entries);
+        }));
+        dialog.show();
+    }
+
+    private void selectCurrentSave(ListView<SaveCatalog.Entry> saveList, List<SaveCatalog.Entry> entries) {
+        String currentFileName = SaveFileTracker.getInstance().wasLoadedFromSave()
+                ? SaveFileTracker.getInstance().getCurrentSaveFileName() : null;
+        for (SaveCatalog.Entry entry : entries) {
+            if (entry.getFileName().equals(currentFileName)) {
+                saveList.getSelectionModel().select(entry);
+                saveList.scrollTo(entry);
+                return;
+            }
+        }
+        saveList.getSelectionModel().selectFirst();
+    }
+
+    private void load(Stage dialog, SaveCatalog catalog, SaveCatalog.Entry entry) {
+        dialog.close();
+        controller.loadGame(catalog.getSavesDirectory().resolve(entry.getFileName()).toFile());
+    }
+
+    private void browse(Stage dialog, SaveCatalog catalog) {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Load Saved Mission");
+        fileChooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("Saved Missions", "*" + GameSaveCodec.SUFFIX, "*.csv"),
+                new FileChooser.ExtensionFilter("CSV Files", "*.csv")
+        );
+        File savesDir = catalog.getSavesDirectory().toFile();
+        if (savesDir.isDirectory()) {
+            fileChooser.setInitialDirectory(savesDir);
+        }
+
+        File selectedFile = fileChooser.showOpenDialog(dialog);
+        if (selectedFile != null) {
+            dialog.close();
+            controller.loadGame(selectedFile);
+        }
+    }
+
+    /**
+     * Shows the name of a save with its board, players, turn count and date.
+     */
+    private static final class SaveCell extends ListCell<SaveCatalog.Entry> {
+        private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+
+        @Override
+        protected void updateItem(SaveCatalog.Entry entry, boolean empty) {
+            super.updateItem(entry, empty);
+            if (empty || entry == null) {
+                setText(null);
+                return;
+            }
+            StringBuilder details = new StringBuilder();
+            if (!entry.getBoardName().isEmpty()) {
+                details.append(entry.getBoardName()).append(" | ");
+            }
+            if (!entry.getPlayerNames().isEmpty()) {
+                details.append(String.join(", ", entry.getPlayerNames())).append(" | ");
+            }
+            if (entry.getTurnCount() != SaveCatalog.Entry.UNKNOWN) {
+                details.append(entry.getTurnCount()).append(" turns | ");
+            }
+            details.append(dateFormat.format(new Date(entry.getSavedAt())));
+            setText(entry.getFileName() + "\n" + details);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package edu.ntnu.iir.bidata.laddergame.view.menu;
+
+import edu.ntnu.iir.bidata.laddergame.file.save.GameSaveService;
+import edu.ntnu.iir.bidata.laddergame.view.util.CSS;
+import javafx.animation.PauseTransition;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.FontWeight;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+import javafx.stage.StageStyle;
+import javafx.stage.Window;
+import javafx.util.Duration;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Shows the progress of a save or load run by the {@link GameSaveService}, with a button to
+ * cancel it. The dialog only opens when the operation takes more than a moment, so quick saves
+ * do not flash a window, and closes itself when the operation is done.
+ */
+public class ProgressDialog {
+    private static final String BACKGROUND_PATH = "/image/background/mainmenu.png";
+    private static final Duration SHOW_DELAY = Duration.millis(300);
+    private static final int DIALOG_WIDTH = 360;
+    private static final int DIALOG_HEIGHT = 180;
+
+    private final CSS css;
+    private Stage dialog;
+
+    public ProgressDialog() {
+        this.css = new CSS();
+    }
+
+    /**
+     * Follows an operation until it is done. Must be called on the JavaFX application thread.
+     *
+     * @param owner the window the dialog belongs to
+     * @param message what is being done, e.g. "Saving mission..."
+     * @param operation the operation, completing on the JavaFX application thread
+     */
+    public void show(Window owner, String message, CompletableFuture<?> operation) {
+        // The dialog is only built when it is needed, as its background image takes a while to load
+        PauseTransition delay = new PauseTransition(SHOW_DELAY);
+        delay.setOnFinished(e -> {
+            if (!operation.isDone()) {
+                dialog = createDialog(owner, message, operation);
+                dialog.show();
+            }
+        });
+        operation.whenComplete((result, error) -> {
+            delay.stop();
+            if (dialog != null) {
+                dialog.close();
+            }
+        });
+        if (!operation.isDone()) {
+            delay.play();
+        }
+    }
+
+    private Stage createDialog(Window owner, String message, CompletableFuture<?> operation) {
+        Stage stage = new Stage();
+        stage.initOwner(owner);
+        stage.initModality(Modality.WINDOW_MODAL);
+        stage.initStyle(StageStyle.UNDECORATED);
+
+        ProgressBar progressBar = new ProgressBar();
+        progressBar.setPrefWidth(DIALOG_WIDTH - 60);
+        progressBar.progressProperty().bind(GameSaveService.getInstance().progressProperty());
+        stage.setOnHidden(e -> progressBar.progressProperty().unbind());
+        Button cancelButton = css.createSpaceButton("Cancel");
+        cancelButton.setOnAction(e -> operation.cancel(false));
+
+        VBox root = new VBox(15,
+                css.createStyledLabel(message, FontWeight.BOLD, 16, css.getSpaceBlue()),
+                progressBar, cancelButton);
+        root.setAlignment(Pos.CENTER);
+        root.setPadding(new Insets(20));
+        root.setBackground(css.createSpaceBackground(BACKGROUND_PATH));
+
+        Scene scene = new Scene(root, DIALOG_WIDTH, DIALOG_HEIGHT);
+        css.applyDefaultStylesheet(scene);
+        stage.setScene(scene);
+        return stage;
+    }
+}
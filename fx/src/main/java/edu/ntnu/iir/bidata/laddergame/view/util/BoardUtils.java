@@ -1,7 +1,8 @@
-package edu.ntnu.iir.bidata.laddergame.util;
+package edu.ntnu.iir.bidata.laddergame.view.util;
 
 import edu.ntnu.iir.bidata.laddergame.model.Board;
 import edu.ntnu.iir.bidata.laddergame.model.Tile;
+import java.util.Map;
 import javafx.geometry.Bounds;
 import javafx.scene.Node;
 import javafx.beans.binding.Bindings;
@@ -16,6 +17,20 @@ public class BoardUtils {
     /** Offset to center items on tiles */
     public static final int TILE_CENTER_OFFSET = TILE_SIZE / 2;
 
+    /**
+     * Gets the JavaFX Node corresponding to a tile.
+     *
+     * @param tileNodeMap the tile nodes rendered by a board view, by tile index
+     * @param tile the tile to get the node for
+     * @return the JavaFX Node for the tile, or null if not found
+     */
+    public static Node getTileNode(Map<Integer, Node> tileNodeMap, Tile tile) {
+        if (tileNodeMap == null || tile == null) {
+            return null;
+        }
+        return tileNodeMap.get(tile.getIndex());
+    }
+
     public static void bindNodeToCenter(Node node, Node targetNode, double nodeWidth, double nodeHeight, double offsetX, double offsetY) {
         node.layoutXProperty().bind(Bindings.createDoubleBinding(
                 () -> targetNode.getLayoutX() + (targetNode.getBoundsInParent().getWidth() / 2) - (nodeWidth / 2) + offsetX,
@@ -31,12 +46,13 @@ public class BoardUtils {
      * Uses the tile's node position when available.
      *
      * @param board the game board
+     * @param tileNodeMap the tile nodes rendered by the board view, by tile index
      * @param tile the tile to position
      * @return the x-coordinate offset for the tile
      */
-    public static double getBoardOffsetX(Board board, Tile tile) {
+    public static double getBoardOffsetX(Board board, Map<Integer, Node> tileNodeMap, Tile tile) {
         // Try to use the tile's node if available
-        Node tileNode = board.getTileNode(tile);
+        Node tileNode = getTileNode(tileNodeMap, tile);
         if (tileNode != null && tileNode.getParent() != null) {
             Bounds bounds = tileNode.getBoundsInParent();
             return bounds.getMinX() + bounds.getWidth() / 2;
@@ -55,12 +71,13 @@ public class BoardUtils {
      * Uses the tile's node position when available.
      *
      * @param board the game board
+     * @param tileNodeMap the tile nodes rendered by the board view, by tile index
      * @param tile the tile to position
      * @return the y-coordinate offset for the tile
      */
-    public static double getBoardOffsetY(Board board, Tile tile) {
+    public static double getBoardOffsetY(Board board, Map<Integer, Node> tileNodeMap, Tile tile) {
         // Try to use the tile's node if available
-        Node tileNode = board.getTileNode(tile);
+        Node tileNode = getTileNode(tileNodeMap, tile);
         if (tileNode != null && tileNode.getParent() != null) {
             Bounds bounds = tileNode.getBoundsInParent();
             return bounds.getMinY() + bounds.getHeight() / 2;
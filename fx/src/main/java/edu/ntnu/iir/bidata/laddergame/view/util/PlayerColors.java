@@ -0,0 +1,58 @@
+package edu.ntnu.iir.bidata.laddergame.view.util;
+
+import edu.ntnu.iir.bidata.laddergame.model.Player;
+import javafx.scene.paint.Color;
+
+/**
+ * Utility class for converting between JavaFX colors and the packed 0xRRGGBBAA
+ * colors stored on {@link Player}.
+ */
+public final class PlayerColors {
+
+    private PlayerColors() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Packs a JavaFX color into 0xRRGGBBAA.
+     *
+     * @param color the color, may be null
+     * @return the packed color, or {@link Player#NO_COLOR} if color is null
+     */
+    public static int toRgba(Color color) {
+        if (color == null) {
+            return Player.NO_COLOR;
+        }
+        return channel(color.getRed()) << 24
+                | channel(color.getGreen()) << 16
+                | channel(color.getBlue()) << 8
+                | channel(color.getOpacity());
+    }
+
+    /**
+     * Unpacks a 0xRRGGBBAA color into a JavaFX color.
+     *
+     * @param rgba the packed color
+     * @return the color, or null if rgba is {@link Player#NO_COLOR}
+     */
+    public static Color toColor(int rgba) {
+        if (rgba == Player.NO_COLOR) {
+            return null;
+        }
+        return Color.rgb(rgba >>> 24, (rgba >>> 16) & 0xFF, (rgba >>> 8) & 0xFF, (rgba & 0xFF) / 255.0);
+    }
+
+    /**
+     * Gets the color of a player as a JavaFX color.
+     *
+     * @param player the player
+     * @return the player color, or null if the player has no color
+     */
+    public static Color getColor(Player player) {
+        return toColor(player.getColor());
+    }
+
+    private static int channel(double value) {
+        return (int) Math.round(Math.max(0, Math.min(1, value)) * 255);
+    }
+}